@@ -0,0 +1,22 @@
+package ru.hogwarts.school.cache;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A stored {@code 200 OK} response: its content type, the other headers to replay on a hit, and the body.
+ */
+public record CachedResponse(
+        String contentType,
+        Map<String, List<String>> headers,
+        byte[] body
+) {
+
+    public CachedResponse {
+        headers = Map.copyOf(headers);
+    }
+
+    public CachedResponse(String contentType, byte[] body) {
+        this(contentType, Map.of(), body);
+    }
+}
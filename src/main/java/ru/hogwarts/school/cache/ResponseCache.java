@@ -0,0 +1,178 @@
+package ru.hogwarts.school.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Byte-budgeted LRU store of serialized responses. Each entry carries tags naming the entities it was
+ * built from, so writes can evict exactly the entries they affect. Every invalidation advances an epoch;
+ * a response loaded across an invalidation is discarded rather than stored, because it may predate the write.
+ */
+public class ResponseCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<String, Set<String>> keysByTag = new HashMap<>();
+
+    private long usedBytes;
+    private long epoch;
+
+    public ResponseCache(long maxBytes, long maxEntryBytes) {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = Math.min(maxEntryBytes, maxBytes);
+    }
+
+    public CachedResponse get(String key) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            return entry != null ? entry.response() : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long epoch() {
+        lock.lock();
+        try {
+            return epoch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores a response unless it exceeds the per-entry limit or an invalidation happened after
+     * {@code loadEpoch} was read.
+     */
+    public boolean put(String key, CachedResponse response, Set<String> tags, long loadEpoch) {
+        long weight = weigh(key, response);
+        if (weight > maxEntryBytes) {
+            return false;
+        }
+
+        lock.lock();
+        try {
+            if (loadEpoch != epoch) {
+                return false;
+            }
+            remove(key);
+            entries.put(key, new Entry(response, Set.copyOf(tags), weight));
+            usedBytes += weight;
+            for (String tag : tags) {
+                keysByTag.computeIfAbsent(tag, t -> new HashSet<>()).add(key);
+            }
+            evictToBudget();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int invalidate(Collection<String> tags) {
+        lock.lock();
+        try {
+            epoch++;
+            int removed = 0;
+            for (String tag : tags) {
+                Set<String> keys = keysByTag.remove(tag);
+                if (keys == null) {
+                    continue;
+                }
+                for (String key : Set.copyOf(keys)) {
+                    if (remove(key)) {
+                        removed++;
+                    }
+                }
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            epoch++;
+            entries.clear();
+            keysByTag.clear();
+            usedBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long usedBytes() {
+        lock.lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private void evictToBudget() {
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (usedBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Entry> evicted = eldest.next();
+            eldest.remove();
+            usedBytes -= evicted.getValue().weight();
+            untag(evicted.getKey(), evicted.getValue().tags());
+        }
+    }
+
+    private boolean remove(String key) {
+        Entry entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        usedBytes -= entry.weight();
+        untag(key, entry.tags());
+        return true;
+    }
+
+    private void untag(String key, Set<String> tags) {
+        for (String tag : tags) {
+            Set<String> keys = keysByTag.get(tag);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    keysByTag.remove(tag);
+                }
+            }
+        }
+    }
+
+    private long weigh(String key, CachedResponse response) {
+        long headerChars = response.headers().entrySet().stream()
+                                   .mapToLong(header -> header.getKey().length()
+                                           + header.getValue().stream().mapToLong(String::length).sum())
+                                   .sum();
+        return (long) response.body().length + 2L * (key.length() + headerChars) + ENTRY_OVERHEAD_BYTES;
+    }
+
+    private record Entry(CachedResponse response, Set<String> tags, long weight) {
+    }
+}
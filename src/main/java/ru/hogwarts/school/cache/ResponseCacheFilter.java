@@ -0,0 +1,220 @@
+package ru.hogwarts.school.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import ru.hogwarts.school.config.QueryMetricsResponseAdvice;
+
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves read-mostly faculty endpoints from {@link ResponseCache}. Concurrent misses for the same key are
+ * collapsed into a single load; the other requests wait for the leader and receive its bytes. Response headers
+ * such as {@code ETag} and {@code Cache-Control} are stored with the body and replayed, so a hit answers like
+ * the miss that filled it; only headers describing one particular exchange are left out.
+ */
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    public static final String CACHE_HEADER = "X-Cache";
+    public static final String FACULTY_LIST_TAG = "faculty:list";
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCacheFilter.class);
+
+    private static final Pattern FACULTY_LIST_PATH = Pattern.compile("^/faculty(/color/[^/]+|/search)?$");
+    // Framing and per-request diagnostics: set afresh for every response, never replayed
+    private static final Set<String> UNCACHED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_TYPE.toLowerCase(Locale.ROOT),
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(Locale.ROOT),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(Locale.ROOT),
+            HttpHeaders.DATE.toLowerCase(Locale.ROOT),
+            HttpHeaders.SET_COOKIE.toLowerCase(Locale.ROOT),
+            CACHE_HEADER.toLowerCase(Locale.ROOT),
+            QueryMetricsResponseAdvice.QUERY_COUNT_HEADER.toLowerCase(Locale.ROOT),
+            QueryMetricsResponseAdvice.ENTITY_LOAD_COUNT_HEADER.toLowerCase(Locale.ROOT),
+            QueryMetricsResponseAdvice.LAZY_LOAD_COUNT_HEADER.toLowerCase(Locale.ROOT));
+
+    private static final Pattern FACULTY_PATH = Pattern.compile("^/faculty/(\\d+)(/students(/count)?)?$");
+
+    private final ResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+    private final long loadTimeoutMillis;
+    private final Map<String, CompletableFuture<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public ResponseCacheFilter(ResponseCache responseCache, ObjectMapper objectMapper, long loadTimeoutMillis) {
+        this.responseCache = responseCache;
+        this.objectMapper = objectMapper;
+        this.loadTimeoutMillis = loadTimeoutMillis;
+    }
+
+    public static String facultyTag(Long facultyId) {
+        return "faculty:" + facultyId;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        String path = pathOf(request);
+        return !FACULTY_LIST_PATH.matcher(path).matches() && !FACULTY_PATH.matcher(path).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = pathOf(request);
+        String key = cacheKey(path, request);
+
+        CachedResponse cached = responseCache.get(key);
+        if (cached != null) {
+            write(response, cached, "HIT");
+            return;
+        }
+
+        CompletableFuture<CachedResponse> flight = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            CachedResponse shared = awaitLeader(key, leader);
+            if (shared != null) {
+                write(response, shared, "SHARED");
+            } else {
+                filterChain.doFilter(request, response);
+            }
+            return;
+        }
+
+        load(key, path, request, response, filterChain, flight);
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private void load(String key, String path, HttpServletRequest request, HttpServletResponse response,
+                      FilterChain filterChain, CompletableFuture<CachedResponse> flight)
+            throws ServletException, IOException {
+        long loadEpoch = responseCache.epoch();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        CachedResponse loaded = null;
+        try {
+            filterChain.doFilter(request, wrapper);
+            loaded = toCacheable(wrapper);
+            if (loaded != null) {
+                Set<String> tags = tagsFor(path, loaded);
+                if (tags == null || !responseCache.put(key, loaded, tags, loadEpoch)) {
+                    logger.debug("Response for {} was not cached", key);
+                }
+            }
+            wrapper.setHeader(CACHE_HEADER, "MISS");
+        } finally {
+            flight.complete(loaded);
+            inFlight.remove(key, flight);
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private CachedResponse awaitLeader(String key, CompletableFuture<CachedResponse> leader) {
+        try {
+            return leader.get(loadTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            logger.warn("Shared load for {} did not complete, loading independently", key);
+            return null;
+        }
+    }
+
+    private CachedResponse toCacheable(ContentCachingResponseWrapper wrapper) {
+        String contentType = wrapper.getContentType();
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || contentType == null) {
+            return null;
+        }
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : wrapper.getHeaderNames()) {
+            if (!UNCACHED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.putIfAbsent(name, List.copyOf(wrapper.getHeaders(name)));
+            }
+        }
+        return new CachedResponse(contentType, headers, wrapper.getContentAsByteArray());
+    }
+
+    /**
+     * Single-faculty responses are tagged by the path ID. List and multi-get responses are tagged with every
+     * faculty they contain, which requires reading the IDs back from JSON; lists in other formats are not cached.
+     */
+    private Set<String> tagsFor(String path, CachedResponse response) {
+        Matcher facultyMatcher = FACULTY_PATH.matcher(path);
+        if (facultyMatcher.matches()) {
+            return Set.of(facultyTag(Long.valueOf(facultyMatcher.group(1))));
+        }
+        if (!MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(response.contentType()))) {
+            return null;
+        }
+
+        Set<String> tags = new HashSet<>();
+        tags.add(FACULTY_LIST_TAG);
+        try {
+            JsonNode root = objectMapper.readTree(response.body());
+            for (JsonNode faculty : root.isArray() ? root : root.path("items")) {
+                tags.add(facultyTag(faculty.path("id").asLong()));
+            }
+        } catch (IOException e) {
+            logger.warn("Could not read faculty IDs from cached response for {}", path, e);
+            return null;
+        }
+        return tags;
+    }
+
+    private void write(HttpServletResponse response, CachedResponse cached, String cacheStatus) throws IOException {
+        byte[] body = cached.body();
+        response.setStatus(HttpServletResponse.SC_OK);
+        cached.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setContentType(cached.contentType());
+        response.setContentLength(body.length);
+        response.setHeader(CACHE_HEADER, cacheStatus);
+        response.getOutputStream().write(body);
+    }
+
+    private String cacheKey(String path, HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(path);
+        char separator = '?';
+        for (Map.Entry<String, String[]> parameter : new TreeMap<>(request.getParameterMap()).entrySet()) {
+            for (String value : parameter.getValue()) {
+                key.append(separator).append(parameter.getKey()).append('=').append(value);
+                separator = '&';
+            }
+        }
+
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        String normalizedAccept = accept == null ? "" : accept.replace(" ", "").toLowerCase(Locale.ROOT);
+        return key.append(" accept=").append(normalizedAccept).toString();
+    }
+
+    private String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,72 @@
+package ru.hogwarts.school.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.hogwarts.school.event.ClusterInvalidationEvent;
+import ru.hogwarts.school.event.EntityChangedEvent;
+import ru.hogwarts.school.event.EntityType;
+import ru.hogwarts.school.event.RosterRefreshedEvent;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class ResponseCacheInvalidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCacheInvalidator.class);
+
+    private final ResponseCache responseCache;
+
+    public ResponseCacheInvalidator(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entityId() == null && event.facultyIds().isEmpty()) {
+            logger.debug("Invalidating all cached responses after {} change", event.entityType());
+            responseCache.invalidateAll();
+            return;
+        }
+
+        Set<String> tags = new HashSet<>();
+        for (Long facultyId : event.facultyIds()) {
+            tags.add(ResponseCacheFilter.facultyTag(facultyId));
+        }
+        if (event.entityType() == EntityType.FACULTY) {
+            tags.add(ResponseCacheFilter.FACULTY_LIST_TAG);
+        }
+
+        int removed = responseCache.invalidate(tags);
+        logger.debug("Invalidated {} cached responses for {} {} ({})", removed, event.entityType(),
+                event.entityId(), event.changeType());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRosterRefreshed(RosterRefreshedEvent event) {
+        if (event.facultyIds().isEmpty()) {
+            logger.debug("Invalidating all cached responses after roster rebuild");
+            responseCache.invalidateAll();
+            return;
+        }
+
+        Set<String> tags = new HashSet<>();
+        for (Long facultyId : event.facultyIds()) {
+            tags.add(ResponseCacheFilter.facultyTag(facultyId));
+        }
+        int removed = responseCache.invalidate(tags);
+        logger.debug("Invalidated {} cached responses after roster refresh of Faculties {}", removed,
+                event.facultyIds());
+    }
+
+    @EventListener
+    public void onClusterInvalidation(ClusterInvalidationEvent event) {
+        if (event.flushAll()) {
+            logger.debug("Invalidating all cached responses after cluster flush");
+            responseCache.invalidateAll();
+            return;
+        }
+        event.changes().forEach(this::onEntityChanged);
+    }
+}
@@ -0,0 +1,288 @@
+package ru.hogwarts.school.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.hogwarts.school.event.ChangeType;
+import ru.hogwarts.school.event.ClusterInvalidationEvent;
+import ru.hogwarts.school.event.EntityChangedEvent;
+import ru.hogwarts.school.event.RosterRefreshedEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Keeps in-memory caches coherent across instances. Committed local changes are collected for
+ * {@code batchWindowMillis}, or until {@code maxBatchSize} of them are pending, and published as one
+ * deflated JSON message; a batch that exceeds the transport's payload limit is split in halves. Every message
+ * carries the sender's instance ID and a sequence number counting that sender's messages.
+ * <p>
+ * Messages from other instances are republished locally as {@link ClusterInvalidationEvent}s. A sequence
+ * gap, an undecodable message or a transport reset means invalidations may have been lost, so a full flush
+ * is published instead. Every {@code heartbeatIntervalMillis} each instance also sends its current sequence,
+ * so a lost final batch shows up as a gap without waiting for the next change. A sender silent for
+ * {@code senderTimeoutMillis} is forgotten; if it reappears mid-sequence, its first message flushes too.
+ */
+public class ClusterInvalidationBus implements InvalidationTransport.Receiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterInvalidationBus.class);
+
+    private final InvalidationTransport transport;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final long batchWindowMillis;
+    private final int maxBatchSize;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final List<EntityChangedEvent> pending = new ArrayList<>();
+    private final long senderTimeoutNanos;
+    private final Map<String, SenderState> senders = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private boolean flushScheduled;
+    private long sequence;
+
+    public ClusterInvalidationBus(InvalidationTransport transport, ApplicationEventPublisher eventPublisher,
+                                  ObjectMapper objectMapper, long batchWindowMillis, int maxBatchSize,
+                                  long heartbeatIntervalMillis, long senderTimeoutMillis) {
+        this.transport = transport;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.batchWindowMillis = batchWindowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.senderTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(senderTimeoutMillis);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cluster-invalidation-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+        transport.start(this);
+        if (heartbeatIntervalMillis > 0) {
+            scheduler.scheduleWithFixedDelay(this::heartbeatQuietly, heartbeatIntervalMillis,
+                    heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        boolean sendNow;
+        boolean scheduleSend = false;
+        synchronized (pending) {
+            pending.add(event);
+            sendNow = pending.size() >= maxBatchSize;
+            if (!sendNow && !flushScheduled) {
+                flushScheduled = true;
+                scheduleSend = true;
+            }
+        }
+        if (sendNow) {
+            scheduler.execute(this::flush);
+        } else if (scheduleSend) {
+            scheduler.schedule(this::flush, batchWindowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Peers only see entity changes, so a roster refresh travels as a multi-student update, which invalidates
+    // the same faculty tags and which count estimators ignore
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRosterRefreshed(RosterRefreshedEvent event) {
+        onEntityChanged(EntityChangedEvent.students(ChangeType.UPDATED, event.facultyIds()));
+    }
+
+    /**
+     * Publishes pending changes immediately instead of waiting for the batch window.
+     */
+    public void flush() {
+        List<EntityChangedEvent> batch;
+        synchronized (pending) {
+            flushScheduled = false;
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(pending);
+            pending.clear();
+        }
+        try {
+            send(batch);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to publish {} cluster invalidations", batch.size(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(String payload) {
+        InvalidationMessage message;
+        try {
+            message = decode(payload);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Undecodable cluster invalidation message, flushing local caches", e);
+            flushLocalCaches();
+            return;
+        }
+        if (instanceId.equals(message.instanceId())) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        SenderState previous = senders.get(message.instanceId());
+        // A sender seen for the first time may already have sent batches this instance never received
+        long lastSequence = previous != null ? previous.sequence() : 0;
+        if (message.heartbeat()) {
+            senders.put(message.instanceId(), new SenderState(Math.max(lastSequence, message.sequence()), now));
+            if (message.sequence() > lastSequence) {
+                logger.warn("Heartbeat from {} reports cluster invalidations up to {}, last received {}, " +
+                        "flushing local caches", message.instanceId(), message.sequence(), lastSequence);
+                flushLocalCaches();
+            }
+            return;
+        }
+        received.increment();
+
+        if (message.sequence() <= lastSequence) {
+            senders.put(message.instanceId(), new SenderState(lastSequence, now));
+            logger.debug("Ignoring repeated cluster invalidation {} from {}", message.sequence(), message.instanceId());
+            return;
+        }
+        senders.put(message.instanceId(), new SenderState(message.sequence(), now));
+        if (message.sequence() != lastSequence + 1) {
+            logger.warn("Missed cluster invalidations {}..{} from {}, flushing local caches", lastSequence + 1,
+                    message.sequence() - 1, message.instanceId());
+            flushLocalCaches();
+            return;
+        }
+        eventPublisher.publishEvent(ClusterInvalidationEvent.of(message.changes()));
+    }
+
+    /**
+     * Sends this instance's current sequence and forgets senders that have gone quiet.
+     */
+    public void heartbeat() {
+        sendHeartbeat();
+        long now = System.nanoTime();
+        senders.entrySet().removeIf(entry -> {
+            boolean quiet = now - entry.getValue().lastSeenNanos() > senderTimeoutNanos;
+            if (quiet) {
+                logger.info("Forgetting cluster invalidation sender {}: silent for over {} ms", entry.getKey(),
+                        TimeUnit.NANOSECONDS.toMillis(senderTimeoutNanos));
+            }
+            return quiet;
+        });
+    }
+
+    @Override
+    public void onReset() {
+        logger.warn("Cluster invalidation transport reset, flushing local caches");
+        senders.clear();
+        flushLocalCaches();
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    public long getReceivedCount() {
+        return received.sum();
+    }
+
+    public long getFlushCount() {
+        return flushes.sum();
+    }
+
+    public int getKnownSenderCount() {
+        return senders.size();
+    }
+
+    public void shutdown() {
+        flush();
+        scheduler.shutdownNow();
+        transport.stop();
+    }
+
+    // ========== HELPER METHODS ==========
+
+    // A failed publish still consumes its sequence number, so receivers see the gap and flush
+    private synchronized void send(List<EntityChangedEvent> changes) {
+        String payload = encode(InvalidationMessage.batch(instanceId, sequence + 1, changes));
+        if (payload.length() > transport.maxPayloadLength()) {
+            if (changes.size() > 1) {
+                int middle = changes.size() / 2;
+                send(changes.subList(0, middle));
+                send(changes.subList(middle, changes.size()));
+                return;
+            }
+            EntityChangedEvent change = changes.get(0);
+            payload = encode(InvalidationMessage.batch(instanceId, sequence + 1, List.of(
+                    new EntityChangedEvent(change.entityType(), null, change.changeType(), Set.of()))));
+        }
+
+        sequence++;
+        transport.publish(payload);
+        sent.increment();
+        logger.debug("Published cluster invalidation {} with {} changes in {} characters", sequence,
+                changes.size(), payload.length());
+    }
+
+    private synchronized void sendHeartbeat() {
+        transport.publish(encode(InvalidationMessage.heartbeat(instanceId, sequence)));
+    }
+
+    private void heartbeatQuietly() {
+        try {
+            heartbeat();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to send cluster invalidation heartbeat", e);
+        }
+    }
+
+    private void flushLocalCaches() {
+        flushes.increment();
+        eventPublisher.publishEvent(ClusterInvalidationEvent.flush());
+    }
+
+    private String encode(InvalidationMessage message) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (OutputStream output = new DeflaterOutputStream(buffer, deflater)) {
+            objectMapper.writeValue(output, message);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode cluster invalidation message", e);
+        } finally {
+            deflater.end();
+        }
+        return Base64.getEncoder().encodeToString(buffer.toByteArray());
+    }
+
+    private InvalidationMessage decode(String payload) throws IOException {
+        byte[] compressed = Base64.getDecoder().decode(payload);
+        try (InputStream inflater = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+            return objectMapper.readValue(inflater, InvalidationMessage.class);
+        }
+    }
+
+    private record SenderState(long sequence, long lastSeenNanos) {
+    }
+}
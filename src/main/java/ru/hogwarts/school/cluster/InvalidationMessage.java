@@ -0,0 +1,23 @@
+package ru.hogwarts.school.cluster;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import ru.hogwarts.school.event.EntityChangedEvent;
+
+import java.util.List;
+
+/**
+ * Wire form of one batch: the sending instance, its message sequence number and the committed changes. A
+ * heartbeat carries no changes and repeats the sequence number of the sender's last batch; the flag is left out
+ * of batches to keep them within the transport's payload limit.
+ */
+record InvalidationMessage(String instanceId, long sequence, List<EntityChangedEvent> changes,
+                           @JsonInclude(JsonInclude.Include.NON_DEFAULT) boolean heartbeat) {
+
+    static InvalidationMessage batch(String instanceId, long sequence, List<EntityChangedEvent> changes) {
+        return new InvalidationMessage(instanceId, sequence, changes, false);
+    }
+
+    static InvalidationMessage heartbeat(String instanceId, long sequence) {
+        return new InvalidationMessage(instanceId, sequence, List.of(), true);
+    }
+}
@@ -0,0 +1,26 @@
+package ru.hogwarts.school.cluster;
+
+/**
+ * Carries encoded invalidation messages between instances. A transport may drop messages, but must call
+ * {@link Receiver#onReset()} whenever it may have missed some, for example after reconnecting.
+ */
+public interface InvalidationTransport {
+
+    void start(Receiver receiver);
+
+    void publish(String payload);
+
+    /**
+     * Longest payload, in characters, that {@link #publish(String)} accepts.
+     */
+    int maxPayloadLength();
+
+    void stop();
+
+    interface Receiver {
+
+        void onMessage(String payload);
+
+        void onReset();
+    }
+}
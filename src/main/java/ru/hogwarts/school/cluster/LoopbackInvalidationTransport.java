@@ -0,0 +1,51 @@
+package ru.hogwarts.school.cluster;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-process transport: every message is delivered synchronously to each transport attached to the same
+ * {@link Hub}, including the sender. Used by tests and single-JVM setups.
+ */
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+
+    private final Hub hub;
+    private final int maxPayloadLength;
+    private volatile Receiver receiver;
+
+    public LoopbackInvalidationTransport(Hub hub, int maxPayloadLength) {
+        this.hub = hub;
+        this.maxPayloadLength = maxPayloadLength;
+    }
+
+    @Override
+    public void start(Receiver receiver) {
+        this.receiver = receiver;
+        hub.transports.add(this);
+    }
+
+    @Override
+    public void publish(String payload) {
+        if (payload.length() > maxPayloadLength) {
+            throw new IllegalArgumentException("Payload of " + payload.length() + " characters exceeds " +
+                    maxPayloadLength);
+        }
+        for (LoopbackInvalidationTransport transport : hub.transports) {
+            transport.receiver.onMessage(payload);
+        }
+    }
+
+    @Override
+    public int maxPayloadLength() {
+        return maxPayloadLength;
+    }
+
+    @Override
+    public void stop() {
+        hub.transports.remove(this);
+    }
+
+    public static final class Hub {
+        private final List<LoopbackInvalidationTransport> transports = new CopyOnWriteArrayList<>();
+    }
+}
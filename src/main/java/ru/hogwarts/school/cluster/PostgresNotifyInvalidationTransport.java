@@ -0,0 +1,124 @@
+package ru.hogwarts.school.cluster;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY transport. Listening uses one dedicated connection outside the pool, on which the
+ * listener thread blocks in the driver until a notification arrives, so delivery needs no polling queries.
+ * Publishing runs {@code pg_notify} in a short transaction on a pooled connection. NOTIFY payloads are limited
+ * to 8000 bytes, and notifications sent while the listener is reconnecting are lost, so every reconnect is
+ * reported as a reset.
+ */
+public class PostgresNotifyInvalidationTransport implements InvalidationTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresNotifyInvalidationTransport.class);
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final int MAX_PAYLOAD_LENGTH = 7_900;
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String channel;
+    private final int listenTimeoutMillis;
+    private final long reconnectDelayMillis;
+    private volatile boolean running;
+    private Thread listener;
+
+    public PostgresNotifyInvalidationTransport(String url, String username, String password,
+                                               JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                               String channel, int listenTimeoutMillis, long reconnectDelayMillis) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid NOTIFY channel name: " + channel);
+        }
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.channel = channel;
+        this.listenTimeoutMillis = listenTimeoutMillis;
+        this.reconnectDelayMillis = reconnectDelayMillis;
+    }
+
+    @Override
+    public void start(Receiver receiver) {
+        running = true;
+        listener = new Thread(() -> listenLoop(receiver), "cluster-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void publish(String payload) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.query("SELECT pg_notify(?, ?)", resultSet -> null, channel, payload));
+    }
+
+    @Override
+    public int maxPayloadLength() {
+        return MAX_PAYLOAD_LENGTH;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private void listenLoop(Receiver receiver) {
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                logger.info("Listening for cluster invalidations on channel {}", channel);
+                if (connectedBefore) {
+                    receiver.onReset();
+                }
+                connectedBefore = true;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(listenTimeoutMillis);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receiver.onMessage(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("Cluster invalidation listener lost its connection, reconnecting in {} ms",
+                        reconnectDelayMillis, e);
+                try {
+                    Thread.sleep(reconnectDelayMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package ru.hogwarts.school.coalescing;
+
+import ru.hogwarts.school.event.EntityType;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Concurrent calls with equal arguments share one in-flight invocation and its result.
+ * With a positive {@link #ttlMs()} the result is also reused for that long, and for a further
+ * {@link #staleWhileRevalidateMs()} it is served stale while a single background refresh runs.
+ * Listing entity types in {@link #invalidatedBy()} ties flights and results to committed writes of those
+ * types: a call made after such a write never joins a flight, or reuses a result, that started before it.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesced {
+
+    long ttlMs() default 0;
+
+    long staleWhileRevalidateMs() default 0;
+
+    EntityType[] invalidatedBy() default {};
+}
@@ -0,0 +1,36 @@
+package ru.hogwarts.school.coalescing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.Arrays;
+
+/**
+ * Applies {@link Coalesced}. Runs outside the transaction advice so that a background refresh opens its
+ * own transaction on the refreshing thread, but after {@code ExposeInvocationInterceptor}, which argument
+ * binding relies on.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class CoalescingAspect {
+
+    private final RequestCoalescer requestCoalescer;
+
+    public CoalescingAspect(RequestCoalescer requestCoalescer) {
+        this.requestCoalescer = requestCoalescer;
+    }
+
+    @Around("@annotation(coalesced)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, Coalesced coalesced) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String method = signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+        RequestCoalescer.CallKey key = new RequestCoalescer.CallKey(method, Arrays.asList(joinPoint.getArgs()),
+                requestCoalescer.generation(coalesced.invalidatedBy()));
+        return requestCoalescer.execute(key, coalesced.ttlMs(), coalesced.staleWhileRevalidateMs(),
+                joinPoint::proceed);
+    }
+}
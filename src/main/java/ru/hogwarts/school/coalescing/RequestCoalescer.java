@@ -0,0 +1,212 @@
+package ru.hogwarts.school.coalescing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.hogwarts.school.dto.CoalescingStatsDto;
+import ru.hogwarts.school.event.EntityChangedEvent;
+import ru.hogwarts.school.event.EntityType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs identical concurrent calls once and optionally keeps the result for a short TTL. Results are kept
+ * in a least-recently-used map of at most {@value #MAX_RESULTS} keys and handed out as unmodifiable copies
+ * of lists, sets and maps, since every caller sharing a flight or a cached entry gets the same instance.
+ * Keys of {@link Coalesced#invalidatedBy()} calls carry a write generation that is bumped after each commit
+ * touching those entity types, so the writer's own follow-up read starts a fresh flight.
+ */
+public class RequestCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestCoalescer.class);
+
+    static final int MAX_RESULTS = 1_000;
+
+    private final Executor refreshExecutor;
+    private final LongSupplier clock;
+    private final Map<CallKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<CallKey, CachedResult> results = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<CallKey, CachedResult> eldest) {
+                    return size() > MAX_RESULTS;
+                }
+            });
+    private final Map<String, Stats> statsByMethod = new ConcurrentHashMap<>();
+    private final Map<EntityType, AtomicLong> writeGenerations = new EnumMap<>(EntityType.class);
+
+    public RequestCoalescer(Executor refreshExecutor) {
+        this(refreshExecutor, System::currentTimeMillis);
+    }
+
+    RequestCoalescer(Executor refreshExecutor, LongSupplier clock) {
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        for (EntityType entityType : EntityType.values()) {
+            writeGenerations.put(entityType, new AtomicLong());
+        }
+    }
+
+    public Object execute(CallKey key, long ttlMs, long staleWhileRevalidateMs, CoalescedCall call) throws Throwable {
+        Stats stats = statsByMethod.computeIfAbsent(key.method(), method -> new Stats());
+        stats.calls.increment();
+
+        if (ttlMs > 0) {
+            CachedResult cached = results.get(key);
+            long age = cached != null ? clock.getAsLong() - cached.storedAtMillis() : Long.MAX_VALUE;
+            if (age < ttlMs) {
+                stats.cacheHits.increment();
+                return cached.value();
+            }
+            if (age < ttlMs + staleWhileRevalidateMs) {
+                stats.staleHits.increment();
+                revalidate(key, ttlMs, call, stats);
+                return cached.value();
+            }
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            stats.deduplicated.increment();
+            return await(leader);
+        }
+        return lead(key, ttlMs, call, flight, stats);
+    }
+
+    /**
+     * @return a value that grows with every committed write of the given types, {@code 0} for none
+     */
+    public long generation(EntityType... entityTypes) {
+        long generation = 0;
+        for (EntityType entityType : entityTypes) {
+            generation += writeGenerations.get(entityType).get();
+        }
+        return generation;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        writeGenerations.get(event.entityType()).incrementAndGet();
+    }
+
+    public List<CoalescingStatsDto> getStats() {
+        return statsByMethod.entrySet().stream()
+                            .map(entry -> entry.getValue().toDto(entry.getKey()))
+                            .sorted(Comparator.comparing(CoalescingStatsDto::method))
+                            .toList();
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private Object lead(CallKey key, long ttlMs, CoalescedCall call, CompletableFuture<Object> flight, Stats stats)
+            throws Throwable {
+        stats.executions.increment();
+        try {
+            Object value = unmodifiable(call.proceed());
+            if (ttlMs > 0) {
+                store(key, value);
+            }
+            flight.complete(value);
+            return value;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private void revalidate(CallKey key, long ttlMs, CoalescedCall call, Stats stats) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, flight) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    lead(key, ttlMs, call, flight, stats);
+                } catch (Throwable e) {
+                    logger.warn("Background refresh of {} failed, serving stale result until expiry", key, e);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            logger.warn("Could not schedule background refresh of {}", key, e);
+        }
+    }
+
+    private void store(CallKey key, Object value) {
+        results.put(key, new CachedResult(value, clock.getAsLong()));
+    }
+
+    // Copies rather than views, so a leader that keeps its own reference cannot change what others see
+    private static Object unmodifiable(Object value) {
+        if (value instanceof List<?> list) {
+            return Collections.unmodifiableList(new ArrayList<>(list));
+        }
+        if (value instanceof Set<?> set) {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(set));
+        }
+        if (value instanceof Map<?, ?> map) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(map));
+        }
+        if (value instanceof Collection<?> collection) {
+            return Collections.unmodifiableCollection(new ArrayList<>(collection));
+        }
+        return value;
+    }
+
+    private Object await(CompletableFuture<Object> leader) throws Throwable {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            throw e.getCause() != null ? e.getCause() : e;
+        }
+    }
+
+    @FunctionalInterface
+    public interface CoalescedCall {
+        Object proceed() throws Throwable;
+    }
+
+    public record CallKey(String method, List<Object> arguments, long generation) {
+
+        public CallKey(String method, List<Object> arguments) {
+            this(method, arguments, 0);
+        }
+    }
+
+    private record CachedResult(Object value, long storedAtMillis) {
+    }
+
+    private static final class Stats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder deduplicated = new LongAdder();
+        private final LongAdder cacheHits = new LongAdder();
+        private final LongAdder staleHits = new LongAdder();
+
+        private CoalescingStatsDto toDto(String method) {
+            return new CoalescingStatsDto(method, calls.sum(), executions.sum(), deduplicated.sum(),
+                    cacheHits.sum(), staleHits.sum());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package ru.hogwarts.school.compute;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.hogwarts.school.dto.ComputePoolStatsDto;
+import ru.hogwarts.school.dto.ComputeTaskStatsDto;
+import ru.hogwarts.school.exception.ComputePoolSaturatedException;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Dedicated fork/join pool with a cap on concurrently running top-level tasks. Callers beyond the cap queue
+ * for up to {@code queueTimeoutMillis}; after that they either run the sequential variant on their own
+ * thread or are rejected with {@link ComputePoolSaturatedException}.
+ */
+public class BoundedComputePool {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoundedComputePool.class);
+
+    private final ForkJoinPool pool;
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long queueTimeoutMillis;
+    private final boolean sequentialFallback;
+    private final Map<String, Stats> statsByTask = new ConcurrentHashMap<>();
+
+    public BoundedComputePool(String name, int parallelism, int maxConcurrent, long queueTimeoutMillis,
+                              boolean sequentialFallback) {
+        this.pool = new ForkJoinPool(parallelism, workerFactory(name), null, false);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.sequentialFallback = sequentialFallback;
+    }
+
+    public <T> T invoke(String taskName, Function<LongAdder, ? extends ForkJoinTask<T>> taskFactory,
+                        Supplier<T> sequential) {
+        Stats stats = statsByTask.computeIfAbsent(taskName, task -> new Stats());
+
+        if (!acquirePermit()) {
+            if (sequentialFallback) {
+                logger.debug("Compute pool busy, running {} sequentially on caller thread", taskName);
+                return runSequential(sequential, stats);
+            }
+            stats.rejected.increment();
+            logger.warn("Compute pool rejected {}: {} callers waiting for {} permits",
+                    taskName, permits.getQueueLength(), maxConcurrent);
+            throw new ComputePoolSaturatedException(taskName, queueTimeoutMillis);
+        }
+
+        LongAdder cpuNanos = new LongAdder();
+        long startNanos = System.nanoTime();
+        try {
+            return pool.invoke(taskFactory.apply(cpuNanos));
+        } finally {
+            permits.release();
+            stats.parallelRuns.increment();
+            stats.cpuNanos.add(cpuNanos.sum());
+            stats.wallNanos.add(System.nanoTime() - startNanos);
+        }
+    }
+
+    public ComputePoolStatsDto getStats() {
+        List<ComputeTaskStatsDto> tasks = statsByTask.entrySet().stream()
+                                                     .map(entry -> entry.getValue().toDto(entry.getKey()))
+                                                     .sorted(Comparator.comparing(ComputeTaskStatsDto::task))
+                                                     .toList();
+        return new ComputePoolStatsDto(pool.getParallelism(), maxConcurrent, permits.availablePermits(),
+                permits.getQueueLength(), pool.getActiveThreadCount(), pool.getStealCount(), tasks);
+    }
+
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private boolean acquirePermit() {
+        try {
+            return permits.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private <T> T runSequential(Supplier<T> sequential, Stats stats) {
+        long startCpu = CpuAccountedTask.currentThreadCpuNanos();
+        long startNanos = System.nanoTime();
+        try {
+            return sequential.get();
+        } finally {
+            stats.sequentialRuns.increment();
+            stats.cpuNanos.add(CpuAccountedTask.currentThreadCpuNanos() - startCpu);
+            stats.wallNanos.add(System.nanoTime() - startNanos);
+        }
+    }
+
+    private static ForkJoinPool.ForkJoinWorkerThreadFactory workerFactory(String name) {
+        return forkJoinPool -> {
+            ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            worker.setName(name + "-" + worker.getPoolIndex());
+            return worker;
+        };
+    }
+
+    private static final class Stats {
+        private final LongAdder parallelRuns = new LongAdder();
+        private final LongAdder sequentialRuns = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder cpuNanos = new LongAdder();
+        private final LongAdder wallNanos = new LongAdder();
+
+        private ComputeTaskStatsDto toDto(String task) {
+            return new ComputeTaskStatsDto(task, parallelRuns.sum(), sequentialRuns.sum(), rejected.sum(),
+                    TimeUnit.NANOSECONDS.toMillis(cpuNanos.sum()), TimeUnit.NANOSECONDS.toMillis(wallNanos.sum()));
+        }
+    }
+}
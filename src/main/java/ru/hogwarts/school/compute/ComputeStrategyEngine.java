@@ -0,0 +1,240 @@
+package ru.hogwarts.school.compute;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.hogwarts.school.dto.ComputeStrategyTimingDto;
+import ru.hogwarts.school.exception.InvalidComputeRequestException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Registry of interchangeable strategies for reducing a closed range of longs to its sum, with a
+ * nanoTime harness that warms each strategy up before sampling it. Ranges are limited to
+ * {@value #MAX_RANGE} values within ±{@value #MAX_ABS_VALUE}, so no strategy's sum or loop counter can
+ * overflow, and every parallel strategy runs on the bounded compute pool. A benchmark may sum at most
+ * {@value #MAX_BENCHMARK_VALUES} values across all strategies, warmups and samples, which keeps one request
+ * to a few seconds of CPU even on the boxed stream.
+ */
+public class ComputeStrategyEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ComputeStrategyEngine.class);
+
+    public static final String BOXED_STREAM = "boxed-stream";
+    public static final String SEQUENTIAL_STREAM = "sequential-stream";
+    public static final String PRIMITIVE_LOOP = "primitive-loop";
+    public static final String UNROLLED_LOOP = "unrolled-loop";
+    public static final String PARALLEL_STREAM = "parallel-stream";
+    public static final String FORK_JOIN = "fork-join";
+    public static final String VIRTUAL_THREADS = "virtual-threads";
+    public static final String CLOSED_FORM = "closed-form";
+
+    public static final long MAX_RANGE = 10_000_000;
+    public static final long MAX_ABS_VALUE = 1_000_000_000;
+    public static final int MAX_ITERATIONS = 50;
+    public static final long MAX_BENCHMARK_VALUES = 200_000_000;
+
+    private static final long FORK_JOIN_LEAF_SIZE = 50_000;
+
+    private final Map<String, SumStrategy> strategies = new LinkedHashMap<>();
+    private volatile long blackhole;
+
+    public ComputeStrategyEngine(BoundedComputePool computePool) {
+        strategies.put(BOXED_STREAM, (from, to) -> Stream.iterate(from, value -> value + 1)
+                                                         .limit(to - from + 1)
+                                                         .reduce(0L, Long::sum));
+        strategies.put(SEQUENTIAL_STREAM, (from, to) -> LongStream.rangeClosed(from, to).sum());
+        strategies.put(PRIMITIVE_LOOP, ComputeStrategyEngine::loopSum);
+        strategies.put(UNROLLED_LOOP, ComputeStrategyEngine::unrolledSum);
+        // A parallel stream started on a pool worker splits onto that pool instead of the common one
+        strategies.put(PARALLEL_STREAM, (from, to) -> computePool.invoke(PARALLEL_STREAM,
+                cpuNanos -> ForkJoinTask.adapt(() -> LongStream.rangeClosed(from, to).parallel().sum()),
+                () -> loopSum(from, to)));
+        strategies.put(FORK_JOIN, (from, to) -> computePool.invoke(FORK_JOIN,
+                cpuNanos -> new RangeSumTask(from, to, FORK_JOIN_LEAF_SIZE, cpuNanos),
+                () -> loopSum(from, to)));
+        if (virtualThreadsSupported()) {
+            strategies.put(VIRTUAL_THREADS, ComputeStrategyEngine::virtualThreadSum);
+        }
+        strategies.put(CLOSED_FORM, (from, to) -> Math.multiplyExact(Math.addExact(from, to),
+                Math.addExact(Math.subtractExact(to, from), 1)) / 2);
+    }
+
+    public Set<String> getStrategyNames() {
+        return strategies.keySet();
+    }
+
+    public long run(String strategy, long from, long to) {
+        validateRange(from, to);
+        return resolve(strategy).sum(from, to);
+    }
+
+    public List<ComputeStrategyTimingDto> measure(Collection<String> strategyNames, long from, long to,
+                                                  int warmupIterations, int iterations) {
+        validate(from, to, warmupIterations, iterations);
+        Collection<String> selected = strategyNames == null || strategyNames.isEmpty()
+                ? strategies.keySet()
+                : strategyNames;
+        selected.forEach(this::resolve);
+        validateBudget(selected.size(), from, to, warmupIterations, iterations);
+
+        List<ComputeStrategyTimingDto> timings = new ArrayList<>(selected.size());
+        for (String name : selected) {
+            timings.add(measure(name, resolve(name), from, to, warmupIterations, iterations));
+        }
+        return timings;
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private ComputeStrategyTimingDto measure(String name, SumStrategy strategy, long from, long to,
+                                             int warmupIterations, int iterations) {
+        long result = 0;
+        for (int i = 0; i < warmupIterations; i++) {
+            result = strategy.sum(from, to);
+        }
+
+        long[] samples = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            result = strategy.sum(from, to);
+            samples[i] = System.nanoTime() - start;
+        }
+        blackhole ^= result;
+        Arrays.sort(samples);
+
+        ComputeStrategyTimingDto timing = new ComputeStrategyTimingDto(name, result, warmupIterations, iterations,
+                samples[0], percentile(samples, 0.50), percentile(samples, 0.99));
+        logger.debug("Compute strategy {}: min {} ns, median {} ns, p99 {} ns",
+                name, timing.minNanos(), timing.medianNanos(), timing.p99Nanos());
+        return timing;
+    }
+
+    private SumStrategy resolve(String name) {
+        SumStrategy strategy = strategies.get(name);
+        if (strategy == null) {
+            throw InvalidComputeRequestException.unknownStrategy(name, strategies.keySet());
+        }
+        return strategy;
+    }
+
+    private static void validate(long from, long to, int warmupIterations, int iterations) {
+        validateRange(from, to);
+        if (warmupIterations < 0 || warmupIterations > MAX_ITERATIONS
+                || iterations < 1 || iterations > MAX_ITERATIONS) {
+            throw new InvalidComputeRequestException(
+                    "Warmup must be 0.." + MAX_ITERATIONS + " and iterations 1.." + MAX_ITERATIONS);
+        }
+    }
+
+    private static void validateBudget(int strategyCount, long from, long to, int warmupIterations,
+                                       int iterations) {
+        long values = (to - from + 1) * (warmupIterations + iterations) * strategyCount;
+        if (values > MAX_BENCHMARK_VALUES) {
+            throw new InvalidComputeRequestException("Benchmark would sum " + values + " values, at most "
+                    + MAX_BENCHMARK_VALUES + " are allowed; narrow the range, iterations or strategies");
+        }
+    }
+
+    private static void validateRange(long from, long to) {
+        if (Math.abs(from) > MAX_ABS_VALUE || Math.abs(to) > MAX_ABS_VALUE) {
+            throw new InvalidComputeRequestException("Range bounds must be within ±" + MAX_ABS_VALUE);
+        }
+        if (from > to || Math.subtractExact(to, from) >= MAX_RANGE) {
+            throw new InvalidComputeRequestException(
+                    "Range must satisfy from <= to and contain at most " + MAX_RANGE + " values");
+        }
+    }
+
+    private static long percentile(long[] sortedSamples, double quantile) {
+        int rank = (int) Math.ceil(quantile * sortedSamples.length);
+        return sortedSamples[Math.max(rank, 1) - 1];
+    }
+
+    // Counted by remaining values rather than compared against to, which cannot wrap at Long.MAX_VALUE
+    static long loopSum(long from, long to) {
+        long sum = 0;
+        long value = from;
+        for (long remaining = to - from + 1; remaining > 0; remaining--) {
+            sum += value++;
+        }
+        return sum;
+    }
+
+    // Independent accumulators break the loop-carried dependency so C2 can keep several adds in flight
+    // and vectorize the body; used in place of jdk.incubator.vector, which needs an incubator module
+    private static long unrolledSum(long from, long to) {
+        long sum0 = 0;
+        long sum1 = 0;
+        long sum2 = 0;
+        long sum3 = 0;
+        long value = from;
+        long remaining = to - from + 1;
+        for (; remaining >= 4; remaining -= 4, value += 4) {
+            sum0 += value;
+            sum1 += value + 1;
+            sum2 += value + 2;
+            sum3 += value + 3;
+        }
+        for (; remaining > 0; remaining--) {
+            sum0 += value++;
+        }
+        return sum0 + sum1 + sum2 + sum3;
+    }
+
+    private static long virtualThreadSum(long from, long to) {
+        int chunks = Runtime.getRuntime().availableProcessors();
+        long chunkSize = Math.max(1, (to - from + 1 + chunks - 1) / chunks);
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<Long>> parts = new ArrayList<>(chunks);
+            for (long start = from; start <= to; start += chunkSize) {
+                long chunkFrom = start;
+                long chunkTo = Math.min(to, start + chunkSize - 1);
+                parts.add(executor.submit(() -> loopSum(chunkFrom, chunkTo)));
+            }
+            long sum = 0;
+            for (Future<Long> part : parts) {
+                sum += part.get();
+            }
+            return sum;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for virtual-thread partial sums", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Virtual-thread partial sum failed", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static boolean virtualThreadsSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    // Resolved reflectively so the default Java 17 build still compiles; registered only on Java 21+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads are not available on this JVM", e);
+        }
+    }
+}
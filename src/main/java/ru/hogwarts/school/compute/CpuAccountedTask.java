@@ -0,0 +1,39 @@
+package ru.hogwarts.school.compute;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Fork/join task whose leaves charge the CPU time of the worker thread that ran them to a shared account,
+ * so the total reflects work done on every thread the task was split across.
+ */
+public abstract class CpuAccountedTask<T> extends RecursiveTask<T> {
+
+    private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final LongAdder cpuNanos;
+
+    protected CpuAccountedTask(LongAdder cpuNanos) {
+        this.cpuNanos = cpuNanos;
+    }
+
+    protected LongAdder cpuNanos() {
+        return cpuNanos;
+    }
+
+    protected T accountLeaf(Supplier<T> leaf) {
+        long start = currentThreadCpuNanos();
+        try {
+            return leaf.get();
+        } finally {
+            cpuNanos.add(currentThreadCpuNanos() - start);
+        }
+    }
+
+    static long currentThreadCpuNanos() {
+        return THREAD_BEAN.isCurrentThreadCpuTimeSupported() ? THREAD_BEAN.getCurrentThreadCpuTime() : 0L;
+    }
+}
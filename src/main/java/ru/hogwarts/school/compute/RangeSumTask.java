@@ -0,0 +1,29 @@
+package ru.hogwarts.school.compute;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class RangeSumTask extends CpuAccountedTask<Long> {
+
+    private final long from;
+    private final long to;
+    private final long leafSize;
+
+    public RangeSumTask(long from, long to, long leafSize, LongAdder cpuNanos) {
+        super(cpuNanos);
+        this.from = from;
+        this.to = to;
+        this.leafSize = leafSize;
+    }
+
+    @Override
+    protected Long compute() {
+        if (to - from < leafSize) {
+            return accountLeaf(() -> ComputeStrategyEngine.loopSum(from, to));
+        }
+        long middle = from + (to - from) / 2;
+        RangeSumTask left = new RangeSumTask(from, middle, leafSize, cpuNanos());
+        left.fork();
+        long right = new RangeSumTask(middle + 1, to, leafSize, cpuNanos()).compute();
+        return right + left.join();
+    }
+}
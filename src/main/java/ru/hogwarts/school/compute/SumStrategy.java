@@ -0,0 +1,7 @@
+package ru.hogwarts.school.compute;
+
+@FunctionalInterface
+public interface SumStrategy {
+
+    long sum(long from, long to);
+}
@@ -0,0 +1,34 @@
+package ru.hogwarts.school.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.hogwarts.school.compute.BoundedComputePool;
+import ru.hogwarts.school.compute.ComputeStrategyEngine;
+
+@Configuration
+@EnableConfigurationProperties(AnalyticsPoolProperties.class)
+public class AnalyticsPoolConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsPoolConfig.class);
+
+    @Bean(destroyMethod = "shutdown")
+    public BoundedComputePool analyticsComputePool(AnalyticsPoolProperties properties) {
+        int parallelism = properties.parallelism() > 0
+                ? properties.parallelism()
+                : Runtime.getRuntime().availableProcessors();
+
+        logger.info("Creating analytics compute pool: parallelism {}, {} concurrent tasks, {} ms queue timeout, " +
+                        "sequential fallback {}", parallelism, properties.maxConcurrent(),
+                properties.queueTimeoutMs(), properties.sequentialFallback());
+        return new BoundedComputePool("analytics-compute", parallelism, properties.maxConcurrent(),
+                properties.queueTimeoutMs(), properties.sequentialFallback());
+    }
+
+    @Bean
+    public ComputeStrategyEngine computeStrategyEngine(BoundedComputePool analyticsComputePool) {
+        return new ComputeStrategyEngine(analyticsComputePool);
+    }
+}
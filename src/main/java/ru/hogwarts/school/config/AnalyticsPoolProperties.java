@@ -0,0 +1,13 @@
+package ru.hogwarts.school.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.analytics.pool")
+public record AnalyticsPoolProperties(
+        @DefaultValue("0") int parallelism,
+        @DefaultValue("2") int maxConcurrent,
+        @DefaultValue("200") long queueTimeoutMs,
+        @DefaultValue("false") boolean sequentialFallback
+) {
+}
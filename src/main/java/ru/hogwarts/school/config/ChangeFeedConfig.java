@@ -0,0 +1,29 @@
+package ru.hogwarts.school.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.hogwarts.school.repository.ChangeTombstoneRepository;
+import ru.hogwarts.school.sync.ChangeTombstonePruner;
+import ru.hogwarts.school.sync.ChangeVersionGenerator;
+
+@Configuration
+@EnableConfigurationProperties(ChangeFeedProperties.class)
+public class ChangeFeedConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeedConfig.class);
+
+    @Bean(destroyMethod = "shutdown")
+    public ChangeTombstonePruner changeTombstonePruner(ChangeTombstoneRepository changeTombstoneRepository,
+                                                      ChangeVersionGenerator changeVersionGenerator,
+                                                      TransactionTemplate transactionTemplate,
+                                                      ChangeFeedProperties properties) {
+        logger.info("Keeping change tombstones for {} ms, pruning every {} ms", properties.tombstoneRetentionMs(),
+                properties.pruneIntervalMs());
+        return new ChangeTombstonePruner(changeTombstoneRepository, changeVersionGenerator, transactionTemplate,
+                properties);
+    }
+}
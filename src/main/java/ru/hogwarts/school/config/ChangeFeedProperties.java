@@ -0,0 +1,12 @@
+package ru.hogwarts.school.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.change-feed")
+public record ChangeFeedProperties(
+        @DefaultValue("2592000000") long tombstoneRetentionMs,
+        @DefaultValue("3600000") long pruneIntervalMs,
+        @DefaultValue("300000") long inFlightTimeoutMs
+) {
+}
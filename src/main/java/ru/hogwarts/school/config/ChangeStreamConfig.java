@@ -0,0 +1,24 @@
+package ru.hogwarts.school.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.hogwarts.school.push.ChangeStreamBroker;
+
+@Configuration
+@EnableConfigurationProperties(ChangeStreamProperties.class)
+public class ChangeStreamConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeStreamConfig.class);
+
+    @Bean(destroyMethod = "shutdown")
+    public ChangeStreamBroker changeStreamBroker(ChangeStreamProperties properties) {
+        logger.info("Creating change stream broker: {} dispatch threads, {} events per subscriber, {} replayable, " +
+                        "heartbeat every {} ms", properties.dispatchThreads(), properties.bufferSize(),
+                properties.replaySize(), properties.heartbeatIntervalMs());
+        return new ChangeStreamBroker(properties.dispatchThreads(), properties.bufferSize(), properties.replaySize(),
+                properties.heartbeatIntervalMs(), properties.timeoutMs());
+    }
+}
@@ -0,0 +1,14 @@
+package ru.hogwarts.school.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.change-stream")
+public record ChangeStreamProperties(
+        @DefaultValue("64") int bufferSize,
+        @DefaultValue("1024") int replaySize,
+        @DefaultValue("2") int dispatchThreads,
+        @DefaultValue("15000") long heartbeatIntervalMs,
+        @DefaultValue("1800000") long timeoutMs
+) {
+}
@@ -0,0 +1,56 @@
+package ru.hogwarts.school.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.hogwarts.school.cluster.ClusterInvalidationBus;
+import ru.hogwarts.school.cluster.InvalidationTransport;
+import ru.hogwarts.school.cluster.LoopbackInvalidationTransport;
+import ru.hogwarts.school.cluster.PostgresNotifyInvalidationTransport;
+
+@Configuration
+@ConditionalOnProperty(name = "app.cluster.invalidation.enabled", havingValue = "true")
+@EnableConfigurationProperties(ClusterInvalidationProperties.class)
+public class ClusterInvalidationConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterInvalidationConfig.class);
+
+    private static final int LOOPBACK_MAX_PAYLOAD_LENGTH = 7_900;
+
+    @Bean
+    public InvalidationTransport invalidationTransport(ClusterInvalidationProperties properties,
+                                                       DataSourceProperties dataSourceProperties,
+                                                       JdbcTemplate jdbcTemplate,
+                                                       TransactionTemplate transactionTemplate) {
+        return switch (properties.transport()) {
+            case POSTGRES -> new PostgresNotifyInvalidationTransport(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword(), jdbcTemplate,
+                    transactionTemplate, properties.channel(), properties.listenTimeoutMs(),
+                    properties.reconnectDelayMs());
+            case LOOPBACK -> new LoopbackInvalidationTransport(new LoopbackInvalidationTransport.Hub(),
+                    LOOPBACK_MAX_PAYLOAD_LENGTH);
+        };
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ClusterInvalidationBus clusterInvalidationBus(InvalidationTransport invalidationTransport,
+                                                         ApplicationEventPublisher eventPublisher,
+                                                         ObjectMapper objectMapper,
+                                                         ClusterInvalidationProperties properties) {
+        ClusterInvalidationBus bus = new ClusterInvalidationBus(invalidationTransport, eventPublisher, objectMapper,
+                properties.batchWindowMs(), properties.maxBatchSize(), properties.heartbeatIntervalMs(),
+                properties.senderTimeoutMs());
+        logger.info("Cluster invalidation bus started as instance {} over {} transport, {} ms batch window, " +
+                        "heartbeat every {} ms", bus.getInstanceId(), properties.transport(),
+                properties.batchWindowMs(), properties.heartbeatIntervalMs());
+        return bus;
+    }
+}
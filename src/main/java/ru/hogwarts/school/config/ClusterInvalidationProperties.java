@@ -0,0 +1,23 @@
+package ru.hogwarts.school.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.cluster.invalidation")
+public record ClusterInvalidationProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("postgres") Transport transport,
+        @DefaultValue("hogwarts_invalidation") String channel,
+        @DefaultValue("5") long batchWindowMs,
+        @DefaultValue("256") int maxBatchSize,
+        @DefaultValue("5000") long heartbeatIntervalMs,
+        @DefaultValue("30000") long senderTimeoutMs,
+        @DefaultValue("1000") int listenTimeoutMs,
+        @DefaultValue("1000") long reconnectDelayMs
+) {
+
+    public enum Transport {
+        POSTGRES,
+        LOOPBACK
+    }
+}
@@ -0,0 +1,23 @@
+package ru.hogwarts.school.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.hogwarts.school.coalescing.CoalescingAspect;
+import ru.hogwarts.school.coalescing.RequestCoalescer;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+public class CoalescingConfig {
+
+    @Bean
+    public RequestCoalescer requestCoalescer(@Qualifier("applicationTaskExecutor") Executor refreshExecutor) {
+        return new RequestCoalescer(refreshExecutor);
+    }
+
+    @Bean
+    public CoalescingAspect coalescingAspect(RequestCoalescer requestCoalescer) {
+        return new CoalescingAspect(requestCoalescer);
+    }
+}
@@ -0,0 +1,41 @@
+package ru.hogwarts.school.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.hogwarts.school.outbox.OutboxDispatcher;
+import ru.hogwarts.school.outbox.OutboxSubscriber;
+import ru.hogwarts.school.outbox.OutboxWriter;
+import ru.hogwarts.school.repository.OutboxCheckpointRepository;
+import ru.hogwarts.school.repository.OutboxEventRepository;
+
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxConfig.class);
+
+    @Bean
+    public OutboxWriter outboxWriter(OutboxEventRepository outboxEventRepository) {
+        return new OutboxWriter(outboxEventRepository);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public OutboxDispatcher outboxDispatcher(OutboxEventRepository outboxEventRepository,
+                                             OutboxCheckpointRepository outboxCheckpointRepository,
+                                             TransactionTemplate transactionTemplate,
+                                             ObjectProvider<OutboxSubscriber> subscribers,
+                                             OutboxProperties properties) {
+        List<OutboxSubscriber> resolved = subscribers.orderedStream().toList();
+        logger.info("Starting outbox dispatcher for {} subscribers: batches of {}, polling every {} ms",
+                resolved.size(), properties.batchSize(), properties.pollIntervalMs());
+        return new OutboxDispatcher(outboxEventRepository, outboxCheckpointRepository, transactionTemplate, resolved,
+                properties);
+    }
+}
@@ -0,0 +1,15 @@
+package ru.hogwarts.school.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.outbox")
+public record OutboxProperties(
+        @DefaultValue("200") int batchSize,
+        @DefaultValue("500") long pollIntervalMs,
+        @DefaultValue("10000") long gapTimeoutMs,
+        @DefaultValue("600000") long lateCommitWindowMs,
+        @DefaultValue("86400000") long retentionMs,
+        @DefaultValue("60000") long pruneIntervalMs
+) {
+}
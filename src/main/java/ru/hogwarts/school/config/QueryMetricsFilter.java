@@ -0,0 +1,31 @@
+package ru.hogwarts.school.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Opens a {@link RequestQueryMetrics} scope for each request and logs the totals when it completes.
+ */
+public class QueryMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryMetricsFilter.class);
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryMetrics.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            logger.debug("{} {} -> {}", request.getMethod(), request.getRequestURI(), RequestQueryMetrics.current());
+            RequestQueryMetrics.clear();
+        }
+    }
+}
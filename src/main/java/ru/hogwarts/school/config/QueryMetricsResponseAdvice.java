@@ -0,0 +1,42 @@
+package ru.hogwarts.school.config;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Attaches the request's query counters to every response body written by a controller.
+ */
+@ControllerAdvice
+@Profile("!prod")
+public class QueryMetricsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String ENTITY_LOAD_COUNT_HEADER = "X-Entity-Load-Count";
+    public static final String LAZY_LOAD_COUNT_HEADER = "X-Lazy-Load-Count";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestQueryMetrics metrics = RequestQueryMetrics.current();
+        if (metrics != null) {
+            HttpHeaders headers = response.getHeaders();
+            headers.set(QUERY_COUNT_HEADER, String.valueOf(metrics.getStatements()));
+            headers.set(ENTITY_LOAD_COUNT_HEADER, String.valueOf(metrics.getEntityLoads()));
+            headers.set(LAZY_LOAD_COUNT_HEADER, String.valueOf(metrics.getLazyInitializations()));
+        }
+        return body;
+    }
+}
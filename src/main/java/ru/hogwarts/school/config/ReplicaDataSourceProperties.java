@@ -0,0 +1,22 @@
+package ru.hogwarts.school.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public record ReplicaDataSourceProperties(
+        boolean enabled,
+        String url,
+        String username,
+        String password,
+        String driverClassName,
+        @DefaultValue("1000") long maxLagMs,
+        @DefaultValue("500") long lagCheckIntervalMs,
+        @DefaultValue(DEFAULT_LAG_QUERY) String lagQuery,
+        @DefaultValue("5000") long readYourWritesWindowMs
+) {
+
+    // A replica that has replayed everything it received is caught up, however long the primary has been idle
+    static final String DEFAULT_LAG_QUERY = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() " +
+            "THEN 0 ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0) END";
+}
@@ -0,0 +1,109 @@
+package ru.hogwarts.school.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// The lazy proxy defers the physical connection until the first statement, when the transaction's
+// read-only flag is known: writes go to primary, read-only work to the replica while it is fresh and
+// the request has not been pinned to primary by ReadYourWritesFilter
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaDataSourceProperties properties;
+    private final ScheduledExecutorService lagMonitor;
+
+    private volatile boolean replicaFresh;
+    private volatile long lastObservedLagMs = -1;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaDataSourceProperties properties) {
+        this.primary = primary;
+        this.replica = replica;
+        this.properties = properties;
+
+        AbstractRoutingDataSource readOnlyRouter = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return readOnlyRoute();
+            }
+        };
+        readOnlyRouter.setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        readOnlyRouter.setDefaultTargetDataSource(primary);
+        readOnlyRouter.afterPropertiesSet();
+        setTargetDataSource(primary);
+        setReadOnlyDataSource(readOnlyRouter);
+        afterPropertiesSet();
+
+        this.lagMonitor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checkReplicaLag();
+        lagMonitor.scheduleWithFixedDelay(this::checkReplicaLag, properties.lagCheckIntervalMs(),
+                properties.lagCheckIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    public Route readOnlyRoute() {
+        return ReplicaRoutingContext.isPrimaryForced() || !replicaFresh ? Route.PRIMARY : Route.REPLICA;
+    }
+
+    public boolean isReplicaFresh() {
+        return replicaFresh;
+    }
+
+    public long getLastObservedLagMs() {
+        return lastObservedLagMs;
+    }
+
+    void checkReplicaLag() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(properties.lagQuery())) {
+            long lagMs = resultSet.next() ? resultSet.getLong(1) : Long.MAX_VALUE;
+            boolean fresh = lagMs <= properties.maxLagMs();
+            if (fresh != replicaFresh) {
+                logger.info("Replica is now {} (lag: {} ms, tolerance: {} ms)", fresh ? "in use" : "bypassed", lagMs,
+                        properties.maxLagMs());
+            }
+            lastObservedLagMs = lagMs;
+            replicaFresh = fresh;
+        } catch (Exception e) {
+            if (replicaFresh) {
+                logger.warn("Replica lag check failed, routing reads to primary", e);
+            }
+            lastObservedLagMs = -1;
+            replicaFresh = false;
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        lagMonitor.shutdownNow();
+        for (DataSource dataSource : new DataSource[]{replica, primary}) {
+            if (dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package ru.hogwarts.school.config;
+
+/**
+ * Per-request counters for SQL statements, entity loads and lazy initializations.
+ * Counting happens only between {@link #start()} and {@link #clear()} on the current thread.
+ */
+public final class RequestQueryMetrics {
+
+    private static final ThreadLocal<RequestQueryMetrics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int entityLoads;
+    private int lazyInitializations;
+
+    private RequestQueryMetrics() {
+    }
+
+    public static void start() {
+        CURRENT.set(new RequestQueryMetrics());
+    }
+
+    public static RequestQueryMetrics current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    static void recordStatement() {
+        RequestQueryMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.statements++;
+        }
+    }
+
+    static void recordEntityLoad() {
+        RequestQueryMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.entityLoads++;
+        }
+    }
+
+    static void recordLazyInitialization() {
+        RequestQueryMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.lazyInitializations++;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    public int getLazyInitializations() {
+        return lazyInitializations;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestQueryMetrics{" +
+                "statements=" + statements +
+                ", entityLoads=" + entityLoads +
+                ", lazyInitializations=" + lazyInitializations +
+                '}';
+    }
+}
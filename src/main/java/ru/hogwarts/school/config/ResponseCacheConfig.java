@@ -0,0 +1,39 @@
+package ru.hogwarts.school.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import ru.hogwarts.school.cache.ResponseCache;
+import ru.hogwarts.school.cache.ResponseCacheFilter;
+import ru.hogwarts.school.cache.ResponseCacheInvalidator;
+
+@Configuration
+@ConditionalOnProperty(name = "app.response-cache.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCacheConfig {
+
+    @Bean
+    public ResponseCache responseCache(ResponseCacheProperties properties) {
+        return new ResponseCache(properties.maxSize().toBytes(), properties.maxEntrySize().toBytes());
+    }
+
+    @Bean
+    public ResponseCacheInvalidator responseCacheInvalidator(ResponseCache responseCache) {
+        return new ResponseCacheInvalidator(responseCache);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(ResponseCache responseCache,
+                                                                           ObjectMapper objectMapper,
+                                                                           ResponseCacheProperties properties) {
+        FilterRegistrationBean<ResponseCacheFilter> registration = new FilterRegistrationBean<>(
+                new ResponseCacheFilter(responseCache, objectMapper, properties.loadTimeoutMs()));
+        registration.addUrlPatterns("/faculty", "/faculty/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
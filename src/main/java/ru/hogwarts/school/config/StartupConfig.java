@@ -0,0 +1,54 @@
+package ru.hogwarts.school.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import ru.hogwarts.school.startup.ChecksumGuardedSpringLiquibase;
+import ru.hogwarts.school.startup.LazyBeansPostProcessor;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Set;
+
+@Configuration
+@EnableConfigurationProperties(LiquibaseProperties.class)
+public class StartupConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupConfig.class);
+
+    // Static and bound directly from the Environment: it runs before configuration properties beans exist
+    @Bean
+    public static LazyBeansPostProcessor lazyBeansPostProcessor(Environment environment) {
+        Binder binder = Binder.get(environment);
+        Set<String> lazyBeans = binder.bind("app.startup.lazy-beans", Bindable.setOf(String.class)).orElse(Set.of());
+        List<String> lazyPackages =
+                binder.bind("app.startup.lazy-packages", Bindable.listOf(String.class)).orElse(List.of());
+        return new LazyBeansPostProcessor(lazyBeans, lazyPackages);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.liquibase.skip-when-unchanged", havingValue = "true")
+    public ChecksumGuardedSpringLiquibase liquibase(DataSource dataSource, LiquibaseProperties properties) {
+        logger.info("Liquibase update will be skipped while changelog {} is unchanged", properties.getChangeLog());
+        ChecksumGuardedSpringLiquibase liquibase = new ChecksumGuardedSpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog(properties.getChangeLog());
+        if (properties.getContexts() != null) {
+            liquibase.setContexts(String.join(",", properties.getContexts()));
+        }
+        if (properties.getLabelFilter() != null) {
+            liquibase.setLabelFilter(String.join(",", properties.getLabelFilter()));
+        }
+        liquibase.setDefaultSchema(properties.getDefaultSchema());
+        liquibase.setDropFirst(properties.isDropFirst());
+        liquibase.setShouldRun(properties.isEnabled());
+        return liquibase;
+    }
+}
@@ -0,0 +1,35 @@
+package ru.hogwarts.school.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.hogwarts.school.repository.FacultyRepository;
+import ru.hogwarts.school.repository.StudentBatchInsertRepository;
+import ru.hogwarts.school.service.StudentGroupCommitWriter;
+
+@Configuration
+@ConditionalOnProperty(name = "app.student.group-commit.enabled", havingValue = "true")
+@EnableConfigurationProperties(StudentGroupCommitProperties.class)
+public class StudentGroupCommitConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentGroupCommitConfig.class);
+
+    @Bean
+    public StudentGroupCommitWriter studentGroupCommitWriter(StudentBatchInsertRepository studentBatchInsertRepository,
+                                                             FacultyRepository facultyRepository,
+                                                             ApplicationEventPublisher eventPublisher,
+                                                             TransactionTemplate transactionTemplate,
+                                                             StudentGroupCommitProperties properties) {
+        logger.info("Enabling student group commit: batches of up to {} rows, {} ms max delay, queue capacity {}, " +
+                        "{} ms caller timeout", properties.maxBatchSize(), properties.maxDelayMs(),
+                properties.queueCapacity(), properties.callerTimeoutMs());
+        return new StudentGroupCommitWriter(studentBatchInsertRepository, facultyRepository, eventPublisher,
+                transactionTemplate, properties.maxBatchSize(), properties.maxDelayMs(), properties.queueCapacity(),
+                properties.callerTimeoutMs());
+    }
+}
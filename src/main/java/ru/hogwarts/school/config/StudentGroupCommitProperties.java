@@ -0,0 +1,14 @@
+package ru.hogwarts.school.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.student.group-commit")
+public record StudentGroupCommitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("64") int maxBatchSize,
+        @DefaultValue("2") long maxDelayMs,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("30000") long callerTimeoutMs
+) {
+}
@@ -6,9 +6,12 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import ru.hogwarts.school.dto.ComputePoolStatsDto;
+import ru.hogwarts.school.dto.ComputeStrategyTimingDto;
 import ru.hogwarts.school.service.AnalyticsService;
 
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/analytics")
@@ -41,8 +44,31 @@ public class AnalyticsController {
         return analyticsService.getLongestFacultyName();
     }
 
+    @GetMapping("/compute/pool")
+    public ComputePoolStatsDto getComputePoolStats() {
+        logger.info("Was invoked GET endpoint for analytics compute pool statistics");
+        return analyticsService.getComputePoolStats();
+    }
+
+    @GetMapping("/compute/strategies")
+    public Set<String> getComputeStrategies() {
+        logger.info("Was invoked GET endpoint for available compute strategies");
+        return analyticsService.getComputeStrategies();
+    }
+
+    @GetMapping("/compute/benchmark")
+    public List<ComputeStrategyTimingDto> measureComputeStrategies(
+            @RequestParam(value = "strategy", required = false) List<String> strategies,
+            @RequestParam(value = "from", defaultValue = "1") long from,
+            @RequestParam(value = "to", defaultValue = "1000000") long to,
+            @RequestParam(value = "warmup", defaultValue = "5") int warmupIterations,
+            @RequestParam(value = "iterations", defaultValue = "20") int iterations) {
+        logger.info("Was invoked GET endpoint for compute strategy benchmark");
+        return analyticsService.measureComputeStrategies(strategies, from, to, warmupIterations, iterations);
+    }
+
     @GetMapping("/compute/original-sum")
-    public Integer calculateOriginalSum() {
+    public Long calculateOriginalSum() {
         logger.info("Was invoked GET endpoint for original sum calculation");
         return analyticsService.calculateOriginalSum();
     }
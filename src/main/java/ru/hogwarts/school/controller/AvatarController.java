@@ -1,5 +1,6 @@
 package ru.hogwarts.school.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpHeaders;
@@ -50,12 +51,9 @@ public class AvatarController {
 
     @GetMapping("/{studentId}/full")
     public void getAvatarFull(@PathVariable Long studentId,
+                              HttpServletRequest request,
                               HttpServletResponse response) {
-        try {
-            avatarService.getAvatarFromFile(studentId, response);
-        } catch (IOException e) {
-            response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
-        }
+        avatarService.getAvatarFromFile(studentId, request, response);
     }
 
     @GetMapping("/all")
@@ -0,0 +1,24 @@
+package ru.hogwarts.school.controller;
+
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import ru.hogwarts.school.dto.BatchRequestDto;
+import ru.hogwarts.school.dto.BatchResultDto;
+import ru.hogwarts.school.service.BatchService;
+
+@RestController
+@RequestMapping("/batch")
+public class BatchController {
+    private final BatchService batchService;
+
+    public BatchController(BatchService batchService) {
+        this.batchService = batchService;
+    }
+
+    @PostMapping
+    public ResponseEntity<BatchResultDto> executeBatch(@Valid @RequestBody BatchRequestDto batchRequestDto) {
+        BatchResultDto result = batchService.execute(batchRequestDto);
+        return ResponseEntity.ok(result);
+    }
+}
@@ -0,0 +1,45 @@
+package ru.hogwarts.school.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.hogwarts.school.dto.ChangeFeedDto;
+import ru.hogwarts.school.dto.ChangeStreamStatsDto;
+import ru.hogwarts.school.event.EntityType;
+import ru.hogwarts.school.push.ChangeStreamBroker;
+import ru.hogwarts.school.service.ChangeFeedService;
+
+import java.util.Set;
+
+@RestController
+@RequestMapping("/changes")
+public class ChangeController {
+    private final ChangeFeedService changeFeedService;
+    private final ChangeStreamBroker changeStreamBroker;
+
+    public ChangeController(ChangeFeedService changeFeedService, ChangeStreamBroker changeStreamBroker) {
+        this.changeFeedService = changeFeedService;
+        this.changeStreamBroker = changeStreamBroker;
+    }
+
+    @GetMapping
+    public ResponseEntity<ChangeFeedDto> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "100") int limit) {
+        ChangeFeedDto changes = changeFeedService.getChangesSince(since, limit);
+        return ResponseEntity.ok(changes);
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @RequestParam(required = false) Set<EntityType> types) {
+        return changeStreamBroker.subscribe(lastEventId, types);
+    }
+
+    @GetMapping("/stream/stats")
+    public ResponseEntity<ChangeStreamStatsDto> getStreamStats() {
+        return ResponseEntity.ok(changeStreamBroker.getStats());
+    }
+}
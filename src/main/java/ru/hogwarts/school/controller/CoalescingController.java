@@ -0,0 +1,30 @@
+package ru.hogwarts.school.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.hogwarts.school.coalescing.RequestCoalescer;
+import ru.hogwarts.school.dto.CoalescingStatsDto;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/coalescing")
+public class CoalescingController {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoalescingController.class);
+
+    private final RequestCoalescer requestCoalescer;
+
+    public CoalescingController(RequestCoalescer requestCoalescer) {
+        this.requestCoalescer = requestCoalescer;
+    }
+
+    @GetMapping("/stats")
+    public List<CoalescingStatsDto> getStats() {
+        logger.info("Was invoked GET endpoint for request coalescing statistics");
+        return requestCoalescer.getStats();
+    }
+}
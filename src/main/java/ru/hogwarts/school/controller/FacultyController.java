@@ -1,11 +1,13 @@
 package ru.hogwarts.school.controller;
 
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.hogwarts.school.dto.*;
 import ru.hogwarts.school.service.FacultyService;
+import ru.hogwarts.school.util.EntityTagUtil;
 
 import java.util.List;
 
@@ -38,6 +40,18 @@ public class FacultyController {
         return ResponseEntity.ok(updatedFaculty);
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<FacultyDto> patchFaculty(
+            @PathVariable long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody FacultyPatchDto facultyPatchDto) {
+        VersionedDto<FacultyDto> patchedFaculty = facultyService.patchFaculty(id, facultyPatchDto,
+                EntityTagUtil.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                             .eTag(EntityTagUtil.toEntityTag(patchedFaculty.version()))
+                             .body(patchedFaculty.body());
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteFaculty(@PathVariable long id) {
         facultyService.deleteFaculty(id);
@@ -50,6 +64,18 @@ public class FacultyController {
         return ResponseEntity.ok(faculties);
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResultDto<FacultyDto>> getFacultiesByIds(@RequestParam List<Long> ids) {
+        MultiGetResultDto<FacultyDto> faculties = facultyService.findFaculties(ids);
+        return ResponseEntity.ok(faculties);
+    }
+
+    @PostMapping("/lookup")
+    public ResponseEntity<MultiGetResultDto<FacultyDto>> lookupFaculties(@Valid @RequestBody IdListDto idListDto) {
+        MultiGetResultDto<FacultyDto> faculties = facultyService.findFaculties(idListDto.ids());
+        return ResponseEntity.ok(faculties);
+    }
+
     @GetMapping("/color/{color}")
     public ResponseEntity<List<FacultyDto>> getFacultiesByColor(@PathVariable String color) {
         List<FacultyDto> faculties = facultyService.getFacultiesByColor(color);
@@ -67,4 +93,22 @@ public class FacultyController {
         List<StudentDto> students = facultyService.getFacultyStudents(id);
         return ResponseEntity.ok(students);
     }
+
+    @GetMapping("{id}/students/count")
+    public ResponseEntity<Long> countFacultyStudents(@PathVariable long id) {
+        long count = facultyService.countFacultyStudents(id);
+        return ResponseEntity.ok(count);
+    }
+
+    @GetMapping("/roster/consistency")
+    public ResponseEntity<FacultyRosterConsistencyDto> checkRosterConsistency() {
+        FacultyRosterConsistencyDto consistency = facultyService.checkRosterConsistency();
+        return ResponseEntity.ok(consistency);
+    }
+
+    @PostMapping("/roster/rebuild")
+    public ResponseEntity<FacultyRosterConsistencyDto> rebuildRoster() {
+        FacultyRosterConsistencyDto consistency = facultyService.rebuildRoster();
+        return ResponseEntity.ok(consistency);
+    }
 }
\ No newline at end of file
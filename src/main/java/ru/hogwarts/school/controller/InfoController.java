@@ -7,6 +7,8 @@ import org.springframework.core.env.Environment;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import ru.hogwarts.school.dto.StartupTimelineDto;
+import ru.hogwarts.school.startup.StartupTimelineReporter;
 
 import java.util.Arrays;
 
@@ -17,12 +19,14 @@ public class InfoController {
     private static final Logger logger = LoggerFactory.getLogger(InfoController.class);
 
     private final Environment environment;
+    private final StartupTimelineReporter startupTimelineReporter;
 
     @Value("${server.port}")
     private String serverPort;
 
-    public InfoController(Environment environment) {
+    public InfoController(Environment environment, StartupTimelineReporter startupTimelineReporter) {
         this.environment = environment;
+        this.startupTimelineReporter = startupTimelineReporter;
     }
 
     @GetMapping("/port")
@@ -39,4 +43,10 @@ public class InfoController {
             return "Port: " + serverPort;
         }
     }
-}
\ No newline at end of file
+
+    @GetMapping("/startup")
+    public StartupTimelineDto getStartupTimeline() {
+        logger.info("Was invoked method for get startup timeline");
+        return startupTimelineReporter.getTimeline();
+    }
+}
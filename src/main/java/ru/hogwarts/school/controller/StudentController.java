@@ -1,11 +1,14 @@
 package ru.hogwarts.school.controller;
 
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.hogwarts.school.dto.*;
+import ru.hogwarts.school.service.StudentBulkService;
 import ru.hogwarts.school.service.StudentService;
+import ru.hogwarts.school.util.EntityTagUtil;
 
 import java.util.List;
 
@@ -13,9 +16,11 @@ import java.util.List;
 @RequestMapping("/student")
 public class StudentController {
     private final StudentService studentService;
+    private final StudentBulkService studentBulkService;
 
-    public StudentController(StudentService studentService) {
+    public StudentController(StudentService studentService, StudentBulkService studentBulkService) {
         this.studentService = studentService;
+        this.studentBulkService = studentBulkService;
     }
 
     @PostMapping
@@ -38,6 +43,32 @@ public class StudentController {
         return ResponseEntity.ok(updatedStudent);
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<StudentDto> patchStudent(
+            @PathVariable long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody StudentPatchDto studentPatchDto) {
+        VersionedDto<StudentDto> patchedStudent = studentService.patchStudent(id, studentPatchDto,
+                EntityTagUtil.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                             .eTag(EntityTagUtil.toEntityTag(patchedStudent.version()))
+                             .body(patchedStudent.body());
+    }
+
+    @PostMapping("/bulk/transfer")
+    public ResponseEntity<BulkUpdateResultDto> transferStudents(
+            @Valid @RequestBody StudentBulkTransferDto studentBulkTransferDto) {
+        BulkUpdateResultDto result = studentBulkService.transferStudents(studentBulkTransferDto);
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/bulk/update")
+    public ResponseEntity<BulkUpdateResultDto> updateStudents(
+            @Valid @RequestBody StudentBulkUpdateDto studentBulkUpdateDto) {
+        BulkUpdateResultDto result = studentBulkService.updateStudents(studentBulkUpdateDto);
+        return ResponseEntity.ok(result);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<StudentDto> deleteStudent(@PathVariable long id) {
         StudentDto deletedStudent = studentService.deleteStudent(id);
@@ -50,6 +81,18 @@ public class StudentController {
         return ResponseEntity.ok(students);
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResultDto<StudentDto>> getStudentsByIds(@RequestParam List<Long> ids) {
+        MultiGetResultDto<StudentDto> students = studentService.findStudents(ids);
+        return ResponseEntity.ok(students);
+    }
+
+    @PostMapping("/lookup")
+    public ResponseEntity<MultiGetResultDto<StudentDto>> lookupStudents(@Valid @RequestBody IdListDto idListDto) {
+        MultiGetResultDto<StudentDto> students = studentService.findStudents(idListDto.ids());
+        return ResponseEntity.ok(students);
+    }
+
     @GetMapping("/age/{age}")
     public ResponseEntity<List<StudentDto>> getStudentByAge(@PathVariable int age) {
         List<StudentDto> students = studentService.getStudentsByAge(age);
@@ -65,6 +108,16 @@ public class StudentController {
         return ResponseEntity.ok(students);
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<List<StudentSearchResultDto>> searchStudents(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        List<StudentSearchResultDto> students = studentService.searchStudents(query, page, size);
+        return ResponseEntity.ok(students);
+    }
+
     @GetMapping("{id}/faculty")
     public ResponseEntity<FacultyDto> getStudentFaculty(@PathVariable long id) {
         FacultyDto faculty = studentService.getStudentFacultyDto(id);
@@ -72,8 +125,14 @@ public class StudentController {
     }
 
     @GetMapping("/count")
-    public ResponseEntity<Integer> getTotalCountOfStudents() {
-        Integer count = studentService.getTotalCountOfStudents();
+    public ResponseEntity<Long> getTotalCountOfStudents() {
+        Long count = studentService.getTotalCountOfStudents();
+        return ResponseEntity.ok(count);
+    }
+
+    @GetMapping("/count/estimate")
+    public ResponseEntity<StudentCountDto> estimateTotalCountOfStudents() {
+        StudentCountDto count = studentService.estimateTotalCountOfStudents();
         return ResponseEntity.ok(count);
     }
 
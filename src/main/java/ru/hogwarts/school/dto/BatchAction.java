@@ -0,0 +1,7 @@
+package ru.hogwarts.school.dto;
+
+public enum BatchAction {
+    CREATE,
+    UPDATE,
+    DELETE
+}
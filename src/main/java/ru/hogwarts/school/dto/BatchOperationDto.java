@@ -0,0 +1,17 @@
+package ru.hogwarts.school.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.constraints.NotNull;
+
+public record BatchOperationDto(
+        @NotNull(message = "Resource is mandatory")
+        BatchResource resource,
+
+        @NotNull(message = "Action is mandatory")
+        BatchAction action,
+
+        Long id,
+
+        JsonNode body
+) {
+}
@@ -0,0 +1,11 @@
+package ru.hogwarts.school.dto;
+
+public record BatchOperationResultDto(
+        int index,
+        BatchResource resource,
+        BatchAction action,
+        int status,
+        Object body,
+        ErrorResponse error
+) {
+}
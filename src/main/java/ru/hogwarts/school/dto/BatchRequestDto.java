@@ -0,0 +1,22 @@
+package ru.hogwarts.school.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchRequestDto(
+        @NotEmpty(message = "Operations are mandatory")
+        @Size(max = 100, message = "At most 100 operations per batch")
+        List<@NotNull @Valid BatchOperationDto> operations,
+
+        Boolean atomic
+) {
+    public BatchRequestDto {
+        if (atomic == null) {
+            atomic = true;
+        }
+    }
+}
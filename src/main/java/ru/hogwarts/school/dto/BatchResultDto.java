@@ -0,0 +1,13 @@
+package ru.hogwarts.school.dto;
+
+import java.util.List;
+
+public record BatchResultDto(
+        boolean atomic,
+        boolean committed,
+        int succeeded,
+        int failed,
+        List<BatchOperationResultDto> results,
+        ErrorResponse error
+) {
+}
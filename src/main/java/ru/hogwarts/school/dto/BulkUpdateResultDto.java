@@ -0,0 +1,7 @@
+package ru.hogwarts.school.dto;
+
+public record BulkUpdateResultDto(
+        long affected,
+        int chunks
+) {
+}
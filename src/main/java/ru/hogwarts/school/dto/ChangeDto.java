@@ -0,0 +1,12 @@
+package ru.hogwarts.school.dto;
+
+import ru.hogwarts.school.model.ChangeEntityType;
+
+public record ChangeDto(
+        ChangeEntityType entityType,
+        Long id,
+        long changeVersion,
+        boolean deleted,
+        Object data
+) {
+}
@@ -0,0 +1,10 @@
+package ru.hogwarts.school.dto;
+
+import java.util.List;
+
+public record ChangeFeedDto(
+        List<ChangeDto> changes,
+        long nextSince,
+        boolean hasMore
+) {
+}
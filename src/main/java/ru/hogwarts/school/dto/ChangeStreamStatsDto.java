@@ -0,0 +1,11 @@
+package ru.hogwarts.school.dto;
+
+public record ChangeStreamStatsDto(
+        int subscribers,
+        long lastEventId,
+        long published,
+        long delivered,
+        long coalesced,
+        long evicted
+) {
+}
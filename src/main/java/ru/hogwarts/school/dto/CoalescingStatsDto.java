@@ -0,0 +1,11 @@
+package ru.hogwarts.school.dto;
+
+public record CoalescingStatsDto(
+        String method,
+        long calls,
+        long executions,
+        long deduplicated,
+        long cacheHits,
+        long staleHits
+) {
+}
@@ -0,0 +1,14 @@
+package ru.hogwarts.school.dto;
+
+import java.util.List;
+
+public record ComputePoolStatsDto(
+        int parallelism,
+        int maxConcurrent,
+        int availablePermits,
+        int queuedCallers,
+        int activeThreads,
+        long stealCount,
+        List<ComputeTaskStatsDto> tasks
+) {
+}
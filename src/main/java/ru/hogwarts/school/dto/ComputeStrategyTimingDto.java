@@ -0,0 +1,12 @@
+package ru.hogwarts.school.dto;
+
+public record ComputeStrategyTimingDto(
+        String strategy,
+        long result,
+        int warmupIterations,
+        int iterations,
+        long minNanos,
+        long medianNanos,
+        long p99Nanos
+) {
+}
@@ -0,0 +1,11 @@
+package ru.hogwarts.school.dto;
+
+public record ComputeTaskStatsDto(
+        String task,
+        long parallelRuns,
+        long sequentialRuns,
+        long rejected,
+        long cpuTimeMs,
+        long wallTimeMs
+) {
+}
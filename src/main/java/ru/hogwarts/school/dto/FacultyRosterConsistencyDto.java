@@ -0,0 +1,9 @@
+package ru.hogwarts.school.dto;
+
+public record FacultyRosterConsistencyDto(
+        long rosterEntries,
+        long missingEntries,
+        long staleEntries,
+        boolean consistent
+) {
+}
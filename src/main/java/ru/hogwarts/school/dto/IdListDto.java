@@ -0,0 +1,14 @@
+package ru.hogwarts.school.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import ru.hogwarts.school.util.MultiGetUtil;
+
+import java.util.List;
+
+public record IdListDto(
+        @NotNull(message = "IDs are mandatory")
+        @Size(max = MultiGetUtil.MAX_IDS, message = "At most " + MultiGetUtil.MAX_IDS + " IDs per request")
+        List<Long> ids
+) {
+}
@@ -0,0 +1,9 @@
+package ru.hogwarts.school.dto;
+
+import java.util.List;
+
+public record MultiGetResultDto<T>(
+        List<T> items,
+        List<Long> missingIds
+) {
+}
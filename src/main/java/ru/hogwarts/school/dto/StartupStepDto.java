@@ -0,0 +1,9 @@
+package ru.hogwarts.school.dto;
+
+public record StartupStepDto(
+        String name,
+        String detail,
+        long durationMs,
+        long selfMs
+) {
+}
@@ -0,0 +1,16 @@
+package ru.hogwarts.school.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record StartupTimelineDto(
+        boolean recorded,
+        Instant startedAt,
+        long readyMs,
+        int steps,
+        List<StartupStepDto> slowestSteps
+) {
+    public static StartupTimelineDto notRecorded() {
+        return new StartupTimelineDto(false, null, 0, 0, List.of());
+    }
+}
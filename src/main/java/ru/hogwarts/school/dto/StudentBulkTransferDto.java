@@ -0,0 +1,17 @@
+package ru.hogwarts.school.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record StudentBulkTransferDto(
+        Long fromFacultyId,
+
+        @Size(max = 10_000, message = "At most 10000 student IDs per request")
+        List<Long> studentIds,
+
+        @NotNull(message = "Target faculty ID is mandatory")
+        Long toFacultyId
+) {
+}
@@ -0,0 +1,21 @@
+package ru.hogwarts.school.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+public record StudentBulkUpdateDto(
+        Long facultyId,
+
+        Integer minAge,
+
+        Integer maxAge,
+
+        @Min(value = 15, message = "Student must be at least 15 years old")
+        @Max(value = 100, message = "Student age must be reasonable")
+        Integer age,
+
+        @Min(value = -85, message = "Age delta must be between -85 and 85")
+        @Max(value = 85, message = "Age delta must be between -85 and 85")
+        Integer ageDelta
+) {
+}
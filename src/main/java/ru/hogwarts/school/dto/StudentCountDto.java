@@ -0,0 +1,10 @@
+package ru.hogwarts.school.dto;
+
+import java.time.Instant;
+
+public record StudentCountDto(
+        long count,
+        boolean exact,
+        Instant asOf
+) {
+}
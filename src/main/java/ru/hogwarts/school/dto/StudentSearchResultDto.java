@@ -0,0 +1,10 @@
+package ru.hogwarts.school.dto;
+
+public record StudentSearchResultDto(
+        Long id,
+        String name,
+        int age,
+        Long facultyId,
+        double score
+) {
+}
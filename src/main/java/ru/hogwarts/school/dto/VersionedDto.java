@@ -0,0 +1,7 @@
+package ru.hogwarts.school.dto;
+
+public record VersionedDto<T>(
+        T body,
+        long version
+) {
+}
@@ -0,0 +1,21 @@
+package ru.hogwarts.school.event;
+
+import java.util.List;
+
+/**
+ * Published locally when another instance reports committed changes. {@code flushAll} means messages from
+ * the cluster may have been missed and every local cache should be dropped; {@code changes} is then empty.
+ */
+public record ClusterInvalidationEvent(
+        List<EntityChangedEvent> changes,
+        boolean flushAll
+) {
+
+    public static ClusterInvalidationEvent of(List<EntityChangedEvent> changes) {
+        return new ClusterInvalidationEvent(List.copyOf(changes), false);
+    }
+
+    public static ClusterInvalidationEvent flush() {
+        return new ClusterInvalidationEvent(List.of(), true);
+    }
+}
@@ -0,0 +1,47 @@
+package ru.hogwarts.school.event;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Published by services after a student, faculty or avatar write. {@code facultyIds} lists every faculty
+ * whose derived views (student lists, counts, student IDs) may have changed. A {@code null} entity ID means
+ * several entities of the type may have changed: only within those faculties if {@code facultyIds} is
+ * non-empty, otherwise anywhere. Avatar events carry the avatar ID, the same ID {@code GET /changes} reports
+ * for avatar rows.
+ */
+public record EntityChangedEvent(
+        EntityType entityType,
+        Long entityId,
+        ChangeType changeType,
+        Set<Long> facultyIds
+) {
+
+    public static EntityChangedEvent student(Long studentId, ChangeType changeType, Long... facultyIds) {
+        return new EntityChangedEvent(EntityType.STUDENT, studentId, changeType, nonNullIds(facultyIds));
+    }
+
+    public static EntityChangedEvent students(ChangeType changeType, Collection<Long> facultyIds) {
+        return new EntityChangedEvent(EntityType.STUDENT, null, changeType,
+                nonNullIds(facultyIds.toArray(Long[]::new)));
+    }
+
+    public static EntityChangedEvent faculty(Long facultyId, ChangeType changeType) {
+        return new EntityChangedEvent(EntityType.FACULTY, facultyId, changeType, nonNullIds(facultyId));
+    }
+
+    public static EntityChangedEvent avatar(Long avatarId, ChangeType changeType) {
+        return new EntityChangedEvent(EntityType.AVATAR, avatarId, changeType, Set.of());
+    }
+
+    public static EntityChangedEvent allFaculties() {
+        return new EntityChangedEvent(EntityType.FACULTY, null, ChangeType.UPDATED, Set.of());
+    }
+
+    private static Set<Long> nonNullIds(Long... ids) {
+        return Arrays.stream(ids).filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,7 @@
+package ru.hogwarts.school.event;
+
+public enum EntityType {
+    STUDENT,
+    FACULTY,
+    AVATAR
+}
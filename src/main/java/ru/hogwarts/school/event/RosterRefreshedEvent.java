@@ -0,0 +1,16 @@
+package ru.hogwarts.school.event;
+
+import java.util.Set;
+
+/**
+ * Published by the roster subscriber after it rewrote the roster entries of {@code facultyIds}; an empty set
+ * means entries of any faculty may have changed. Responses built from the roster before the refresh are stale.
+ */
+public record RosterRefreshedEvent(
+        Set<Long> facultyIds
+) {
+
+    public RosterRefreshedEvent {
+        facultyIds = Set.copyOf(facultyIds);
+    }
+}
@@ -0,0 +1,11 @@
+package ru.hogwarts.school.exception;
+
+public class ChangeFeedExpiredException extends HogwartsException {
+    private static final String MESSAGE_TEMPLATE =
+            "Changes since version %d are no longer retained, resync from version 0";
+    private static final String ERROR_CODE = "CHANGE_FEED_EXPIRED";
+
+    public ChangeFeedExpiredException(long since) {
+        super(String.format(MESSAGE_TEMPLATE, since), ERROR_CODE);
+    }
+}
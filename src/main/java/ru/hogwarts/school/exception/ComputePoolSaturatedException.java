@@ -0,0 +1,10 @@
+package ru.hogwarts.school.exception;
+
+public class ComputePoolSaturatedException extends HogwartsException {
+    private static final String MESSAGE_TEMPLATE = "Compute pool is saturated, %s rejected after waiting %d ms";
+    private static final String ERROR_CODE = "COMPUTE_POOL_SATURATED";
+
+    public ComputePoolSaturatedException(String taskName, long waitedMillis) {
+        super(String.format(MESSAGE_TEMPLATE, taskName, waitedMillis), ERROR_CODE);
+    }
+}
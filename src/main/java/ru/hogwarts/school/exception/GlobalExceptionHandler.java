@@ -1,5 +1,6 @@
 package ru.hogwarts.school.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -8,6 +9,7 @@ import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import ru.hogwarts.school.dto.ErrorResponse;
+import ru.hogwarts.school.util.EntityTagUtil;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -26,6 +28,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(errorResponse);
     }
 
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleVersionConflict(VersionConflictException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), List.of(ex.getErrorCode()));
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                             .eTag(EntityTagUtil.toEntityTag(ex.getCurrentVersion()))
+                             .body(errorResponse);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "Entity was modified concurrently",
+                List.of("CONCURRENT_MODIFICATION")
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(
             MethodArgumentNotValidException ex) {
@@ -60,10 +79,14 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
 
-    private HttpStatus determineHttpStatus(HogwartsException ex) {
+    public static HttpStatus determineHttpStatus(HogwartsException ex) {
         return switch (ex.getErrorCode()) {
             case "STUDENT_NOT_FOUND", "FACULTY_NOT_FOUND", "AVATAR_NOT_FOUND" -> HttpStatus.NOT_FOUND;
-            case "INVALID_FILE" -> HttpStatus.BAD_REQUEST;
+            case "INVALID_FILE", "INVALID_COMPUTE_REQUEST", "INVALID_BULK_UPDATE",
+                 "INVALID_PRECONDITION", "INVALID_MULTI_GET",
+                 "INVALID_CHANGE_FEED_REQUEST" -> HttpStatus.BAD_REQUEST;
+            case "CHANGE_FEED_EXPIRED" -> HttpStatus.GONE;
+            case "COMPUTE_POOL_SATURATED", "GROUP_COMMIT_TIMEOUT" -> HttpStatus.SERVICE_UNAVAILABLE;
             default -> HttpStatus.INTERNAL_SERVER_ERROR;
         };
     }
@@ -0,0 +1,11 @@
+package ru.hogwarts.school.exception;
+
+public class GroupCommitTimeoutException extends HogwartsException {
+    private static final String MESSAGE_TEMPLATE =
+            "Student create was not committed within %d ms and may still be committed";
+    private static final String ERROR_CODE = "GROUP_COMMIT_TIMEOUT";
+
+    public GroupCommitTimeoutException(long waitedMillis) {
+        super(String.format(MESSAGE_TEMPLATE, waitedMillis), ERROR_CODE);
+    }
+}
@@ -0,0 +1,9 @@
+package ru.hogwarts.school.exception;
+
+public class InvalidBulkUpdateException extends HogwartsException {
+    private static final String ERROR_CODE = "INVALID_BULK_UPDATE";
+
+    public InvalidBulkUpdateException(String message) {
+        super(message, ERROR_CODE);
+    }
+}
@@ -0,0 +1,9 @@
+package ru.hogwarts.school.exception;
+
+public class InvalidChangeFeedRequestException extends HogwartsException {
+    private static final String ERROR_CODE = "INVALID_CHANGE_FEED_REQUEST";
+
+    public InvalidChangeFeedRequestException(String message) {
+        super(message, ERROR_CODE);
+    }
+}
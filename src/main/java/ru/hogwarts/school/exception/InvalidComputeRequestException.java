@@ -0,0 +1,14 @@
+package ru.hogwarts.school.exception;
+
+public class InvalidComputeRequestException extends HogwartsException {
+    private static final String UNKNOWN_STRATEGY_TEMPLATE = "Unknown compute strategy '%s', available: %s";
+    private static final String ERROR_CODE = "INVALID_COMPUTE_REQUEST";
+
+    public InvalidComputeRequestException(String message) {
+        super(message, ERROR_CODE);
+    }
+
+    public static InvalidComputeRequestException unknownStrategy(String strategy, Object available) {
+        return new InvalidComputeRequestException(String.format(UNKNOWN_STRATEGY_TEMPLATE, strategy, available));
+    }
+}
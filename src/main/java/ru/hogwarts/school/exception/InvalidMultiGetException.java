@@ -0,0 +1,10 @@
+package ru.hogwarts.school.exception;
+
+public class InvalidMultiGetException extends HogwartsException {
+    private static final String MESSAGE_TEMPLATE = "At most %d IDs can be fetched at once, got %d";
+    private static final String ERROR_CODE = "INVALID_MULTI_GET";
+
+    public InvalidMultiGetException(int maxIds, int requestedIds) {
+        super(String.format(MESSAGE_TEMPLATE, maxIds, requestedIds), ERROR_CODE);
+    }
+}
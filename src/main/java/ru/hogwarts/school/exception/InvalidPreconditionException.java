@@ -0,0 +1,9 @@
+package ru.hogwarts.school.exception;
+
+public class InvalidPreconditionException extends HogwartsException {
+    private static final String ERROR_CODE = "INVALID_PRECONDITION";
+
+    public InvalidPreconditionException(String message) {
+        super(message, ERROR_CODE);
+    }
+}
@@ -0,0 +1,17 @@
+package ru.hogwarts.school.exception;
+
+public class VersionConflictException extends HogwartsException {
+    private static final String MESSAGE_TEMPLATE = "%s with ID %d is at version %d, expected %d";
+    private static final String ERROR_CODE = "VERSION_CONFLICT";
+
+    private final long currentVersion;
+
+    public VersionConflictException(String entity, Long entityId, long currentVersion, long expectedVersion) {
+        super(String.format(MESSAGE_TEMPLATE, entity, entityId, currentVersion, expectedVersion), ERROR_CODE);
+        this.currentVersion = currentVersion;
+    }
+
+    public long getCurrentVersion() {
+        return currentVersion;
+    }
+}
@@ -13,6 +13,7 @@ public interface AvatarMapper {
 
     @Mapping(target = "student", ignore = true)
     @Mapping(target = "data", ignore = true)
+    @Mapping(target = "changeVersion", ignore = true)
     Avatar toEntity(AvatarInfoDto avatarInfoDto);
 
     @Mapping(target = "studentId", source = "student.id")
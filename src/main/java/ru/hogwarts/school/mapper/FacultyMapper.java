@@ -17,14 +17,17 @@ public interface FacultyMapper {
     FacultyDto toDto(Faculty faculty);
 
     @Mapping(target = "students", ignore = true)
+    @Mapping(target = "changeVersion", ignore = true)
     Faculty toEntity(FacultyDto facultyDto);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "students", ignore = true)
+    @Mapping(target = "changeVersion", ignore = true)
     Faculty toEntity(FacultyCreateDto facultyCreateDto);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "students", ignore = true)
+    @Mapping(target = "changeVersion", ignore = true)
     Faculty toEntity(FacultyUpdateDto facultyUpdateDto);
 
     List<FacultyDto> toDtoList(List<Faculty> faculties);
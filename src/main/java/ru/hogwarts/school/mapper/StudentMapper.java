@@ -17,16 +17,19 @@ public interface StudentMapper {
 
     @Mapping(target = "faculty", ignore = true)
     @Mapping(target = "avatar", ignore = true)
+    @Mapping(target = "changeVersion", ignore = true)
     Student toEntity(StudentDto studentDto);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "faculty", ignore = true)
     @Mapping(target = "avatar", ignore = true)
+    @Mapping(target = "changeVersion", ignore = true)
     Student toEntity(StudentCreateDto studentCreateDto);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "faculty", ignore = true)
     @Mapping(target = "avatar", ignore = true)
+    @Mapping(target = "changeVersion", ignore = true)
     Student toEntity(StudentUpdateDto studentUpdateDto);
 
     List<StudentDto> toDtoList(List<Student> students);
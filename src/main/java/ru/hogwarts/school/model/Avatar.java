@@ -1,18 +1,20 @@
 package ru.hogwarts.school.model;
 
 import jakarta.persistence.*;
-
-import java.util.Arrays;
-import java.util.Objects;
+import ru.hogwarts.school.sync.ChangeVersionListener;
 
 @Entity
+@EntityListeners(ChangeVersionListener.class)
 @Table(name = "AVATARS")
-public class Avatar {
+public class Avatar implements ChangeTracked {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
+
     @Column(name = "file_path")
     private String filePath;
 
@@ -23,6 +25,7 @@ public class Avatar {
     private String mediaType;
 
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "data")
     private byte[] data;
 
@@ -50,6 +53,21 @@ public class Avatar {
         this.id = id;
     }
 
+    @Override
+    public long getChangeVersion() {
+        return changeVersion;
+    }
+
+    @Override
+    public void setChangeVersion(long changeVersion) {
+        this.changeVersion = changeVersion;
+    }
+
+    @Override
+    public ChangeEntityType changeEntityType() {
+        return ChangeEntityType.AVATAR;
+    }
+
     public String getFilePath() {
         return filePath;
     }
@@ -95,23 +113,15 @@ public class Avatar {
         if (this == o) {
             return true;
         }
-        if (o == null || getClass() != o.getClass()){
+        if (!(o instanceof Avatar avatar)) {
             return false;
         }
-        Avatar avatar = (Avatar) o;
-        return fileSize == avatar.fileSize &&
-                Objects.equals(id, avatar.id) &&
-                Objects.equals(filePath, avatar.filePath) &&
-                Objects.equals(mediaType, avatar.mediaType) &&
-                Arrays.equals(data, avatar.data) &&
-                Objects.equals(student, avatar.student);
+        return id != null && id.equals(avatar.getId());
     }
 
     @Override
     public int hashCode() {
-        int result = Objects.hash(id, filePath, fileSize, mediaType, student);
-        result = 31 * result + Arrays.hashCode(data);
-        return result;
+        return Avatar.class.hashCode();
     }
 
     @Override
@@ -121,7 +131,6 @@ public class Avatar {
                 ", filePath='" + filePath + '\'' +
                 ", fileSize=" + fileSize +
                 ", mediaType='" + mediaType + '\'' +
-                ", data=" + (data != null ? data.length + "bytes" : "null") +
                 ", student=" + (student != null ? student.getId() : "null") +
                 '}';
     }
@@ -0,0 +1,51 @@
+package ru.hogwarts.school.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Record of a deleted row. Tombstones share the change sequence with live rows, so one version cursor covers
+ * both modifications and deletions.
+ */
+@Entity
+@Table(name = "CHANGE_TOMBSTONES")
+public class ChangeTombstone {
+
+    public static final String CHANGE_VERSION_SEQUENCE = "change_version_seq";
+
+    @Id
+    @SequenceGenerator(name = "change_version", sequenceName = CHANGE_VERSION_SEQUENCE, allocationSize = 1)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "change_version")
+    @Column(name = "change_version")
+    private Long changeVersion;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 32)
+    private ChangeEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+    public ChangeTombstone() {
+    }
+
+    public Long getChangeVersion() {
+        return changeVersion;
+    }
+
+    public ChangeEntityType getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+}
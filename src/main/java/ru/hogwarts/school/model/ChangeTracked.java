@@ -0,0 +1,16 @@
+package ru.hogwarts.school.model;
+
+/**
+ * Entity whose rows carry a {@code change_version} drawn from the shared change sequence on every insert and
+ * update, so that clients can ask for everything changed after a version they have already seen.
+ */
+public interface ChangeTracked {
+
+    Long getId();
+
+    long getChangeVersion();
+
+    void setChangeVersion(long changeVersion);
+
+    ChangeEntityType changeEntityType();
+}
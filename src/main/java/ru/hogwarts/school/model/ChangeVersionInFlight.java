@@ -0,0 +1,33 @@
+package ru.hogwarts.school.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Floor below every change version an open transaction may still commit. Written and deleted by
+ * {@link ru.hogwarts.school.sync.ChangeVersionGenerator} outside the transaction it describes, so every instance
+ * sees it while the transaction is running.
+ */
+@Entity
+@Table(name = "CHANGE_VERSIONS_IN_FLIGHT")
+public class ChangeVersionInFlight {
+
+    @Id
+    @Column(name = "floor_version")
+    private Long floorVersion;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    public ChangeVersionInFlight() {
+    }
+
+    public Long getFloorVersion() {
+        return floorVersion;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+}
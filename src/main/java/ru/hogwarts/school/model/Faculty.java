@@ -2,19 +2,29 @@ package ru.hogwarts.school.model;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+import ru.hogwarts.school.sync.ChangeVersionListener;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 
 @Entity
+@EntityListeners(ChangeVersionListener.class)
+@DynamicUpdate
 @Table(name = "FACULTIES")
-public class Faculty {
+public class Faculty implements ChangeTracked {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
+
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @Column(nullable = false)
     private String name;
 
@@ -41,6 +51,25 @@ public class Faculty {
         this.id = id;
     }
 
+    @Override
+    public long getChangeVersion() {
+        return changeVersion;
+    }
+
+    @Override
+    public void setChangeVersion(long changeVersion) {
+        this.changeVersion = changeVersion;
+    }
+
+    @Override
+    public ChangeEntityType changeEntityType() {
+        return ChangeEntityType.FACULTY;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
     public String getName() {
         return name;
     }
@@ -70,18 +99,15 @@ public class Faculty {
         if (this == o) {
             return true;
         }
-        if (o == null || getClass() != o.getClass()) {
+        if (!(o instanceof Faculty faculty)) {
             return false;
         }
-        Faculty faculty = (Faculty) o;
-        return Objects.equals(id, faculty.id) &&
-                Objects.equals(name, faculty.name) &&
-                Objects.equals(color, faculty.color);
+        return id != null && id.equals(faculty.getId());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, name, color);
+        return Faculty.class.hashCode();
     }
 
     @Override
@@ -90,7 +116,6 @@ public class Faculty {
                 "id=" + id +
                 ", name='" + name + '\'' +
                 ", color='" + color + '\'' +
-                ", studentsCount=" + students.size() +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package ru.hogwarts.school.model;
+
+import jakarta.persistence.*;
+
+import java.util.Objects;
+
+@Entity
+@Table(name = "FACULTY_ROSTERS", indexes = @Index(name = "idx_faculty_rosters_faculty_id", columnList = "faculty_id"))
+public class FacultyRosterEntry {
+
+    @Id
+    @Column(name = "student_id")
+    private Long studentId;
+
+    @Column(name = "faculty_id", nullable = false)
+    private Long facultyId;
+
+    @Column(name = "student_name", nullable = false)
+    private String studentName;
+
+    @Column(name = "student_age", nullable = false)
+    private int studentAge;
+
+    public FacultyRosterEntry() {
+    }
+
+    public FacultyRosterEntry(Long studentId, Long facultyId, String studentName, int studentAge) {
+        this.studentId = studentId;
+        this.facultyId = facultyId;
+        this.studentName = studentName;
+        this.studentAge = studentAge;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public Long getFacultyId() {
+        return facultyId;
+    }
+
+    public void setFacultyId(Long facultyId) {
+        this.facultyId = facultyId;
+    }
+
+    public String getStudentName() {
+        return studentName;
+    }
+
+    public void setStudentName(String studentName) {
+        this.studentName = studentName;
+    }
+
+    public int getStudentAge() {
+        return studentAge;
+    }
+
+    public void setStudentAge(int studentAge) {
+        this.studentAge = studentAge;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FacultyRosterEntry that = (FacultyRosterEntry) o;
+        return Objects.equals(studentId, that.studentId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(studentId);
+    }
+
+    @Override
+    public String toString() {
+        return "FacultyRosterEntry{" +
+                "studentId=" + studentId +
+                ", facultyId=" + facultyId +
+                ", studentName='" + studentName + '\'' +
+                ", studentAge=" + studentAge +
+                '}';
+    }
+}
@@ -0,0 +1,86 @@
+package ru.hogwarts.school.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Position of one outbox subscriber: the ID of the last event it has handled, plus the IDs below it that were
+ * skipped as gaps and are still re-checked in case their transaction commits late, each with the time it was
+ * skipped.
+ */
+@Entity
+@Table(name = "OUTBOX_CHECKPOINTS")
+public class OutboxCheckpoint {
+
+    @Id
+    @Column(length = 128)
+    private String consumer;
+
+    @Column(name = "last_event_id", nullable = false)
+    private long lastEventId;
+
+    static final int SKIPPED_IDS_LENGTH = 4000;
+
+    @Column(name = "skipped_ids", nullable = false, length = SKIPPED_IDS_LENGTH)
+    private String skippedIds = "";
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public OutboxCheckpoint() {
+    }
+
+    public OutboxCheckpoint(String consumer) {
+        this.consumer = consumer;
+        this.updatedAt = Instant.now();
+    }
+
+    public String getConsumer() {
+        return consumer;
+    }
+
+    public long getLastEventId() {
+        return lastEventId;
+    }
+
+    public void advanceTo(long eventId) {
+        this.lastEventId = eventId;
+        this.updatedAt = Instant.now();
+    }
+
+    public NavigableMap<Long, Instant> getSkippedIds() {
+        NavigableMap<Long, Instant> skipped = new TreeMap<>();
+        if (!skippedIds.isEmpty()) {
+            Arrays.stream(skippedIds.split(","))
+                  .map(entry -> entry.split(":"))
+                  .forEach(parts -> skipped.put(Long.valueOf(parts[0]),
+                          Instant.ofEpochMilli(Long.parseLong(parts[1]))));
+        }
+        return skipped;
+    }
+
+    public void setSkippedIds(Map<Long, Instant> skipped) {
+        this.skippedIds = skipped.entrySet().stream()
+                                 .map(entry -> entry.getKey() + ":" + entry.getValue().toEpochMilli())
+                                 .collect(Collectors.joining(","));
+        this.updatedAt = Instant.now();
+    }
+
+    /**
+     * Highest ID below which every event has been handled or given up on.
+     */
+    public long getDeliveredThrough() {
+        NavigableMap<Long, Instant> skipped = getSkippedIds();
+        return skipped.isEmpty() ? lastEventId : Math.min(lastEventId, skipped.firstKey() - 1);
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,86 @@
+package ru.hogwarts.school.model;
+
+import jakarta.persistence.*;
+import ru.hogwarts.school.event.ChangeType;
+import ru.hogwarts.school.event.EntityChangedEvent;
+import ru.hogwarts.school.event.EntityType;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * An {@link EntityChangedEvent} stored in the write transaction that caused it. If the affected faculty IDs
+ * do not fit the column, the event is widened to "any entity of this type anywhere", which subscribers
+ * already have to handle.
+ */
+@Entity
+@Table(name = "OUTBOX_EVENTS")
+public class OutboxEvent {
+
+    static final int FACULTY_IDS_LENGTH = 2000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 32)
+    private EntityType aggregateType;
+
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 16)
+    private ChangeType changeType;
+
+    @Column(name = "faculty_ids", nullable = false, length = FACULTY_IDS_LENGTH)
+    private String facultyIds;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public OutboxEvent() {
+    }
+
+    public static OutboxEvent from(EntityChangedEvent event) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.aggregateType = event.entityType();
+        outboxEvent.changeType = event.changeType();
+        outboxEvent.createdAt = Instant.now();
+
+        String facultyIds = event.facultyIds().stream().sorted().map(String::valueOf).collect(Collectors.joining(","));
+        if (facultyIds.length() > FACULTY_IDS_LENGTH) {
+            outboxEvent.facultyIds = "";
+        } else {
+            outboxEvent.aggregateId = event.entityId();
+            outboxEvent.facultyIds = facultyIds;
+        }
+        return outboxEvent;
+    }
+
+    public EntityChangedEvent toEvent() {
+        Set<Long> ids = facultyIds.isEmpty()
+                ? Set.of()
+                : Arrays.stream(facultyIds.split(",")).map(Long::valueOf).collect(Collectors.toUnmodifiableSet());
+        return new EntityChangedEvent(aggregateType, aggregateId, changeType, ids);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public EntityType getAggregateType() {
+        return aggregateType;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -3,29 +3,42 @@ package ru.hogwarts.school.model;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
-
-import java.util.Objects;
+import org.hibernate.annotations.DynamicUpdate;
+import ru.hogwarts.school.sync.ChangeVersionListener;
+import ru.hogwarts.school.util.NameTransliterator;
 
 @Entity
+@EntityListeners(ChangeVersionListener.class)
+@DynamicUpdate
 @Table(name = "STUDENTS")
-public class Student {
+public class Student implements ChangeTracked {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
+
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @Column(nullable = false)
     private String name;
 
     @Column(nullable = false)
     private int age;
 
+    @Column(name = "search_name")
+    private String searchName;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "faculty_id")
     @JsonBackReference("faculty-students")
     private Faculty faculty;
 
-    @OneToOne(mappedBy = "student", cascade = CascadeType.ALL)
+    @OneToOne(mappedBy = "student", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @JsonIgnore
     private Avatar avatar;
 
@@ -45,6 +58,25 @@ public class Student {
         this.id = id;
     }
 
+    @Override
+    public long getChangeVersion() {
+        return changeVersion;
+    }
+
+    @Override
+    public void setChangeVersion(long changeVersion) {
+        this.changeVersion = changeVersion;
+    }
+
+    @Override
+    public ChangeEntityType changeEntityType() {
+        return ChangeEntityType.STUDENT;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
     public String getName() {
         return name;
     }
@@ -61,6 +93,16 @@ public class Student {
         this.age = age;
     }
 
+    public String getSearchName() {
+        return searchName;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void refreshSearchName() {
+        this.searchName = NameTransliterator.normalize(name);
+    }
+
     public Faculty getFaculty() {
         return faculty;
     }
@@ -82,19 +124,15 @@ public class Student {
         if (this == o) {
             return true;
         }
-        if (o == null || getClass() != o.getClass()) {
+        if (!(o instanceof Student student)) {
             return false;
         }
-        Student student = (Student) o;
-        return age == student.age &&
-                Objects.equals(id, student.id) &&
-                Objects.equals(name, student.name) &&
-                Objects.equals(faculty, student.faculty);
+        return id != null && id.equals(student.getId());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, name, age, faculty);
+        return Student.class.hashCode();
     }
 
     @Override
@@ -103,7 +141,7 @@ public class Student {
                 "id=" + id +
                 ", name='" + name + '\'' +
                 ", age=" + age +
-                ", faculty=" + (faculty != null ? faculty.getName(): "null") +
+                ", facultyId=" + (faculty != null ? faculty.getId() : "null") +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,253 @@
+package ru.hogwarts.school.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.hogwarts.school.config.OutboxProperties;
+import ru.hogwarts.school.model.OutboxCheckpoint;
+import ru.hogwarts.school.model.OutboxEvent;
+import ru.hogwarts.school.repository.OutboxCheckpointRepository;
+import ru.hogwarts.school.repository.OutboxEventRepository;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers outbox events to {@link OutboxSubscriber}s. A pass for one subscriber locks its checkpoint row,
+ * reads up to {@code batchSize} later events in ID order, hands them over and advances the checkpoint in the
+ * same transaction. The lock lets one instance at a time deliver to a subscriber, and ID order implies order
+ * per aggregate. Delivery is at-least-once: an event whose handler fails ends the pass and is retried on the
+ * next one, before anything after it.
+ * <p>
+ * IDs are allocated at insert but become visible at commit, so a pass stops before a missing ID until it has
+ * been missing for {@code gapTimeoutMs}; after that the pass moves on but keeps the ID on the checkpoint. Every
+ * later pass first looks for skipped IDs that have since committed and delivers them, out of ID order, until
+ * {@code lateCommitWindowMs} has passed and the ID is taken as a rollback. Pruning never passes a skipped ID.
+ */
+public class OutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    // Keeps the checkpoint's skipped_ids column bounded; IDs beyond this are not re-checked
+    static final int MAX_SKIPPED_IDS = 100;
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxCheckpointRepository outboxCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final List<OutboxSubscriber> subscribers;
+    private final OutboxProperties properties;
+    private final Map<String, Gap> gaps = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            OutboxCheckpointRepository outboxCheckpointRepository,
+                            TransactionTemplate transactionTemplate, List<OutboxSubscriber> subscribers,
+                            OutboxProperties properties) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxCheckpointRepository = outboxCheckpointRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.subscribers = List.copyOf(subscribers);
+        this.properties = properties;
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::dispatchQuietly, properties.pollIntervalMs(),
+                properties.pollIntervalMs(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::pruneQuietly, properties.pruneIntervalMs(),
+                properties.pruneIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs one delivery pass for every subscriber and returns the number of events handled.
+     */
+    public synchronized int dispatch() {
+        int handled = 0;
+        for (OutboxSubscriber subscriber : subscribers) {
+            try {
+                Integer count = transactionTemplate.execute(status -> dispatchBatch(subscriber));
+                handled += count != null ? count : 0;
+            } catch (RuntimeException e) {
+                logger.warn("Outbox pass for subscriber {} rolled back, will retry", subscriber.name(), e);
+            }
+        }
+        return handled;
+    }
+
+    /**
+     * Deletes events that every subscriber has handled and that are older than the retention period.
+     */
+    public int prune() {
+        long upToId = Long.MAX_VALUE;
+        List<String> names = subscribers.stream().map(OutboxSubscriber::name).toList();
+        if (!names.isEmpty()) {
+            List<OutboxCheckpoint> checkpoints = outboxCheckpointRepository.findAllById(names);
+            upToId = checkpoints.size() < names.size()
+                    ? 0
+                    : checkpoints.stream().mapToLong(OutboxCheckpoint::getDeliveredThrough).min().orElse(0);
+        }
+        long limit = upToId;
+        Instant before = Instant.now().minusMillis(properties.retentionMs());
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteHandledBefore(limit, before));
+        logger.debug("Pruned {} outbox events up to ID {}", deleted, limit);
+        return deleted != null ? deleted : 0;
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+        try {
+            // A pass still running would race the checkpoint removal below and the data source shutdown
+            if (!scheduler.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("Outbox dispatcher did not stop within {} s", SHUTDOWN_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (OutboxSubscriber subscriber : subscribers) {
+            if (subscriber.instanceLocal()) {
+                removeCheckpointQuietly(subscriber.name());
+            }
+        }
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private int dispatchBatch(OutboxSubscriber subscriber) {
+        OutboxCheckpoint checkpoint = outboxCheckpointRepository.findForUpdate(subscriber.name())
+                                                                .orElseGet(() -> outboxCheckpointRepository.save(
+                                                                        new OutboxCheckpoint(subscriber.name())));
+        NavigableMap<Long, Instant> skipped = checkpoint.getSkippedIds();
+        int skippedBefore = skipped.size();
+        int handled = deliverLateCommits(subscriber, skipped);
+
+        long position = checkpoint.getLastEventId();
+        List<OutboxEvent> batch = outboxEventRepository.findByIdGreaterThanOrderByIdAsc(position,
+                PageRequest.of(0, properties.batchSize()));
+
+        for (OutboxEvent event : batch) {
+            if (event.getId() != position + 1) {
+                if (!gapExpired(subscriber.name(), position)) {
+                    break;
+                }
+                rememberSkipped(subscriber.name(), skipped, position + 1, event.getId() - 1);
+            }
+            try {
+                subscriber.handle(event.getId(), event.toEvent());
+            } catch (RuntimeException e) {
+                logger.warn("Outbox subscriber {} failed on event {}, will retry", subscriber.name(), event.getId(),
+                        e);
+                break;
+            }
+            position = event.getId();
+            handled++;
+        }
+
+        if (handled > 0 || skipped.size() != skippedBefore) {
+            checkpoint.setSkippedIds(skipped);
+            checkpoint.advanceTo(position);
+            // Subscribers may run clearing bulk queries, which detach the checkpoint loaded above
+            outboxCheckpointRepository.save(checkpoint);
+            logger.debug("Outbox subscriber {} handled {} events, checkpoint at {}", subscriber.name(), handled,
+                    position);
+        }
+        return handled;
+    }
+
+    private int deliverLateCommits(OutboxSubscriber subscriber, NavigableMap<Long, Instant> skipped) {
+        if (skipped.isEmpty()) {
+            return 0;
+        }
+        Instant giveUpBefore = Instant.now().minusMillis(properties.lateCommitWindowMs());
+        if (skipped.values().removeIf(skippedAt -> skippedAt.isBefore(giveUpBefore))) {
+            logger.debug("Outbox subscriber {} stopped waiting for some skipped events, {} still re-checked",
+                    subscriber.name(), skipped.size());
+        }
+
+        List<OutboxEvent> late = outboxEventRepository.findAllById(skipped.keySet()).stream()
+                                                      .sorted(Comparator.comparing(OutboxEvent::getId))
+                                                      .toList();
+        int handled = 0;
+        for (OutboxEvent event : late) {
+            try {
+                subscriber.handle(event.getId(), event.toEvent());
+            } catch (RuntimeException e) {
+                logger.warn("Outbox subscriber {} failed on late event {}, will retry", subscriber.name(),
+                        event.getId(), e);
+                break;
+            }
+            skipped.remove(event.getId());
+            handled++;
+        }
+        if (handled > 0) {
+            logger.info("Outbox subscriber {} handled {} events committed after their gap was skipped",
+                    subscriber.name(), handled);
+        }
+        return handled;
+    }
+
+    private void rememberSkipped(String consumer, NavigableMap<Long, Instant> skipped, long fromId, long toId) {
+        Instant now = Instant.now();
+        for (long id = fromId; id <= toId; id++) {
+            if (skipped.size() >= MAX_SKIPPED_IDS) {
+                logger.warn("Outbox subscriber {} already re-checks {} skipped events, IDs {}..{} will not be " +
+                        "re-checked", consumer, MAX_SKIPPED_IDS, id, toId);
+                return;
+            }
+            skipped.put(id, now);
+        }
+    }
+
+    private boolean gapExpired(String consumer, long position) {
+        long now = System.nanoTime();
+        Gap gap = gaps.compute(consumer, (name, seen) ->
+                seen != null && seen.afterId() == position ? seen : new Gap(position, now));
+        if (now - gap.firstSeenNanos() < TimeUnit.MILLISECONDS.toNanos(properties.gapTimeoutMs())) {
+            return false;
+        }
+        logger.warn("Skipping outbox gap after event {} for subscriber {}: not committed within {} ms, " +
+                        "re-checking for {} ms", position, consumer, properties.gapTimeoutMs(),
+                properties.lateCommitWindowMs());
+        return true;
+    }
+
+    private void dispatchQuietly() {
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            logger.warn("Outbox dispatch failed", e);
+        }
+    }
+
+    // A crashed instance leaves its row behind; prune only looks at this instance's subscribers, so it is inert
+    private void removeCheckpointQuietly(String consumer) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxCheckpointRepository.deleteById(consumer));
+        } catch (RuntimeException e) {
+            logger.warn("Could not remove outbox checkpoint of instance-local subscriber {}", consumer, e);
+        }
+    }
+
+    private void pruneQuietly() {
+        try {
+            prune();
+        } catch (RuntimeException e) {
+            logger.warn("Outbox prune failed", e);
+        }
+    }
+
+    private record Gap(long afterId, long firstSeenNanos) {
+    }
+}
@@ -0,0 +1,21 @@
+package ru.hogwarts.school.outbox;
+
+import ru.hogwarts.school.event.EntityChangedEvent;
+
+/**
+ * In-process consumer of outbox events, registered as a Spring bean. {@link #name()} keys the checkpoint, so
+ * it must be stable across restarts; a subscriber keeping in-memory state on each instance should make it
+ * unique per instance and report {@link #instanceLocal()}, so that its checkpoint is removed on shutdown.
+ * Handlers run in the transaction that advances the checkpoint and may see an event again after a failure or
+ * restart, so they must be idempotent.
+ */
+public interface OutboxSubscriber {
+
+    String name();
+
+    void handle(long eventId, EntityChangedEvent event);
+
+    default boolean instanceLocal() {
+        return false;
+    }
+}
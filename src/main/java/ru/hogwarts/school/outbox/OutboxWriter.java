@@ -0,0 +1,24 @@
+package ru.hogwarts.school.outbox;
+
+import org.springframework.context.event.EventListener;
+import ru.hogwarts.school.event.EntityChangedEvent;
+import ru.hogwarts.school.model.OutboxEvent;
+import ru.hogwarts.school.repository.OutboxEventRepository;
+
+/**
+ * Stores every {@link EntityChangedEvent} in the outbox as soon as it is published. Services publish inside
+ * the transaction making the change, so the outbox row commits or rolls back together with it.
+ */
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    public OutboxWriter(OutboxEventRepository outboxEventRepository) {
+        this.outboxEventRepository = outboxEventRepository;
+    }
+
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        outboxEventRepository.save(OutboxEvent.from(event));
+    }
+}
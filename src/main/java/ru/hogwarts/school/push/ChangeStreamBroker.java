@@ -0,0 +1,287 @@
+package ru.hogwarts.school.push;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.hogwarts.school.dto.ChangeStreamStatsDto;
+import ru.hogwarts.school.event.EntityChangedEvent;
+import ru.hogwarts.school.event.EntityType;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pushes committed student, faculty and avatar changes to Server-Sent Events subscribers. Every event gets a
+ * sequence number, and the last {@code replaySize} events are kept so that a client reconnecting with
+ * {@code Last-Event-ID} receives what it missed. Sequences restart with every broker, so the SSE ID is
+ * {@code <epoch>-<sequence>} with a random epoch per broker instance. If the gap is no longer covered, or the
+ * ID carries another epoch (a restart, or another node behind the load balancer), the client receives a
+ * {@code reset} event and should resynchronise through {@code GET /changes}.
+ * <p>
+ * A committing request only hands the event to a single publisher thread, which numbers it and enqueues it
+ * into each subscriber's bounded, coalescing buffer; a small dispatcher pool does the writes. A subscriber
+ * whose buffer overflows is disconnected instead of holding memory or delaying the others, and resumes from
+ * the replay buffer when it reconnects. An idle subscriber costs an async request and an empty buffer, not a
+ * thread.
+ */
+public class ChangeStreamBroker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeStreamBroker.class);
+
+    static final String CHANGE_EVENT = "change";
+    static final String RESET_EVENT = "reset";
+    private static final char EPOCH_SEPARATOR = '-';
+
+    private final String epoch;
+    private final Executor publisher;
+    private final Executor dispatcher;
+    private final ExecutorService ownedPublisher;
+    private final ScheduledExecutorService scheduler;
+    private final int bufferSize;
+    private final int replaySize;
+    private final long timeoutMillis;
+    private final ArrayDeque<SequencedChange> replay;
+    private final Set<ChangeStreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private long lastSequence;
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    public ChangeStreamBroker(int dispatchThreads, int bufferSize, int replaySize, long heartbeatIntervalMillis,
+                              long timeoutMillis) {
+        this(newEpoch(), newPublisher(), newScheduler(dispatchThreads), bufferSize, replaySize, timeoutMillis);
+        if (heartbeatIntervalMillis > 0) {
+            scheduler.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatIntervalMillis, heartbeatIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    ChangeStreamBroker(String epoch, Executor dispatcher, int bufferSize, int replaySize, long timeoutMillis) {
+        this(epoch, Runnable::run, dispatcher, bufferSize, replaySize, timeoutMillis);
+    }
+
+    ChangeStreamBroker(String epoch, Executor publisher, Executor dispatcher, int bufferSize, int replaySize,
+                       long timeoutMillis) {
+        this.epoch = epoch;
+        this.publisher = publisher;
+        this.dispatcher = dispatcher;
+        this.ownedPublisher = publisher instanceof ExecutorService owned ? owned : null;
+        this.scheduler = dispatcher instanceof ScheduledExecutorService owned ? owned : null;
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.timeoutMillis = timeoutMillis;
+        this.replay = new ArrayDeque<>(replaySize);
+    }
+
+    public SseEmitter subscribe(String lastEventId, Set<EntityType> types) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        register(emitter, lastEventId, types);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        publisher.execute(() -> publish(event));
+    }
+
+    public void sendHeartbeats() {
+        for (ChangeStreamSubscriber subscriber : subscribers) {
+            subscriber.requestHeartbeat();
+            schedule(subscriber);
+        }
+    }
+
+    public ChangeStreamStatsDto getStats() {
+        long lastEventId;
+        synchronized (replay) {
+            lastEventId = lastSequence;
+        }
+        return new ChangeStreamStatsDto(subscribers.size(), lastEventId, published.sum(), delivered.sum(),
+                coalesced.sum(), evicted.sum());
+    }
+
+    public void shutdown() {
+        if (ownedPublisher != null) {
+            ownedPublisher.shutdownNow();
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        for (ChangeStreamSubscriber subscriber : subscribers) {
+            unsubscribe(subscriber);
+            subscriber.emitter().complete();
+        }
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private void publish(EntityChangedEvent event) {
+        synchronized (replay) {
+            SequencedChange change = new SequencedChange(++lastSequence, event);
+            if (replay.size() == replaySize) {
+                replay.removeFirst();
+            }
+            replay.addLast(change);
+            published.increment();
+
+            for (ChangeStreamSubscriber subscriber : subscribers) {
+                if (!subscriber.accepts(event.entityType())) {
+                    continue;
+                }
+                switch (subscriber.offer(change)) {
+                    case OVERFLOW -> evict(subscriber);
+                    case COALESCED -> {
+                        coalesced.increment();
+                        schedule(subscriber);
+                    }
+                    case QUEUED -> schedule(subscriber);
+                }
+            }
+        }
+    }
+
+    void register(SseEmitter emitter, String lastEventId, Set<EntityType> types) {
+        ChangeStreamSubscriber subscriber = new ChangeStreamSubscriber(emitter,
+                types == null ? Set.of() : Set.copyOf(types), bufferSize);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> {
+            unsubscribe(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(error -> unsubscribe(subscriber));
+
+        synchronized (replay) {
+            if (lastEventId != null) {
+                replayTo(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        logger.debug("Change stream subscriber connected (Last-Event-ID: {}, types: {}), {} subscribers",
+                lastEventId, types, subscribers.size());
+        schedule(subscriber);
+    }
+
+    private void replayTo(ChangeStreamSubscriber subscriber, String lastEventId) {
+        long resumeAfter = parseEventId(lastEventId, epoch);
+        long oldestRetained = replay.isEmpty() ? lastSequence + 1 : replay.peekFirst().sequence();
+        if (resumeAfter < oldestRetained - 1 || resumeAfter > lastSequence) {
+            logger.debug("Last-Event-ID {} outside replay window {}..{} of epoch {}, sending reset", lastEventId,
+                    oldestRetained, lastSequence, epoch);
+            subscriber.requestReset(lastSequence);
+            return;
+        }
+        for (SequencedChange change : replay) {
+            if (change.sequence() > resumeAfter && subscriber.accepts(change.event().entityType())
+                    && subscriber.offer(change) == ChangeStreamSubscriber.Offer.OVERFLOW) {
+                subscriber.requestReset(lastSequence);
+                return;
+            }
+        }
+    }
+
+    private void schedule(ChangeStreamSubscriber subscriber) {
+        if (subscriber.tryMarkScheduled()) {
+            dispatcher.execute(() -> deliver(subscriber));
+        }
+    }
+
+    private void deliver(ChangeStreamSubscriber subscriber) {
+        SseEmitter emitter = subscriber.emitter();
+        do {
+            if (subscriber.isClosed()) {
+                return;
+            }
+            try {
+                long resetSequence = subscriber.takeReset();
+                if (resetSequence >= 0) {
+                    emitter.send(SseEmitter.event()
+                                           .id(eventId(resetSequence))
+                                           .name(RESET_EVENT)
+                                           .data(resetSequence));
+                }
+                List<SequencedChange> batch = subscriber.drain();
+                for (SequencedChange change : batch) {
+                    emitter.send(SseEmitter.event()
+                                           .id(eventId(change.sequence()))
+                                           .name(CHANGE_EVENT)
+                                           .data(change.event(), MediaType.APPLICATION_JSON));
+                    delivered.increment();
+                }
+                if (subscriber.takeHeartbeat() && batch.isEmpty() && resetSequence < 0) {
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                }
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("Change stream subscriber disconnected: {}", e.getMessage());
+                unsubscribe(subscriber);
+                return;
+            }
+        } while (subscriber.finishDelivery());
+    }
+
+    // Completion may wait for a write in progress on a dispatcher thread, so it never runs on the publisher
+    private void evict(ChangeStreamSubscriber subscriber) {
+        evicted.increment();
+        unsubscribe(subscriber);
+        logger.warn("Evicting slow change stream subscriber: more than {} undelivered changes", bufferSize);
+        dispatcher.execute(() -> subscriber.emitter().complete());
+    }
+
+    private void unsubscribe(ChangeStreamSubscriber subscriber) {
+        subscriber.close();
+        subscribers.remove(subscriber);
+    }
+
+    private String eventId(long sequence) {
+        return epoch + EPOCH_SEPARATOR + sequence;
+    }
+
+    // An ID from another epoch, or one that is not ours at all, parses as -1 and always triggers a reset
+    private static long parseEventId(String lastEventId, String epoch) {
+        String id = lastEventId.trim();
+        int separator = id.lastIndexOf(EPOCH_SEPARATOR);
+        if (separator < 0 || !id.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(id.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String newEpoch() {
+        return Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, Character.MAX_RADIX);
+    }
+
+    // One thread keeps sequence numbers in publication order
+    private static ExecutorService newPublisher() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "change-stream-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static ScheduledExecutorService newScheduler(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newScheduledThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "change-stream-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,137 @@
+package ru.hogwarts.school.push;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.hogwarts.school.event.ChangeType;
+import ru.hogwarts.school.event.EntityChangedEvent;
+import ru.hogwarts.school.event.EntityType;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One SSE connection and its pending events. Pending events are keyed by entity: a newer event for an entity
+ * that has not been sent yet replaces the older one and moves to the back, so sent IDs stay increasing and a
+ * burst of writes to one student costs one event. At most {@code capacity} distinct entities are buffered.
+ */
+final class ChangeStreamSubscriber {
+
+    enum Offer {
+        QUEUED,
+        COALESCED,
+        OVERFLOW
+    }
+
+    private static final long NO_RESET = -1;
+
+    private final SseEmitter emitter;
+    private final Set<EntityType> types;
+    private final int capacity;
+    private final LinkedHashMap<Key, SequencedChange> pending = new LinkedHashMap<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private long resetSequence = NO_RESET;
+    private volatile boolean heartbeatDue;
+    private volatile boolean closed;
+
+    ChangeStreamSubscriber(SseEmitter emitter, Set<EntityType> types, int capacity) {
+        this.emitter = emitter;
+        this.types = types;
+        this.capacity = capacity;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    boolean accepts(EntityType entityType) {
+        return types.isEmpty() || types.contains(entityType);
+    }
+
+    synchronized Offer offer(SequencedChange change) {
+        Key key = new Key(change.event().entityType(), change.event().entityId());
+        SequencedChange previous = pending.remove(key);
+        if (previous != null) {
+            pending.put(key, merge(previous, change));
+            return Offer.COALESCED;
+        }
+        if (pending.size() >= capacity) {
+            return Offer.OVERFLOW;
+        }
+        pending.put(key, change);
+        return Offer.QUEUED;
+    }
+
+    synchronized void requestReset(long sequence) {
+        pending.clear();
+        resetSequence = sequence;
+    }
+
+    synchronized long takeReset() {
+        long sequence = resetSequence;
+        resetSequence = NO_RESET;
+        return sequence;
+    }
+
+    synchronized List<SequencedChange> drain() {
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+        List<SequencedChange> batch = new ArrayList<>(pending.values());
+        pending.clear();
+        return batch;
+    }
+
+    void requestHeartbeat() {
+        heartbeatDue = true;
+    }
+
+    boolean takeHeartbeat() {
+        boolean due = heartbeatDue;
+        heartbeatDue = false;
+        return due;
+    }
+
+    boolean tryMarkScheduled() {
+        return !closed && scheduled.compareAndSet(false, true);
+    }
+
+    /**
+     * Ends a delivery pass. Returns {@code true} if work arrived after the last drain and this caller
+     * should run another pass instead of scheduling a new one.
+     */
+    boolean finishDelivery() {
+        scheduled.set(false);
+        return hasWork() && tryMarkScheduled();
+    }
+
+    void close() {
+        closed = true;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    private synchronized boolean hasWork() {
+        return !pending.isEmpty() || resetSequence != NO_RESET || heartbeatDue;
+    }
+
+    // A create followed by updates is still a create for the client; any other pair keeps the newest type
+    private static SequencedChange merge(SequencedChange previous, SequencedChange next) {
+        EntityChangedEvent older = previous.event();
+        EntityChangedEvent newer = next.event();
+        ChangeType changeType = older.changeType() == ChangeType.CREATED && newer.changeType() == ChangeType.UPDATED
+                ? ChangeType.CREATED
+                : newer.changeType();
+        Set<Long> facultyIds = new HashSet<>(older.facultyIds());
+        facultyIds.addAll(newer.facultyIds());
+        return new SequencedChange(next.sequence(), new EntityChangedEvent(newer.entityType(), newer.entityId(),
+                changeType, Set.copyOf(facultyIds)));
+    }
+
+    private record Key(EntityType entityType, Long entityId) {
+    }
+}
@@ -0,0 +1,9 @@
+package ru.hogwarts.school.push;
+
+import ru.hogwarts.school.event.EntityChangedEvent;
+
+/**
+ * A change event numbered by the broker; the sequence, prefixed with the broker epoch, is sent as the SSE event ID.
+ */
+record SequencedChange(long sequence, EntityChangedEvent event) {
+}
@@ -0,0 +1,16 @@
+package ru.hogwarts.school.repository;
+
+public interface AvatarChangeProjection {
+
+    Long getId();
+
+    String getFilePath();
+
+    long getFileSize();
+
+    String getMediaType();
+
+    Long getStudentId();
+
+    long getChangeVersion();
+}
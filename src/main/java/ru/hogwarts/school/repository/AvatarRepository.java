@@ -3,9 +3,13 @@ package ru.hogwarts.school.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.hogwarts.school.dto.AvatarInfoDto;
 import ru.hogwarts.school.model.Avatar;
 import ru.hogwarts.school.model.Student;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface AvatarRepository extends JpaRepository<Avatar, Long> {
@@ -15,4 +19,18 @@ public interface AvatarRepository extends JpaRepository<Avatar, Long> {
     Optional<Avatar> findByStudent(Student student);
 
     Page<Avatar> findAll(Pageable pageable);
+
+    @Query(value = "SELECT new ru.hogwarts.school.dto.AvatarInfoDto(a.id, a.filePath, a.fileSize, a.mediaType, " +
+            "a.student.id) FROM Avatar a",
+            countQuery = "SELECT COUNT(a) FROM Avatar a")
+    Page<AvatarInfoDto> findAllInfo(Pageable pageable);
+
+    @Query("SELECT new ru.hogwarts.school.dto.AvatarInfoDto(a.id, a.filePath, a.fileSize, a.mediaType, a.student.id) " +
+            "FROM Avatar a WHERE a.student.id = :studentId")
+    Optional<AvatarInfoDto> findInfoByStudentId(@Param("studentId") Long studentId);
+
+    @Query("SELECT a.id AS id, a.filePath AS filePath, a.fileSize AS fileSize, a.mediaType AS mediaType, " +
+            "s.id AS studentId, a.changeVersion AS changeVersion FROM Avatar a LEFT JOIN a.student s " +
+            "WHERE a.changeVersion > :since ORDER BY a.changeVersion")
+    List<AvatarChangeProjection> findChangedSince(@Param("since") long since, Pageable pageable);
 }
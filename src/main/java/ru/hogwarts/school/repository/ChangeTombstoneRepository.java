@@ -0,0 +1,26 @@
+package ru.hogwarts.school.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.hogwarts.school.model.ChangeTombstone;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface ChangeTombstoneRepository extends JpaRepository<ChangeTombstone, Long> {
+
+    List<ChangeTombstone> findByChangeVersionGreaterThanOrderByChangeVersionAsc(long since, Pageable pageable);
+
+    Optional<ChangeTombstone> findFirstByOrderByChangeVersionAsc();
+
+    @Query("SELECT MAX(t.changeVersion) FROM ChangeTombstone t WHERE t.deletedAt < :before")
+    Long findLatestVersionDeletedBefore(@Param("before") Instant before);
+
+    @Modifying
+    @Query("DELETE FROM ChangeTombstone t WHERE t.changeVersion < :belowVersion AND t.deletedAt < :before")
+    int deleteOlderThan(@Param("belowVersion") long belowVersion, @Param("before") Instant before);
+}
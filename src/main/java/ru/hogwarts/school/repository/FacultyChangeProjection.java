@@ -0,0 +1,6 @@
+package ru.hogwarts.school.repository;
+
+public interface FacultyChangeProjection extends FacultyProjection {
+
+    long getChangeVersion();
+}
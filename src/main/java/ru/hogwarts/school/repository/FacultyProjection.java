@@ -0,0 +1,10 @@
+package ru.hogwarts.school.repository;
+
+public interface FacultyProjection {
+
+    Long getId();
+
+    String getName();
+
+    String getColor();
+}
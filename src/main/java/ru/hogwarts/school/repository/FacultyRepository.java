@@ -1,13 +1,35 @@
 package ru.hogwarts.school.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.hogwarts.school.model.Faculty;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 public interface FacultyRepository extends JpaRepository<Faculty, Long> {
 
-    List<Faculty> findByColorIgnoreCase(String color);
+    Optional<FacultyProjection> findProjectedById(Long id);
 
-    List<Faculty> findByNameIgnoreCaseOrColorIgnoreCase(String name, String color);
-}
\ No newline at end of file
+    List<FacultyProjection> findProjectedByOrderByIdAsc();
+
+    List<FacultyProjection> findProjectedByIdIn(Collection<Long> ids);
+
+    List<FacultyChangeProjection> findByChangeVersionGreaterThanOrderByChangeVersionAsc(long since,
+                                                                                      Pageable pageable);
+
+    List<FacultyProjection> findProjectedByColorIgnoreCase(String color);
+
+    List<FacultyProjection> findProjectedByNameIgnoreCaseOrColorIgnoreCase(String name, String color);
+
+    @Query("SELECT s.faculty.id AS facultyId, s.id AS studentId FROM Student s " +
+            "WHERE s.faculty.id IN :facultyIds ORDER BY s.id")
+    List<FacultyStudentIdProjection> findStudentIdsByFacultyIds(@Param("facultyIds") Collection<Long> facultyIds);
+
+    @Query("SELECT f.id FROM Faculty f WHERE f.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
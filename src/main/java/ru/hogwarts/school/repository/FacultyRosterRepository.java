@@ -0,0 +1,65 @@
+package ru.hogwarts.school.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.hogwarts.school.dto.StudentDto;
+import ru.hogwarts.school.model.FacultyRosterEntry;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface FacultyRosterRepository extends JpaRepository<FacultyRosterEntry, Long> {
+
+    @Query("SELECT new ru.hogwarts.school.dto.StudentDto(r.studentId, r.studentName, r.studentAge, r.facultyId) " +
+            "FROM FacultyRosterEntry r WHERE r.facultyId = :facultyId ORDER BY r.studentId")
+    List<StudentDto> findRosterByFacultyId(@Param("facultyId") Long facultyId);
+
+    long countByFacultyId(Long facultyId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM FacultyRosterEntry r WHERE r.facultyId = :facultyId")
+    int deleteAllByFacultyId(@Param("facultyId") Long facultyId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM faculty_rosters", nativeQuery = true)
+    int deleteAllEntries();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO faculty_rosters (student_id, faculty_id, student_name, student_age) " +
+            "SELECT s.id, s.faculty_id, s.name, s.age FROM students s WHERE s.faculty_id IS NOT NULL",
+            nativeQuery = true)
+    int rebuildFromStudents();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM FacultyRosterEntry r WHERE r.studentId IN :studentIds")
+    int deleteAllByStudentIds(@Param("studentIds") Collection<Long> studentIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO faculty_rosters (student_id, faculty_id, student_name, student_age) " +
+            "SELECT s.id, s.faculty_id, s.name, s.age FROM students s " +
+            "WHERE s.faculty_id IS NOT NULL AND s.id IN (:studentIds)", nativeQuery = true)
+    int insertFromStudents(@Param("studentIds") Collection<Long> studentIds);
+
+    // Also drops entries of students who have joined one of the faculties since their entry was written
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM faculty_rosters WHERE faculty_id IN (:facultyIds) " +
+            "OR student_id IN (SELECT s.id FROM students s WHERE s.faculty_id IN (:facultyIds))", nativeQuery = true)
+    int deleteAllForFaculties(@Param("facultyIds") Collection<Long> facultyIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO faculty_rosters (student_id, faculty_id, student_name, student_age) " +
+            "SELECT s.id, s.faculty_id, s.name, s.age FROM students s WHERE s.faculty_id IN (:facultyIds)",
+            nativeQuery = true)
+    int insertFromFacultyStudents(@Param("facultyIds") Collection<Long> facultyIds);
+
+    @Query(value = "SELECT COUNT(*) FROM students s LEFT JOIN faculty_rosters r ON r.student_id = s.id " +
+            "WHERE s.faculty_id IS NOT NULL AND r.student_id IS NULL", nativeQuery = true)
+    long countMissingEntries();
+
+    @Query(value = "SELECT COUNT(*) FROM faculty_rosters r LEFT JOIN students s ON s.id = r.student_id " +
+            "WHERE s.id IS NULL OR s.faculty_id IS NULL OR s.faculty_id <> r.faculty_id " +
+            "OR s.name <> r.student_name OR s.age <> r.student_age", nativeQuery = true)
+    long countStaleEntries();
+}
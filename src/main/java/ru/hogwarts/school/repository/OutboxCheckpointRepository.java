@@ -0,0 +1,17 @@
+package ru.hogwarts.school.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.hogwarts.school.model.OutboxCheckpoint;
+
+import java.util.Optional;
+
+public interface OutboxCheckpointRepository extends JpaRepository<OutboxCheckpoint, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM OutboxCheckpoint c WHERE c.consumer = :consumer")
+    Optional<OutboxCheckpoint> findForUpdate(@Param("consumer") String consumer);
+}
@@ -0,0 +1,74 @@
+package ru.hogwarts.school.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import ru.hogwarts.school.model.Student;
+import ru.hogwarts.school.sync.ChangeVersionGenerator;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts many students with one multi-row {@code INSERT} and assigns the generated IDs back in row order.
+ * Each row is stamped with its own change version here, since entity listeners do not run on this path.
+ * Bypasses the persistence context, so callers must not expect the rows to be managed entities.
+ */
+@Repository
+public class StudentBatchInsertRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO students (name, age, faculty_id, search_name, version, change_version) VALUES ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChangeVersionGenerator changeVersionGenerator;
+
+    public StudentBatchInsertRepository(JdbcTemplate jdbcTemplate, ChangeVersionGenerator changeVersionGenerator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.changeVersionGenerator = changeVersionGenerator;
+    }
+
+    public void insertAll(List<Student> students) {
+        if (students.isEmpty()) {
+            return;
+        }
+
+        long[] changeVersions = new long[students.size()];
+        for (int i = 0; i < changeVersions.length; i++) {
+            changeVersions[i] = changeVersionGenerator.next();
+        }
+        String rowPlaceholders = "(?, ?, ?, ?, 0, ?)";
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(students.size(), rowPlaceholders));
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, new String[]{"id"});
+            int index = 1;
+            int row = 0;
+            for (Student student : students) {
+                student.refreshSearchName();
+                statement.setString(index++, student.getName());
+                statement.setInt(index++, student.getAge());
+                if (student.getFaculty() != null) {
+                    statement.setLong(index++, student.getFaculty().getId());
+                } else {
+                    statement.setNull(index++, Types.BIGINT);
+                }
+                statement.setString(index++, student.getSearchName());
+                statement.setLong(index++, changeVersions[row++]);
+            }
+            return statement;
+        }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != students.size()) {
+            throw new IllegalStateException("Expected " + students.size() + " generated keys, got " + keys.size());
+        }
+        for (int i = 0; i < students.size(); i++) {
+            students.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+    }
+}
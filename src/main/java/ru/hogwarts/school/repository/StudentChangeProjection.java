@@ -0,0 +1,14 @@
+package ru.hogwarts.school.repository;
+
+public interface StudentChangeProjection {
+
+    Long getId();
+
+    String getName();
+
+    int getAge();
+
+    Long getFacultyId();
+
+    long getChangeVersion();
+}
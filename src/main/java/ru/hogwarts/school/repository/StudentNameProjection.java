@@ -0,0 +1,8 @@
+package ru.hogwarts.school.repository;
+
+public interface StudentNameProjection {
+
+    Long getId();
+
+    String getName();
+}
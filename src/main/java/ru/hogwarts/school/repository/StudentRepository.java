@@ -1,30 +1,104 @@
 package ru.hogwarts.school.repository;
 
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.hogwarts.school.dto.StudentDto;
+import ru.hogwarts.school.model.Faculty;
 import ru.hogwarts.school.model.Student;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface StudentRepository extends JpaRepository<Student, Long> {
 
-    List<Student> findByAge(int age);
+    @Query("SELECT new ru.hogwarts.school.dto.StudentDto(s.id, s.name, s.age, f.id) " +
+            "FROM Student s LEFT JOIN s.faculty f WHERE s.id = :id")
+    Optional<StudentDto> findDtoById(@Param("id") Long id);
 
-    List<Student> findByAgeBetween(int minAge, int maxAge);
+    @Query("SELECT new ru.hogwarts.school.dto.StudentDto(s.id, s.name, s.age, f.id) " +
+            "FROM Student s LEFT JOIN s.faculty f ORDER BY s.id")
+    List<StudentDto> findAllDtos();
+
+    @Query("SELECT new ru.hogwarts.school.dto.StudentDto(s.id, s.name, s.age, f.id) " +
+            "FROM Student s LEFT JOIN s.faculty f WHERE s.id IN :ids")
+    List<StudentDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new ru.hogwarts.school.dto.StudentDto(s.id, s.name, s.age, f.id) " +
+            "FROM Student s LEFT JOIN s.faculty f WHERE s.age = :age ORDER BY s.id")
+    List<StudentDto> findDtosByAge(@Param("age") int age);
+
+    @Query("SELECT new ru.hogwarts.school.dto.StudentDto(s.id, s.name, s.age, f.id) " +
+            "FROM Student s LEFT JOIN s.faculty f WHERE s.age BETWEEN :minAge AND :maxAge ORDER BY s.id")
+    List<StudentDto> findDtosByAgeBetween(@Param("minAge") int minAge, @Param("maxAge") int maxAge);
+
+    @Query("SELECT new ru.hogwarts.school.dto.StudentDto(s.id, s.name, s.age, f.id) " +
+            "FROM Student s LEFT JOIN s.faculty f ORDER BY s.id DESC")
+    List<StudentDto> findLatestDtos(Pageable pageable);
 
     List<Student> findByFacultyId(Long facultyId);
 
+    @Query("SELECT s.id AS id, s.name AS name, s.age AS age, f.id AS facultyId, s.changeVersion AS changeVersion " +
+            "FROM Student s LEFT JOIN s.faculty f WHERE s.changeVersion > :since ORDER BY s.changeVersion")
+    List<StudentChangeProjection> findChangedSince(@Param("since") long since, Pageable pageable);
+
+    @Query("SELECT f.id AS facultyId, s.id AS studentId FROM Student s LEFT JOIN s.faculty f " +
+            "WHERE s.id > :afterId AND (:facultyId IS NULL OR f.id = :facultyId) " +
+            "AND (:minAge IS NULL OR s.age >= :minAge) AND (:maxAge IS NULL OR s.age <= :maxAge) ORDER BY s.id")
+    List<FacultyStudentIdProjection> findChunkAfter(@Param("afterId") long afterId, @Param("facultyId") Long facultyId,
+                                                    @Param("minAge") Integer minAge, @Param("maxAge") Integer maxAge,
+                                                    Pageable pageable);
+
+    @Query("SELECT f.id AS facultyId, s.id AS studentId FROM Student s LEFT JOIN s.faculty f " +
+            "WHERE s.id IN :ids ORDER BY s.id")
+    List<FacultyStudentIdProjection> findFacultyIdsByStudentIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Student s SET s.faculty = :faculty, s.version = s.version + 1 WHERE s.id IN :ids " +
+            "AND (:fromFacultyId IS NULL OR s.faculty.id = :fromFacultyId)")
+    int transferAll(@Param("ids") Collection<Long> ids, @Param("fromFacultyId") Long fromFacultyId,
+                    @Param("faculty") Faculty faculty);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Student s SET s.age = :age, s.version = s.version + 1 WHERE s.id IN :ids " +
+            "AND (:facultyId IS NULL OR s.faculty.id = :facultyId) " +
+            "AND (:minAge IS NULL OR s.age >= :minAge) AND (:maxAge IS NULL OR s.age <= :maxAge)")
+    int setAgeForAll(@Param("ids") Collection<Long> ids, @Param("facultyId") Long facultyId,
+                     @Param("minAge") Integer minAge, @Param("maxAge") Integer maxAge, @Param("age") int age);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Student s SET s.version = s.version + 1, s.age = CASE WHEN s.age + :delta > 100 THEN 100 " +
+            "WHEN s.age + :delta < 15 THEN 15 ELSE s.age + :delta END WHERE s.id IN :ids " +
+            "AND (:facultyId IS NULL OR s.faculty.id = :facultyId) " +
+            "AND (:minAge IS NULL OR s.age >= :minAge) AND (:maxAge IS NULL OR s.age <= :maxAge)")
+    int shiftAgeForAll(@Param("ids") Collection<Long> ids, @Param("facultyId") Long facultyId,
+                       @Param("minAge") Integer minAge, @Param("maxAge") Integer maxAge, @Param("delta") int delta);
+
     @Query(value = "SELECT COUNT(s) FROM Student s")
-    Integer getTotalCountOfStudents();
+    long getTotalCountOfStudents();
+
+    @Query(value = "SELECT CASE WHEN c.reltuples < 0 THEN NULL " +
+            "WHEN c.relpages = 0 THEN c.reltuples::bigint " +
+            "ELSE (c.reltuples / c.relpages * (pg_relation_size(c.oid) / current_setting('block_size')::int))::bigint " +
+            "END FROM pg_class c WHERE c.oid = to_regclass('students')", nativeQuery = true)
+    Long estimateStudentCount();
 
     @Query(value = "SELECT AVG(s.age) FROM Student s")
     Double getAverageAgeOfStudents();
 
-    @Query(value = "SELECT s.* FROM students s ORDER BY s.id DESC LIMIT 5", nativeQuery = true)
-    List<Student> getLastFiveStudents();
+    @Query(value = "SELECT s.id AS \"id\", s.name AS \"name\", s.age AS \"age\", s.faculty_id AS \"facultyId\", " +
+            "GREATEST(similarity(s.search_name, :query), word_similarity(:query, s.search_name)) AS \"score\" " +
+            "FROM students s " +
+            "WHERE s.search_name % :query OR :query <% s.search_name " +
+            "OR s.search_name LIKE '%' || :pattern || '%' ESCAPE '\\' " +
+            "ORDER BY \"score\" DESC, s.id " +
+            "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<StudentSearchProjection> searchByTrigram(@Param("query") String query, @Param("pattern") String pattern,
+                                                  @Param("limit") int limit, @Param("offset") long offset);
 
-    @EntityGraph(attributePaths = "faculty")
-    Optional<Student> findWithFacultyById(Long id);
+    @Query("SELECT s.id AS id, s.name AS name FROM Student s")
+    List<StudentNameProjection> findAllNames();
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package ru.hogwarts.school.repository;
+
+public interface StudentSearchProjection {
+
+    Long getId();
+
+    String getName();
+
+    Integer getAge();
+
+    Long getFacultyId();
+
+    Double getScore();
+}
@@ -3,6 +3,11 @@ package ru.hogwarts.school.service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import ru.hogwarts.school.coalescing.Coalesced;
+import ru.hogwarts.school.compute.BoundedComputePool;
+import ru.hogwarts.school.compute.ComputeStrategyEngine;
+import ru.hogwarts.school.dto.ComputePoolStatsDto;
+import ru.hogwarts.school.dto.ComputeStrategyTimingDto;
 import ru.hogwarts.school.model.Faculty;
 import ru.hogwarts.school.model.Student;
 import ru.hogwarts.school.repository.FacultyRepository;
@@ -10,23 +15,30 @@ import ru.hogwarts.school.repository.StudentRepository;
 
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.LongStream;
-import java.util.stream.Stream;
+import java.util.Set;
 
 @Service
 public class AnalyticsService {
 
     private static final Logger logger = LoggerFactory.getLogger(AnalyticsService.class);
     private static final int LIMIT = 1_000_000;
+    private static final long AGGREGATE_TTL_MS = 1_000;
+    private static final long AGGREGATE_STALE_MS = 4_000;
 
     private final StudentRepository studentRepository;
     private final FacultyRepository facultyRepository;
+    private final BoundedComputePool analyticsComputePool;
+    private final ComputeStrategyEngine computeStrategyEngine;
 
-    public AnalyticsService(StudentRepository studentRepository, FacultyRepository facultyRepository) {
+    public AnalyticsService(StudentRepository studentRepository, FacultyRepository facultyRepository,
+                            BoundedComputePool analyticsComputePool, ComputeStrategyEngine computeStrategyEngine) {
         this.studentRepository = studentRepository;
         this.facultyRepository = facultyRepository;
+        this.analyticsComputePool = analyticsComputePool;
+        this.computeStrategyEngine = computeStrategyEngine;
     }
 
+    @Coalesced(ttlMs = AGGREGATE_TTL_MS, staleWhileRevalidateMs = AGGREGATE_STALE_MS)
     public List<String> getStudentNamesStartingWith(String startingLetter) {
         logger.info("Was invoked method for GET student names starting with '{}'", startingLetter);
 
@@ -49,6 +61,7 @@ public class AnalyticsService {
         return names;
     }
 
+    @Coalesced(ttlMs = AGGREGATE_TTL_MS, staleWhileRevalidateMs = AGGREGATE_STALE_MS)
     public Double getAverageAgeOfStudents() {
         logger.info("Was invoked method to GET average Age of students");
 
@@ -61,6 +74,7 @@ public class AnalyticsService {
         return averageAge;
     }
 
+    @Coalesced(ttlMs = AGGREGATE_TTL_MS, staleWhileRevalidateMs = AGGREGATE_STALE_MS)
     public String getLongestFacultyName() {
         logger.info("Was invoked method for GET longest faculty name");
 
@@ -73,47 +87,46 @@ public class AnalyticsService {
         return longestName;
     }
 
-    public Integer calculateOriginalSum() {
+    public Long calculateOriginalSum() {
         logger.info("Was invoked method for CALCULATE original sum from 1 to {}", LIMIT);
-
-        long startTime = System.currentTimeMillis();
-        int sum = Stream.iterate(1, a -> a + 1)
-                        .limit(LIMIT)
-                        .reduce(0, (a, b) -> a + b);
-
-        long endTime = System.currentTimeMillis();
-        long duration = endTime - startTime;
-
-        logger.info("Original sum calculation completed in {} ms. Result = {}", duration, sum);
-        return sum;
+        return timedSum("Original", ComputeStrategyEngine.BOXED_STREAM);
     }
 
     public Long calculateOptimizedSum() {
         logger.info("Was invoked method for CALCULATE optimized sum from 1 to {}", LIMIT);
-
-        long startTime = System.currentTimeMillis();
-        long sum = LongStream.rangeClosed(1, LIMIT)
-                                    .parallel()
-                                    .sum();
-
-        long endTime = System.currentTimeMillis();
-        long duration = endTime - startTime;
-
-        logger.info("Optimized sum calculation comleted in {} ms. Result = {}", duration, sum);
-        return sum;
+        return timedSum("Optimized", ComputeStrategyEngine.FORK_JOIN);
     }
 
     public Long calculateMathSum() {
         logger.info("Was invoked method for CALCULATE mathematical sum from 1 to {}", LIMIT);
+        return timedSum("Mathematical", ComputeStrategyEngine.CLOSED_FORM);
+    }
+
+    public ComputePoolStatsDto getComputePoolStats() {
+        logger.info("Was invoked method for GET analytics compute pool statistics");
+        return analyticsComputePool.getStats();
+    }
 
-        long startTime = System.currentTimeMillis();
+    public Set<String> getComputeStrategies() {
+        logger.info("Was invoked method for GET available compute strategies");
+        return computeStrategyEngine.getStrategyNames();
+    }
+
+    public List<ComputeStrategyTimingDto> measureComputeStrategies(List<String> strategies, long from, long to,
+                                                                   int warmupIterations, int iterations) {
+        logger.info("Was invoked method for MEASURE compute strategies {} over [{}, {}], {} warmup, {} iterations",
+                strategies, from, to, warmupIterations, iterations);
+        return computeStrategyEngine.measure(strategies, from, to, warmupIterations, iterations);
+    }
 
-        long sum = (long) LIMIT * (1L + LIMIT) / 2L;
+    // ========== HELPER METHODS ==========
 
-        long endTime = System.currentTimeMillis();
-        long duration = endTime - startTime;
+    private long timedSum(String label, String strategy) {
+        long startNanos = System.nanoTime();
+        long sum = computeStrategyEngine.run(strategy, 1, LIMIT);
+        long durationMicros = (System.nanoTime() - startNanos) / 1_000;
 
-        logger.info("Mathematical sum calculation completed in {} ms. Result = {}", duration, sum);
+        logger.info("{} sum calculation ({}) completed in {} µs. Result = {}", label, strategy, durationMicros, sum);
         return sum;
     }
 }
@@ -0,0 +1,86 @@
+package ru.hogwarts.school.service;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+class AvatarFileWriteListener implements WriteListener, AsyncListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(AvatarFileWriteListener.class);
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final Long studentId;
+    private final FileChannel fileChannel;
+    private final AsyncContext asyncContext;
+    private final ServletOutputStream outputStream;
+    private final ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+
+    AvatarFileWriteListener(Long studentId, FileChannel fileChannel, AsyncContext asyncContext,
+                            ServletOutputStream outputStream) {
+        this.studentId = studentId;
+        this.fileChannel = fileChannel;
+        this.asyncContext = asyncContext;
+        this.outputStream = outputStream;
+    }
+
+    @Override
+    public void onWritePossible() throws IOException {
+        // Only read the next chunk once the socket can take it, so a slow client never holds a thread
+        while (outputStream.isReady()) {
+            buffer.clear();
+            int read = fileChannel.read(buffer);
+            if (read == -1) {
+                logger.debug("Avatar file successfully streamed for Student with ID: {}", studentId);
+                closeFile();
+                asyncContext.complete();
+                return;
+            }
+            outputStream.write(buffer.array(), 0, read);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        logger.error("Failed to stream Avatar file for Student with ID: {}", studentId, throwable);
+        closeFile();
+        asyncContext.complete();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        closeFile();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        logger.warn("Streaming Avatar file timed out for Student with ID: {}", studentId);
+        closeFile();
+        asyncContext.complete();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        onError(event.getThrowable());
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+
+    private void closeFile() {
+        try {
+            fileChannel.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close Avatar file channel for Student with ID: {}", studentId, e);
+        }
+    }
+}
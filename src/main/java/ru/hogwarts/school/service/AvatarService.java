@@ -1,16 +1,22 @@
 package ru.hogwarts.school.service;
 
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import ru.hogwarts.school.dto.AvatarDataDto;
 import ru.hogwarts.school.dto.AvatarInfoDto;
+import ru.hogwarts.school.event.ChangeType;
+import ru.hogwarts.school.event.EntityChangedEvent;
 import ru.hogwarts.school.exception.AvatarNotFoundException;
 import ru.hogwarts.school.exception.FileProcessingException;
 import ru.hogwarts.school.exception.ImageProcessingException;
@@ -25,8 +31,10 @@ import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.*;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 
 @Service
@@ -38,14 +46,20 @@ public class AvatarService {
     private final AvatarRepository avatarRepository;
     private final StudentService studentService;
     private final AvatarMapper avatarMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${avatars.dir.path:avatars}")
     private String avatarsDir;
 
-    public AvatarService(AvatarRepository avatarRepository, StudentService studentService, AvatarMapper avatarMapper) {
+    @Value("${avatars.stream.timeout-ms:300000}")
+    private long streamTimeoutMillis;
+
+    public AvatarService(AvatarRepository avatarRepository, StudentService studentService, AvatarMapper avatarMapper,
+                         ApplicationEventPublisher eventPublisher) {
         this.avatarRepository = avatarRepository;
         this.studentService = studentService;
         this.avatarMapper = avatarMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -94,6 +108,7 @@ public class AvatarService {
         }
 
         Avatar avatar = findOrCreateAvatar(student);
+        ChangeType changeType = avatar.getId() == null ? ChangeType.CREATED : ChangeType.UPDATED;
         avatar.setFilePath(fullSizeFilePath.toString());
         avatar.setFileSize(file.getSize());
         avatar.setMediaType(file.getContentType());
@@ -102,25 +117,25 @@ public class AvatarService {
 
         logger.info("SAVING Avatar to database for Student with ID: {}", studentId);
         avatarRepository.save(avatar);
+        eventPublisher.publishEvent(EntityChangedEvent.avatar(avatar.getId(), changeType));
         logger.info("Avatar successfully uploaded for Student with ID: {}", studentId);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public AvatarInfoDto findAvatarInfo(Long studentId) {
         logger.info("Was invoked method for FIND Avatar info for Student with ID: {}", studentId);
-        Student student = studentService.findStudentEntity(studentId);
         logger.debug("Looking for Avatar for Student with ID: {}", studentId);
-        Avatar avatar = avatarRepository.findByStudent(student).orElseThrow(
-                () -> {
-                    logger.error("Avatar not found for Student with ID: {}", studentId);
-                    return new AvatarNotFoundException(studentId);
-                }
-        );
+        Optional<AvatarInfoDto> avatarInfo = avatarRepository.findInfoByStudentId(studentId);
+        if (avatarInfo.isEmpty()) {
+            studentService.findStudentEntity(studentId);
+            logger.error("Avatar not found for Student with ID: {}", studentId);
+            throw new AvatarNotFoundException(studentId);
+        }
         logger.debug("Avatar info found for Student with ID: {}", studentId);
-        return avatarMapper.toInfoDto(avatar);
+        return avatarInfo.get();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public AvatarDataDto findAvatarData(Long studentId) {
         logger.info("Was invoked method for FIND Avatar data for Student with ID: {}", studentId);
         Student student = studentService.findStudentEntity(studentId);
@@ -135,33 +150,53 @@ public class AvatarService {
         return avatarMapper.toDataDto(avatar);
     }
 
-    @Transactional
-    public void getAvatarFromFile(Long studentId, HttpServletResponse response) throws IOException {
+    public void getAvatarFromFile(Long studentId, HttpServletRequest request, HttpServletResponse response) {
         logger.info("Was invoked method for GET Avatar from file for Student with ID: {}", studentId);
-        AvatarInfoDto avatarInfo = findAvatarInfo(studentId);
+        AvatarInfoDto avatarInfo = avatarRepository.findInfoByStudentId(studentId).orElseThrow(
+                () -> {
+                    logger.error("Avatar info not found for Student with ID: {}", studentId);
+                    return new AvatarNotFoundException(studentId);
+                }
+        );
         String filePath = avatarInfo.filePath();
 
-        logger.debug("Streaming Avatar file from path: {} for Student with ID: {}", filePath, studentId);
-        try (BufferedInputStream bufferedInputStream = new BufferedInputStream(new FileInputStream(filePath))) {
-            response.setContentType(avatarInfo.mediaType());
-            response.setContentLength((int) avatarInfo.fileSize());
-            bufferedInputStream.transferTo(response.getOutputStream());
-            response.flushBuffer();
-            logger.debug("Avatar file successfully streamed for Student with ID: {}", studentId);
+        FileChannel fileChannel;
+        long fileSize;
+        try {
+            fileChannel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ);
+            fileSize = fileChannel.size();
         } catch (IOException e) {
-            logger.error("Failed to stream Avatar file for Student with ID: {}", studentId, e);
+            logger.error("Failed to open Avatar file for Student with ID: {}", studentId, e);
+            throw new FileProcessingException("avatar file streaming", e);
+        }
+
+        logger.debug("Streaming Avatar file from path: {} for Student with ID: {}", filePath, studentId);
+        response.setContentType(avatarInfo.mediaType());
+        response.setContentLengthLong(fileSize);
+
+        try {
+            AsyncContext asyncContext = request.startAsync();
+            asyncContext.setTimeout(streamTimeoutMillis);
+            ServletOutputStream outputStream = response.getOutputStream();
+            AvatarFileWriteListener writeListener =
+                    new AvatarFileWriteListener(studentId, fileChannel, asyncContext, outputStream);
+            asyncContext.addListener(writeListener);
+            outputStream.setWriteListener(writeListener);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to start Avatar file streaming for Student with ID: {}", studentId, e);
+            closeQuietly(fileChannel);
             throw new FileProcessingException("avatar file streaming", e);
         }
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Page<AvatarInfoDto> getAllAvatarsWithPagination(int page, int size) {
         logger.info("Was invoked method for GET ALL avatars with pagination, page: {}, size: {}", page, size);
         Pageable pageable = PaginationUtil.createPageRequest(page, size);
         logger.debug("Created pageable request: page = {}, size = {}", page, size);
-        Page<Avatar> avatarsPage = avatarRepository.findAll(pageable);
+        Page<AvatarInfoDto> avatarsPage = avatarRepository.findAllInfo(pageable);
         logger.debug("Found {} avatars on page {}", avatarsPage.getNumberOfElements(), page);
-        return avatarsPage.map(avatarMapper::toInfoDto);
+        return avatarsPage;
     }
 
     // ========== HELPER METHODS ==========
@@ -200,6 +235,14 @@ public class AvatarService {
         }
     }
 
+    private void closeQuietly(FileChannel fileChannel) {
+        try {
+            fileChannel.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close file channel", e);
+        }
+    }
+
     private Avatar findOrCreateAvatar(Student student) {
         logger.debug("Finding or creating Avatar for Student with ID: {}", student.getId());
         Optional<Avatar> existingAvatar = avatarRepository.findByStudent(student);
@@ -0,0 +1,212 @@
+package ru.hogwarts.school.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.hogwarts.school.dto.BatchAction;
+import ru.hogwarts.school.dto.BatchOperationDto;
+import ru.hogwarts.school.dto.BatchOperationResultDto;
+import ru.hogwarts.school.dto.BatchRequestDto;
+import ru.hogwarts.school.dto.BatchResultDto;
+import ru.hogwarts.school.dto.ErrorResponse;
+import ru.hogwarts.school.dto.FacultyCreateDto;
+import ru.hogwarts.school.dto.FacultyUpdateDto;
+import ru.hogwarts.school.dto.StudentCreateDto;
+import ru.hogwarts.school.dto.StudentUpdateDto;
+import ru.hogwarts.school.exception.GlobalExceptionHandler;
+import ru.hogwarts.school.exception.HogwartsException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Executes an ordered list of student and faculty writes in one request. Atomic batches run every operation
+ * in one transaction, so entities loaded by one operation are reused from the persistence context by the
+ * next, and pending UPDATEs and DELETEs are flushed once at the end as JDBC batches; the first failure rolls
+ * the whole batch back and skips the rest. Non-atomic batches run each operation in its own transaction and
+ * report failures per operation.
+ */
+@Service
+public class BatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchService.class);
+
+    private final StudentService studentService;
+    private final FacultyService facultyService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public BatchService(StudentService studentService, FacultyService facultyService,
+                        TransactionTemplate transactionTemplate, EntityManager entityManager,
+                        ObjectMapper objectMapper, Validator validator) {
+        this.studentService = studentService;
+        this.facultyService = facultyService;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    public BatchResultDto execute(BatchRequestDto batchRequestDto) {
+        List<BatchOperationDto> operations = batchRequestDto.operations();
+        logger.info("Was invoked method for BATCH of {} operations, atomic: {}", operations.size(),
+                batchRequestDto.atomic());
+
+        BatchResultDto result = batchRequestDto.atomic()
+                ? executeAtomically(operations)
+                : executeIndependently(operations);
+        logger.info("Batch finished: {} succeeded, {} failed, committed: {}", result.succeeded(), result.failed(),
+                result.committed());
+        return result;
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private BatchResultDto executeIndependently(List<BatchOperationDto> operations) {
+        List<BatchOperationResultDto> results = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            results.add(executeOperation(i, operations.get(i)));
+        }
+        return summarize(false, true, results, null);
+    }
+
+    private BatchResultDto executeAtomically(List<BatchOperationDto> operations) {
+        List<BatchOperationResultDto> results = new ArrayList<>(operations.size());
+        try {
+            Boolean committed = transactionTemplate.execute(status -> {
+                for (int i = 0; i < operations.size(); i++) {
+                    BatchOperationResultDto result = executeOperation(i, operations.get(i));
+                    results.add(result);
+                    if (result.error() != null) {
+                        logger.warn("Batch operation {} failed with status {}, rolling back", i, result.status());
+                        status.setRollbackOnly();
+                        skipRemaining(operations, i, results);
+                        return false;
+                    }
+                }
+                entityManager.flush();
+                return true;
+            });
+            return summarize(true, Boolean.TRUE.equals(committed), results, null);
+        } catch (RuntimeException e) {
+            logger.error("Batch of {} operations failed to commit", operations.size(), e);
+            return summarize(true, false, results,
+                    new ErrorResponse("Batch could not be committed", List.of("BATCH_COMMIT_FAILED")));
+        }
+    }
+
+    private BatchOperationResultDto executeOperation(int index, BatchOperationDto operation) {
+        try {
+            Object body = dispatch(operation);
+            HttpStatus status = switch (operation.action()) {
+                case CREATE -> HttpStatus.CREATED;
+                case UPDATE -> HttpStatus.OK;
+                case DELETE -> HttpStatus.NO_CONTENT;
+            };
+            return result(index, operation, status, body, null);
+        } catch (InvalidOperationException e) {
+            return result(index, operation, HttpStatus.BAD_REQUEST, null, e.errorResponse);
+        } catch (HogwartsException e) {
+            return result(index, operation, GlobalExceptionHandler.determineHttpStatus(e), null,
+                    new ErrorResponse(e.getMessage(), List.of(e.getErrorCode())));
+        } catch (RuntimeException e) {
+            logger.error("Batch operation {} ({} {}) failed unexpectedly", index, operation.action(),
+                    operation.resource(), e);
+            return result(index, operation, HttpStatus.INTERNAL_SERVER_ERROR, null,
+                    new ErrorResponse("Internal Server Error", List.of("An unexpected error occurred")));
+        }
+    }
+
+    private Object dispatch(BatchOperationDto operation) {
+        if (operation.action() != BatchAction.CREATE && operation.id() == null) {
+            throw new InvalidOperationException(new ErrorResponse("Validation Failed",
+                    List.of("id: ID is mandatory for " + operation.action())));
+        }
+
+        return switch (operation.resource()) {
+            case STUDENT -> switch (operation.action()) {
+                case CREATE -> studentService.createStudent(readBody(operation, StudentCreateDto.class));
+                case UPDATE -> studentService.updateStudent(operation.id(),
+                        readBody(operation, StudentUpdateDto.class));
+                case DELETE -> studentService.deleteStudent(operation.id());
+            };
+            case FACULTY -> switch (operation.action()) {
+                case CREATE -> facultyService.createFaculty(readBody(operation, FacultyCreateDto.class));
+                case UPDATE -> facultyService.updateFaculty(operation.id(),
+                        readBody(operation, FacultyUpdateDto.class));
+                case DELETE -> {
+                    facultyService.deleteFaculty(operation.id());
+                    yield null;
+                }
+            };
+        };
+    }
+
+    private <T> T readBody(BatchOperationDto operation, Class<T> type) {
+        JsonNode body = operation.body();
+        if (body == null || body.isNull()) {
+            throw new InvalidOperationException(new ErrorResponse("Validation Failed",
+                    List.of("body: Body is mandatory for " + operation.action())));
+        }
+
+        T value;
+        try {
+            value = objectMapper.treeToValue(body, type);
+        } catch (JsonProcessingException e) {
+            throw new InvalidOperationException(new ErrorResponse("Invalid JSON format: " + e.getOriginalMessage()));
+        }
+
+        Set<ConstraintViolation<T>> violations = validator.validate(value);
+        if (!violations.isEmpty()) {
+            List<String> errors = violations.stream()
+                                            .map(violation -> violation.getPropertyPath() + ": "
+                                                    + violation.getMessage())
+                                            .sorted()
+                                            .toList();
+            throw new InvalidOperationException(new ErrorResponse("Validation Failed", errors));
+        }
+        return value;
+    }
+
+    private void skipRemaining(List<BatchOperationDto> operations, int failedIndex,
+                               List<BatchOperationResultDto> results) {
+        ErrorResponse skipped = new ErrorResponse("Skipped after operation " + failedIndex + " failed",
+                List.of("BATCH_ABORTED"));
+        for (int i = failedIndex + 1; i < operations.size(); i++) {
+            results.add(result(i, operations.get(i), HttpStatus.FAILED_DEPENDENCY, null, skipped));
+        }
+    }
+
+    private static BatchOperationResultDto result(int index, BatchOperationDto operation, HttpStatus status,
+                                                  Object body, ErrorResponse error) {
+        return new BatchOperationResultDto(index, operation.resource(), operation.action(), status.value(), body,
+                error);
+    }
+
+    private static BatchResultDto summarize(boolean atomic, boolean committed, List<BatchOperationResultDto> results,
+                                            ErrorResponse error) {
+        int failed = (int) results.stream().filter(result -> result.error() != null).count();
+        int succeeded = committed ? results.size() - failed : 0;
+        return new BatchResultDto(atomic, committed, succeeded, failed, results, error);
+    }
+
+    private static final class InvalidOperationException extends RuntimeException {
+        private final transient ErrorResponse errorResponse;
+
+        private InvalidOperationException(ErrorResponse errorResponse) {
+            super(errorResponse.message(), null, false, false);
+            this.errorResponse = errorResponse;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package ru.hogwarts.school.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.hogwarts.school.dto.AvatarInfoDto;
+import ru.hogwarts.school.dto.ChangeDto;
+import ru.hogwarts.school.dto.ChangeFeedDto;
+import ru.hogwarts.school.dto.FacultyDto;
+import ru.hogwarts.school.dto.StudentDto;
+import ru.hogwarts.school.exception.ChangeFeedExpiredException;
+import ru.hogwarts.school.exception.InvalidChangeFeedRequestException;
+import ru.hogwarts.school.model.ChangeEntityType;
+import ru.hogwarts.school.model.ChangeTombstone;
+import ru.hogwarts.school.repository.AvatarChangeProjection;
+import ru.hogwarts.school.repository.AvatarRepository;
+import ru.hogwarts.school.repository.ChangeTombstoneRepository;
+import ru.hogwarts.school.repository.FacultyChangeProjection;
+import ru.hogwarts.school.repository.FacultyRepository;
+import ru.hogwarts.school.repository.StudentChangeProjection;
+import ru.hogwarts.school.repository.StudentRepository;
+import ru.hogwarts.school.sync.ChangeTombstonePruner;
+import ru.hogwarts.school.sync.ChangeVersionGenerator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Delta feed over students, faculties, avatars and their tombstones. Every source is read through its
+ * {@code change_version} index with the same page size, so merging the sources and cutting at {@code limit}
+ * yields exactly the next {@code limit} changes in version order. A row changed several times appears once,
+ * at its latest version.
+ * <p>
+ * Versions are drawn when a row is written, not when its transaction commits, so changes above the generator's
+ * {@link ChangeVersionGenerator#visibleHorizon() visible horizon} are held back until every lower version has
+ * completed on every instance; {@code nextSince} therefore never passes a version that may still commit. The feed
+ * reads the primary, because a lagging replica could hide a version the horizon already counts as committed.
+ */
+@Service
+public class ChangeFeedService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeedService.class);
+
+    public static final int MAX_LIMIT = 1_000;
+
+    private final StudentRepository studentRepository;
+    private final FacultyRepository facultyRepository;
+    private final AvatarRepository avatarRepository;
+    private final ChangeTombstoneRepository changeTombstoneRepository;
+    private final UniversityManagementService universityManagementService;
+    private final ChangeVersionGenerator changeVersionGenerator;
+    private final ChangeTombstonePruner changeTombstonePruner;
+
+    public ChangeFeedService(StudentRepository studentRepository, FacultyRepository facultyRepository,
+                             AvatarRepository avatarRepository, ChangeTombstoneRepository changeTombstoneRepository,
+                             UniversityManagementService universityManagementService,
+                             ChangeVersionGenerator changeVersionGenerator,
+                             ChangeTombstonePruner changeTombstonePruner) {
+        this.studentRepository = studentRepository;
+        this.facultyRepository = facultyRepository;
+        this.avatarRepository = avatarRepository;
+        this.changeTombstoneRepository = changeTombstoneRepository;
+        this.universityManagementService = universityManagementService;
+        this.changeVersionGenerator = changeVersionGenerator;
+        this.changeTombstonePruner = changeTombstonePruner;
+    }
+
+    @Transactional
+    public ChangeFeedDto getChangesSince(long since, int limit) {
+        logger.info("Was invoked method for GET changes since version: {}, limit: {}", since, limit);
+        if (since < 0) {
+            throw new InvalidChangeFeedRequestException("since must not be negative");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidChangeFeedRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (changeTombstonePruner.isExpired(since)) {
+            throw new ChangeFeedExpiredException(since);
+        }
+        // Taken before reading, so every version at or below it is either visible to the reads or rolled back
+        long horizon = changeVersionGenerator.visibleHorizon();
+
+        // One extra row per source tells whether anything remains beyond this page
+        Pageable page = PageRequest.of(0, limit + 1);
+        List<ChangeDto> changes = new ArrayList<>();
+        for (StudentChangeProjection student : studentRepository.findChangedSince(since, page)) {
+            changes.add(new ChangeDto(ChangeEntityType.STUDENT, student.getId(), student.getChangeVersion(), false,
+                    new StudentDto(student.getId(), student.getName(), student.getAge(), student.getFacultyId())));
+        }
+        addFaculties(changes, facultyRepository.findByChangeVersionGreaterThanOrderByChangeVersionAsc(since, page));
+        for (AvatarChangeProjection avatar : avatarRepository.findChangedSince(since, page)) {
+            changes.add(new ChangeDto(ChangeEntityType.AVATAR, avatar.getId(), avatar.getChangeVersion(), false,
+                    new AvatarInfoDto(avatar.getId(), avatar.getFilePath(), avatar.getFileSize(),
+                            avatar.getMediaType(), avatar.getStudentId())));
+        }
+        for (ChangeTombstone tombstone :
+                changeTombstoneRepository.findByChangeVersionGreaterThanOrderByChangeVersionAsc(since, page)) {
+            changes.add(new ChangeDto(tombstone.getEntityType(), tombstone.getEntityId(),
+                    tombstone.getChangeVersion(), true, null));
+        }
+
+        // Rows above the horizon come after every row at or below it in each source, so dropping them keeps the
+        // per-source prefixes intact
+        changes.removeIf(change -> change.changeVersion() > horizon);
+        changes.sort(Comparator.comparingLong(ChangeDto::changeVersion));
+        boolean hasMore = changes.size() > limit;
+        List<ChangeDto> result = hasMore ? List.copyOf(changes.subList(0, limit)) : changes;
+        long nextSince = result.isEmpty() ? since : result.get(result.size() - 1).changeVersion();
+        logger.debug("Returning {} changes since version {}, next since: {}, more: {}", result.size(), since,
+                nextSince, hasMore);
+
+        return new ChangeFeedDto(result, nextSince, hasMore);
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private void addFaculties(List<ChangeDto> changes, List<FacultyChangeProjection> faculties) {
+        List<FacultyDto> facultyDtos = universityManagementService.assembleFacultyDtos(faculties);
+        for (int i = 0; i < faculties.size(); i++) {
+            FacultyChangeProjection faculty = faculties.get(i);
+            changes.add(new ChangeDto(ChangeEntityType.FACULTY, faculty.getId(), faculty.getChangeVersion(), false,
+                    facultyDtos.get(i)));
+        }
+    }
+}
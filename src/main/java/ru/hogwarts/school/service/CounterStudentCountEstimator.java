@@ -0,0 +1,81 @@
+package ru.hogwarts.school.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.hogwarts.school.dto.StudentCountDto;
+import ru.hogwarts.school.event.ClusterInvalidationEvent;
+import ru.hogwarts.school.event.ChangeType;
+import ru.hogwarts.school.event.EntityChangedEvent;
+import ru.hogwarts.school.event.EntityType;
+import ru.hogwarts.school.repository.StudentRepository;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counter seeded with one exact count at startup and adjusted from committed student create and delete
+ * events. Writes made by other instances arrive through cluster invalidations when those are enabled, and a
+ * cluster flush reseeds; otherwise they are only picked up on the next reseed.
+ */
+@Service
+@ConditionalOnProperty(name = "app.student-count.estimator", havingValue = "counter")
+public class CounterStudentCountEstimator implements StudentCountEstimator {
+
+    private static final Logger logger = LoggerFactory.getLogger(CounterStudentCountEstimator.class);
+
+    private final StudentRepository studentRepository;
+    private final AtomicLong count = new AtomicLong();
+    // When the count last changed, from a reseed or an applied event: the count is known to be right as of then
+    private volatile Instant asOf = Instant.EPOCH;
+
+    public CounterStudentCountEstimator(StudentRepository studentRepository) {
+        this.studentRepository = studentRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reseed() {
+        count.set(studentRepository.getTotalCountOfStudents());
+        asOf = Instant.now();
+        logger.info("Seeded student counter with {} students", count.get());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entityType() != EntityType.STUDENT) {
+            return;
+        }
+        if (event.entityId() == null) {
+            if (event.changeType() != ChangeType.UPDATED) {
+                reseed();
+            }
+            return;
+        }
+        switch (event.changeType()) {
+            case CREATED -> count.incrementAndGet();
+            case DELETED -> count.decrementAndGet();
+            default -> {
+                return;
+            }
+        }
+        asOf = Instant.now();
+    }
+
+    @EventListener
+    public void onClusterInvalidation(ClusterInvalidationEvent event) {
+        if (event.flushAll()) {
+            reseed();
+            return;
+        }
+        event.changes().forEach(this::onEntityChanged);
+    }
+
+    @Override
+    public StudentCountDto estimate() {
+        return new StudentCountDto(Math.max(count.get(), 0), false, asOf);
+    }
+}
@@ -0,0 +1,130 @@
+package ru.hogwarts.school.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.hogwarts.school.dto.FacultyRosterConsistencyDto;
+import ru.hogwarts.school.dto.StudentDto;
+import ru.hogwarts.school.event.ChangeType;
+import ru.hogwarts.school.event.EntityChangedEvent;
+import ru.hogwarts.school.event.EntityType;
+import ru.hogwarts.school.event.RosterRefreshedEvent;
+import ru.hogwarts.school.outbox.OutboxSubscriber;
+import ru.hogwarts.school.repository.FacultyRosterRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Maintains the {@code faculty_rosters} projection as an outbox subscriber, off the write path. Every handled
+ * event re-reads the current rows of the students or faculties it names, so redelivery is harmless, and
+ * announces the refreshed faculties with a {@link RosterRefreshedEvent} once the dispatcher's transaction
+ * commits, since cached roster responses may have been rebuilt from the old projection in the meantime.
+ */
+@Service
+@Transactional
+public class FacultyRosterService implements OutboxSubscriber {
+
+    private static final Logger logger = LoggerFactory.getLogger(FacultyRosterService.class);
+
+    static final String SUBSCRIBER_NAME = "faculty-roster";
+
+    private final FacultyRosterRepository facultyRosterRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public FacultyRosterService(FacultyRosterRepository facultyRosterRepository,
+                                ApplicationEventPublisher eventPublisher) {
+        this.facultyRosterRepository = facultyRosterRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public String name() {
+        return SUBSCRIBER_NAME;
+    }
+
+    @Override
+    public void handle(long eventId, EntityChangedEvent event) {
+        if (event.entityType() == EntityType.STUDENT) {
+            if (event.entityId() != null) {
+                onStudentsChanged(List.of(event.entityId()));
+            } else if (!event.facultyIds().isEmpty()) {
+                onFacultiesChanged(event.facultyIds());
+            } else {
+                rebuild();
+            }
+        } else if (event.entityType() == EntityType.FACULTY && event.changeType() == ChangeType.DELETED
+                && event.entityId() != null) {
+            onFacultyDeleted(event.entityId());
+        } else {
+            return;
+        }
+
+        if (event.entityId() == null || !event.facultyIds().isEmpty()) {
+            eventPublisher.publishEvent(new RosterRefreshedEvent(event.facultyIds()));
+        }
+    }
+
+    public void onStudentsChanged(Collection<Long> studentIds) {
+        int removed = facultyRosterRepository.deleteAllByStudentIds(studentIds);
+        int inserted = facultyRosterRepository.insertFromStudents(studentIds);
+        logger.debug("Refreshed roster for {} students: {} entries removed, {} entries inserted", studentIds.size(),
+                removed, inserted);
+    }
+
+    // Events for several students carry no student IDs, so every student of the named faculties is re-read
+    public void onFacultiesChanged(Collection<Long> facultyIds) {
+        int removed = facultyRosterRepository.deleteAllForFaculties(facultyIds);
+        int inserted = facultyRosterRepository.insertFromFacultyStudents(facultyIds);
+        logger.debug("Refreshed roster for Faculties {}: {} entries removed, {} entries inserted", facultyIds,
+                removed, inserted);
+    }
+
+    public void onFacultyDeleted(Long facultyId) {
+        int removed = facultyRosterRepository.deleteAllByFacultyId(facultyId);
+        logger.debug("Removed {} roster entries for Faculty with ID: {}", removed, facultyId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<StudentDto> getRoster(Long facultyId) {
+        logger.debug("Was invoked method for GET roster for Faculty with ID: {}", facultyId);
+        return facultyRosterRepository.findRosterByFacultyId(facultyId);
+    }
+
+    @Transactional(readOnly = true)
+    public long countStudents(Long facultyId) {
+        logger.debug("Was invoked method for COUNT roster students for Faculty with ID: {}", facultyId);
+        return facultyRosterRepository.countByFacultyId(facultyId);
+    }
+
+    @Transactional(readOnly = true)
+    public FacultyRosterConsistencyDto checkConsistency() {
+        logger.info("Was invoked method for CHECK faculty roster consistency");
+
+        long rosterEntries = facultyRosterRepository.count();
+        long missingEntries = facultyRosterRepository.countMissingEntries();
+        long staleEntries = facultyRosterRepository.countStaleEntries();
+        boolean consistent = missingEntries == 0 && staleEntries == 0;
+
+        if (consistent) {
+            logger.info("Faculty roster is consistent, {} entries", rosterEntries);
+        } else {
+            logger.warn("Faculty roster is inconsistent: {} missing, {} stale of {} entries", missingEntries,
+                    staleEntries, rosterEntries);
+        }
+
+        return new FacultyRosterConsistencyDto(rosterEntries, missingEntries, staleEntries, consistent);
+    }
+
+    public int rebuild() {
+        logger.info("Was invoked method for REBUILD faculty roster");
+
+        int removed = facultyRosterRepository.deleteAllEntries();
+        int inserted = facultyRosterRepository.rebuildFromStudents();
+
+        logger.info("Faculty roster rebuilt: {} entries removed, {} entries inserted", removed, inserted);
+        return inserted;
+    }
+}
@@ -1,19 +1,27 @@
 package ru.hogwarts.school.service;
 
-import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.hogwarts.school.dto.FacultyCreateDto;
 import ru.hogwarts.school.dto.FacultyDto;
+import ru.hogwarts.school.dto.FacultyPatchDto;
+import ru.hogwarts.school.dto.FacultyRosterConsistencyDto;
 import ru.hogwarts.school.dto.FacultyUpdateDto;
+import ru.hogwarts.school.dto.MultiGetResultDto;
 import ru.hogwarts.school.dto.StudentDto;
+import ru.hogwarts.school.dto.VersionedDto;
+import ru.hogwarts.school.event.ChangeType;
+import ru.hogwarts.school.event.EntityChangedEvent;
 import ru.hogwarts.school.exception.FacultyNotFoundException;
+import ru.hogwarts.school.exception.VersionConflictException;
 import ru.hogwarts.school.mapper.FacultyMapper;
-import ru.hogwarts.school.mapper.StudentMapper;
 import ru.hogwarts.school.model.Faculty;
-import ru.hogwarts.school.model.Student;
+import ru.hogwarts.school.repository.FacultyProjection;
 import ru.hogwarts.school.repository.FacultyRepository;
+import ru.hogwarts.school.util.MultiGetUtil;
 
 import java.util.List;
 
@@ -25,15 +33,17 @@ public class FacultyService {
     private final FacultyRepository facultyRepository;
     private final FacultyMapper facultyMapper;
     private final UniversityManagementService universityManagementService;
-    private final StudentMapper studentMapper;
+    private final FacultyRosterService facultyRosterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public FacultyService(FacultyRepository facultyRepository, FacultyMapper facultyMapper,
                           UniversityManagementService universityManagementService,
-                          StudentMapper studentMapper) {
+                          FacultyRosterService facultyRosterService, ApplicationEventPublisher eventPublisher) {
         this.facultyRepository = facultyRepository;
         this.facultyMapper = facultyMapper;
         this.universityManagementService = universityManagementService;
-        this.studentMapper = studentMapper;
+        this.facultyRosterService = facultyRosterService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -45,6 +55,7 @@ public class FacultyService {
 
         Faculty savedFaculty = facultyRepository.save(faculty);
         logger.debug("Faculty saved to database with ID: {}", savedFaculty.getId());
+        eventPublisher.publishEvent(EntityChangedEvent.faculty(savedFaculty.getId(), ChangeType.CREATED));
 
         FacultyDto result = facultyMapper.toDto(savedFaculty);
         logger.info("Faculty successfully created with ID: {} and name: {}", savedFaculty.getId(),
@@ -53,10 +64,11 @@ public class FacultyService {
         return result;
     }
 
+    @Transactional(readOnly = true)
     public FacultyDto findFaculty(long id) {
         logger.info("Was invoked method for FIND Faculty by ID: {}", id);
 
-        Faculty faculty = facultyRepository.findById(id).orElseThrow(
+        FacultyProjection faculty = facultyRepository.findProjectedById(id).orElseThrow(
                 () -> {
                     logger.error("Faculty not found with ID: {} when ask FIND Faculty", id);
                     return new FacultyNotFoundException(id);
@@ -64,7 +76,23 @@ public class FacultyService {
         );
 
         logger.debug("Faculty found: {} (ID: {})", faculty.getName(), faculty.getId());
-        return facultyMapper.toDto(faculty);
+        return universityManagementService.assembleFacultyDtos(List.of(faculty)).get(0);
+    }
+
+    @Transactional(readOnly = true)
+    public MultiGetResultDto<FacultyDto> findFaculties(List<Long> ids) {
+        List<Long> requestedIds = MultiGetUtil.distinctIds(ids);
+        logger.info("Was invoked method for FIND {} faculties by IDs", requestedIds.size());
+        if (requestedIds.isEmpty()) {
+            return new MultiGetResultDto<>(List.of(), List.of());
+        }
+
+        List<FacultyProjection> faculties = facultyRepository.findProjectedByIdIn(requestedIds);
+        MultiGetResultDto<FacultyDto> result = MultiGetUtil.inRequestOrder(requestedIds,
+                universityManagementService.assembleFacultyDtos(faculties), FacultyDto::id);
+        logger.debug("Found {} of {} requested faculties, missing IDs: {}", result.items().size(),
+                requestedIds.size(), result.missingIds());
+        return result;
     }
 
     @Transactional
@@ -75,12 +103,7 @@ public class FacultyService {
         Faculty existingFaculty = findFacultyEntity(id);
         logger.debug("Found existing Faculty: {} (ID: {})", existingFaculty.getName(), existingFaculty.getId());
 
-        existingFaculty.setName(facultyUpdateDto.name());
-        existingFaculty.setColor(facultyUpdateDto.color());
-        logger.debug("Faculty (ID: {}) fields updated", id);
-
-        Faculty updatedFaculty = facultyRepository.save(existingFaculty);
-        logger.debug("Faculty (ID: {}) saved to database", id);
+        Faculty updatedFaculty = applyChanges(existingFaculty, facultyUpdateDto.name(), facultyUpdateDto.color());
 
         FacultyDto result = facultyMapper.toDto(updatedFaculty);
         logger.info("Faculty successfully updated with ID: {}", id);
@@ -88,55 +111,111 @@ public class FacultyService {
         return result;
     }
 
+    @Transactional
+    public VersionedDto<FacultyDto> patchFaculty(long id, FacultyPatchDto facultyPatchDto, Long expectedVersion) {
+        logger.info("Was invoked method for PATCH Faculty with ID: {}, expected version: {}", id, expectedVersion);
+        logger.debug("PATCH Faculty data - name: {}, color: {}", facultyPatchDto.name(), facultyPatchDto.color());
+
+        Faculty existingFaculty = findFacultyEntity(id);
+        if (expectedVersion != null && expectedVersion != existingFaculty.getVersion()) {
+            logger.warn("Faculty with ID: {} is at version {}, client expected {}", id,
+                    existingFaculty.getVersion(), expectedVersion);
+            throw new VersionConflictException("Faculty", id, existingFaculty.getVersion(), expectedVersion);
+        }
+
+        Faculty patchedFaculty = applyChanges(existingFaculty,
+                facultyPatchDto.name() != null ? facultyPatchDto.name() : existingFaculty.getName(),
+                facultyPatchDto.color() != null ? facultyPatchDto.color() : existingFaculty.getColor());
+        // Flush now so that the returned version already includes this change
+        facultyRepository.flush();
+
+        logger.info("Faculty with ID: {} patched, now at version {}", id, patchedFaculty.getVersion());
+        return new VersionedDto<>(facultyMapper.toDto(patchedFaculty), patchedFaculty.getVersion());
+    }
+
     @Transactional
     public void deleteFaculty(Long facultyId) {
         logger.info("Was invoked method for DELETE Faculty with ID: {}", facultyId);
 
         logger.debug("Delegating Faculty (ID: {}) delete operation to UniversityManagementService", facultyId);
         universityManagementService.deleteFacultyWithStudents(facultyId);
+        eventPublisher.publishEvent(EntityChangedEvent.faculty(facultyId, ChangeType.DELETED));
 
         logger.info("Faculty with ID: {} successfully deleted", facultyId);
     }
 
+    @Transactional(readOnly = true)
     public List<FacultyDto> getFacultiesByColor(String color) {
         logger.info("Was invoked method for GET faculties filtered by Color: {}", color);
 
-        List<Faculty> faculties = facultyRepository.findByColorIgnoreCase(color);
+        List<FacultyProjection> faculties = facultyRepository.findProjectedByColorIgnoreCase(color);
         logger.debug("Found {} faculties with Color: {}", faculties.size(), color);
 
-        return facultyMapper.toDtoList(faculties);
+        return universityManagementService.assembleFacultyDtos(faculties);
     }
 
+    @Transactional(readOnly = true)
     public List<FacultyDto> getAllFaculties() {
         logger.info("Was invoked method for GET ALL faculties");
 
-        List<Faculty> faculties = facultyRepository.findAll();
+        List<FacultyProjection> faculties = facultyRepository.findProjectedByOrderByIdAsc();
         logger.debug("Found {} total faculties", faculties.size());
 
-        return facultyMapper.toDtoList(faculties);
+        return universityManagementService.assembleFacultyDtos(faculties);
     }
 
+    @Transactional(readOnly = true)
     public List<FacultyDto> getFacultiesByNameOrColor(String nameOrColor) {
         logger.info("Was invoked method for GET faculties by Name or Color: {}", nameOrColor);
 
-        List<Faculty> faculties = facultyRepository.findByNameIgnoreCaseOrColorIgnoreCase(nameOrColor, nameOrColor);
+        List<FacultyProjection> faculties =
+                facultyRepository.findProjectedByNameIgnoreCaseOrColorIgnoreCase(nameOrColor, nameOrColor);
         logger.debug("Found {} total faculties matching by Name or Color: {}", faculties.size(), nameOrColor);
 
-        return facultyMapper.toDtoList(faculties);
+        return universityManagementService.assembleFacultyDtos(faculties);
     }
 
+    @Transactional(readOnly = true)
     public List<StudentDto> getFacultyStudents(Long facultyId) {
         logger.info("Was invoked method for GET Faculty students for faculty ID: {}", facultyId);
 
-        if (!facultyRepository.existsById(facultyId)) {
+        List<StudentDto> students = facultyRosterService.getRoster(facultyId);
+        if (students.isEmpty() && !facultyRepository.existsById(facultyId)) {
             logger.error("Faculty not found with ID: {} when ask for FIND faculty students", facultyId);
             throw new FacultyNotFoundException(facultyId);
         }
 
-        List<Student> students = universityManagementService.getStudentsByFaculty(facultyId);
         logger.debug("Found {} total students for Faculty with ID: {}", students.size(), facultyId);
+        return students;
+    }
 
-        return studentMapper.toDtoList(students);
+    @Transactional(readOnly = true)
+    public long countFacultyStudents(Long facultyId) {
+        logger.info("Was invoked method for COUNT Faculty students for faculty ID: {}", facultyId);
+
+        long count = facultyRosterService.countStudents(facultyId);
+        if (count == 0 && !facultyRepository.existsById(facultyId)) {
+            logger.error("Faculty not found with ID: {} when ask for COUNT faculty students", facultyId);
+            throw new FacultyNotFoundException(facultyId);
+        }
+
+        logger.debug("Counted {} students for Faculty with ID: {}", count, facultyId);
+        return count;
+    }
+
+    public FacultyRosterConsistencyDto checkRosterConsistency() {
+        logger.info("Was invoked method for CHECK Faculty roster consistency");
+        return facultyRosterService.checkConsistency();
+    }
+
+    public FacultyRosterConsistencyDto rebuildRoster() {
+        logger.info("Was invoked method for REBUILD Faculty roster");
+
+        int entries = facultyRosterService.rebuild();
+        logger.info("Faculty roster rebuilt with {} entries", entries);
+        eventPublisher.publishEvent(EntityChangedEvent.allFaculties());
+
+        return facultyRosterService.checkConsistency();
     }
 
     public Faculty findFacultyEntity(long id) {
@@ -152,4 +231,20 @@ public class FacultyService {
         logger.debug("Faculty entity found: {} (ID: {})", faculty.getName(), id);
         return faculty;
     }
-}
\ No newline at end of file
+
+    // ========== HELPER METHODS ==========
+
+    private Faculty applyChanges(Faculty faculty, String name, String color) {
+        if (name.equals(faculty.getName()) && color.equals(faculty.getColor())) {
+            logger.debug("Faculty with ID: {} is unchanged, skipping write", faculty.getId());
+            return faculty;
+        }
+
+        faculty.setName(name);
+        faculty.setColor(color);
+        Faculty updatedFaculty = facultyRepository.save(faculty);
+        logger.debug("Faculty (ID: {}) saved to database", faculty.getId());
+        eventPublisher.publishEvent(EntityChangedEvent.faculty(faculty.getId(), ChangeType.UPDATED));
+        return updatedFaculty;
+    }
+}
@@ -0,0 +1,176 @@
+package ru.hogwarts.school.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import ru.hogwarts.school.dto.StudentSearchResultDto;
+import ru.hogwarts.school.event.EntityChangedEvent;
+import ru.hogwarts.school.event.EntityType;
+import ru.hogwarts.school.model.Student;
+import ru.hogwarts.school.outbox.OutboxSubscriber;
+import ru.hogwarts.school.repository.StudentRepository;
+import ru.hogwarts.school.util.NameTransliterator;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory trigram index over student names. Each instance keeps its own copy, built at startup and kept up
+ * to date as an instance-local outbox subscriber, so writes made through other instances reach it as well.
+ */
+@Service
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "ngram")
+public class NgramStudentSearchEngine implements StudentSearchEngine, OutboxSubscriber {
+
+    private static final Logger logger = LoggerFactory.getLogger(NgramStudentSearchEngine.class);
+    private static final double SIMILARITY_THRESHOLD = 0.3;
+
+    private final String subscriberName = "student-search-index@" + UUID.randomUUID();
+
+    private final StudentRepository studentRepository;
+    private final Map<Long, Set<String>> trigramsByStudent = new ConcurrentHashMap<>();
+    private final Map<Long, String> searchNames = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final ReentrantLock indexLock = new ReentrantLock();
+
+    public NgramStudentSearchEngine(StudentRepository studentRepository) {
+        this.studentRepository = studentRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        studentRepository.findAllNames()
+                         .forEach(student -> index(student.getId(), NameTransliterator.normalize(student.getName())));
+        logger.info("Built in-memory n-gram index for {} students", searchNames.size());
+    }
+
+    @Override
+    public List<StudentSearchResultDto> search(String normalizedQuery, int limit, long offset) {
+        logger.debug("Searching students by in-memory n-gram index for '{}', limit: {}, offset: {}", normalizedQuery,
+                limit, offset);
+
+        Set<String> queryTrigrams = trigrams(normalizedQuery);
+        Set<Long> candidates = new HashSet<>();
+        queryTrigrams.forEach(trigram -> candidates.addAll(postings.getOrDefault(trigram, Set.of())));
+
+        List<Map.Entry<Long, Double>> ranked = candidates.stream()
+                                                         .map(id -> Map.entry(id, score(normalizedQuery,
+                                                                 queryTrigrams, id)))
+                                                         .filter(entry -> entry.getValue() >= SIMILARITY_THRESHOLD)
+                                                         .sorted(Map.Entry.<Long, Double>comparingByValue()
+                                                                          .reversed()
+                                                                          .thenComparing(Map.Entry.comparingByKey()))
+                                                         .skip(offset)
+                                                         .limit(limit)
+                                                         .toList();
+
+        Map<Long, Student> students = studentRepository.findAllById(ranked.stream().map(Map.Entry::getKey).toList())
+                                                       .stream()
+                                                       .collect(Collectors.toMap(Student::getId, Function.identity()));
+
+        return ranked.stream()
+                     .filter(entry -> students.containsKey(entry.getKey()))
+                     .map(entry -> {
+                         Student student = students.get(entry.getKey());
+                         Long facultyId = student.getFaculty() != null ? student.getFaculty().getId() : null;
+                         return new StudentSearchResultDto(student.getId(), student.getName(), student.getAge(),
+                                 facultyId, entry.getValue());
+                     })
+                     .toList();
+    }
+
+    @Override
+    public String name() {
+        return subscriberName;
+    }
+
+    @Override
+    public boolean instanceLocal() {
+        return true;
+    }
+
+    // Events without a student ID come from bulk updates and faculty deletes, which never change a name
+    @Override
+    public void handle(long eventId, EntityChangedEvent event) {
+        if (event.entityType() != EntityType.STUDENT || event.entityId() == null) {
+            return;
+        }
+        Long studentId = event.entityId();
+        studentRepository.findById(studentId)
+                         .ifPresentOrElse(student -> index(studentId, NameTransliterator.normalize(student.getName())),
+                                 () -> remove(studentId));
+    }
+
+    private double score(String normalizedQuery, Set<String> queryTrigrams, Long studentId) {
+        String searchName = searchNames.get(studentId);
+        Set<String> nameTrigrams = trigramsByStudent.get(studentId);
+        if (searchName == null || nameTrigrams == null) {
+            return 0.0;
+        }
+        if (searchName.contains(normalizedQuery)) {
+            return 1.0;
+        }
+
+        long common = queryTrigrams.stream().filter(nameTrigrams::contains).count();
+        double similarity = (double) common / (queryTrigrams.size() + nameTrigrams.size() - common);
+        double wordSimilarity = (double) common / queryTrigrams.size();
+        return Math.max(similarity, wordSimilarity);
+    }
+
+    private void index(Long studentId, String searchName) {
+        indexLock.lock();
+        try {
+            remove(studentId);
+            Set<String> nameTrigrams = trigrams(searchName);
+            searchNames.put(studentId, searchName);
+            trigramsByStudent.put(studentId, nameTrigrams);
+            nameTrigrams.forEach(trigram -> postings.computeIfAbsent(trigram, key -> ConcurrentHashMap.newKeySet())
+                                                    .add(studentId));
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    private void remove(Long studentId) {
+        indexLock.lock();
+        try {
+            removeFromIndex(studentId);
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    private void removeFromIndex(Long studentId) {
+        searchNames.remove(studentId);
+        Set<String> nameTrigrams = trigramsByStudent.remove(studentId);
+        if (nameTrigrams != null) {
+            nameTrigrams.forEach(trigram -> {
+                Set<Long> studentIds = postings.get(trigram);
+                if (studentIds != null) {
+                    studentIds.remove(studentId);
+                }
+            });
+        }
+    }
+
+    // Same padding as pg_trgm: every word becomes "  word " before it is split into trigrams
+    static Set<String> trigrams(String normalized) {
+        Set<String> result = new HashSet<>();
+        for (String word : normalized.split(" ")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                result.add(padded.substring(i, i + 3));
+            }
+        }
+        return result;
+    }
+}
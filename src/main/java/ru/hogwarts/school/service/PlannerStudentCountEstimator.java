@@ -0,0 +1,39 @@
+package ru.hogwarts.school.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.hogwarts.school.dto.StudentCountDto;
+import ru.hogwarts.school.repository.StudentRepository;
+
+import java.time.Instant;
+
+/**
+ * Reads the PostgreSQL planner estimate ({@code pg_class.reltuples}, scaled to the current relation size).
+ * Falls back to an exact count while the table has never been analyzed.
+ */
+@Service
+@ConditionalOnProperty(name = "app.student-count.estimator", havingValue = "planner", matchIfMissing = true)
+public class PlannerStudentCountEstimator implements StudentCountEstimator {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlannerStudentCountEstimator.class);
+
+    private final StudentRepository studentRepository;
+
+    public PlannerStudentCountEstimator(StudentRepository studentRepository) {
+        this.studentRepository = studentRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StudentCountDto estimate() {
+        Long estimate = studentRepository.estimateStudentCount();
+        if (estimate == null) {
+            logger.debug("No planner statistics for students yet, falling back to exact count");
+            return new StudentCountDto(studentRepository.getTotalCountOfStudents(), true, Instant.now());
+        }
+        return new StudentCountDto(estimate, false, Instant.now());
+    }
+}
@@ -0,0 +1,172 @@
+package ru.hogwarts.school.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.hogwarts.school.dto.BulkUpdateResultDto;
+import ru.hogwarts.school.dto.StudentBulkTransferDto;
+import ru.hogwarts.school.dto.StudentBulkUpdateDto;
+import ru.hogwarts.school.event.ChangeType;
+import ru.hogwarts.school.event.EntityChangedEvent;
+import ru.hogwarts.school.exception.InvalidBulkUpdateException;
+import ru.hogwarts.school.model.Faculty;
+import ru.hogwarts.school.repository.FacultyStudentIdProjection;
+import ru.hogwarts.school.repository.StudentRepository;
+import ru.hogwarts.school.sync.ChangeVersionGenerator;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.LongFunction;
+
+/**
+ * Set-based student updates. Each chunk of up to {@value #CHUNK_SIZE} students is selected by keyset,
+ * updated with one UPDATE statement and committed in its own short transaction together with its change
+ * event, so row locks are never held for the whole operation. Each UPDATE repeats the
+ * chunk's filter, so a row that left the selection after it was read is not changed. Bulk UPDATEs bypass
+ * entity listeners, so each chunk re-stamps its rows with fresh change versions itself.
+ */
+@Service
+public class StudentBulkService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentBulkService.class);
+
+    static final int CHUNK_SIZE = 1_000;
+
+    private final StudentRepository studentRepository;
+    private final UniversityManagementService universityManagementService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ChangeVersionGenerator changeVersionGenerator;
+
+    public StudentBulkService(StudentRepository studentRepository,
+                              UniversityManagementService universityManagementService,
+                              ApplicationEventPublisher eventPublisher, TransactionTemplate transactionTemplate,
+                              ChangeVersionGenerator changeVersionGenerator) {
+        this.studentRepository = studentRepository;
+        this.universityManagementService = universityManagementService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.changeVersionGenerator = changeVersionGenerator;
+    }
+
+    public BulkUpdateResultDto transferStudents(StudentBulkTransferDto transferDto) {
+        logger.info("Was invoked method for BULK TRANSFER students from Faculty: {} / {} IDs to Faculty: {}",
+                transferDto.fromFacultyId(), transferDto.studentIds() != null ? transferDto.studentIds().size() : 0,
+                transferDto.toFacultyId());
+
+        boolean bySource = transferDto.fromFacultyId() != null;
+        boolean byIds = transferDto.studentIds() != null && !transferDto.studentIds().isEmpty();
+        if (bySource == byIds) {
+            throw new InvalidBulkUpdateException("Specify exactly one of fromFacultyId or studentIds");
+        }
+
+        Faculty target = universityManagementService.findFacultyEntity(transferDto.toFacultyId());
+        if (bySource) {
+            universityManagementService.findFacultyEntity(transferDto.fromFacultyId());
+        }
+
+        LongFunction<Chunk> source = bySource
+                ? afterId -> keysetChunk(afterId, transferDto.fromFacultyId(), null, null)
+                : idListSource(transferDto.studentIds());
+        BulkUpdateResultDto result = applyInChunks(source, (ids, facultyIds) -> {
+            facultyIds.add(target.getId());
+            return studentRepository.transferAll(ids, transferDto.fromFacultyId(), target);
+        });
+
+        logger.info("Bulk transfer to Faculty: {} completed, {} students in {} chunks", target.getId(),
+                result.affected(), result.chunks());
+        return result;
+    }
+
+    public BulkUpdateResultDto updateStudents(StudentBulkUpdateDto updateDto) {
+        logger.info("Was invoked method for BULK UPDATE students: {}", updateDto);
+
+        if ((updateDto.age() == null) == (updateDto.ageDelta() == null)) {
+            throw new InvalidBulkUpdateException("Specify exactly one of age or ageDelta");
+        }
+        if (updateDto.minAge() != null && updateDto.maxAge() != null && updateDto.minAge() > updateDto.maxAge()) {
+            throw new InvalidBulkUpdateException("minAge must not be greater than maxAge");
+        }
+
+        BulkUpdateResultDto result = applyInChunks(
+                afterId -> keysetChunk(afterId, updateDto.facultyId(), updateDto.minAge(), updateDto.maxAge()),
+                (ids, facultyIds) -> updateDto.age() != null
+                        ? studentRepository.setAgeForAll(ids, updateDto.facultyId(), updateDto.minAge(),
+                                updateDto.maxAge(), updateDto.age())
+                        : studentRepository.shiftAgeForAll(ids, updateDto.facultyId(), updateDto.minAge(),
+                                updateDto.maxAge(), updateDto.ageDelta()));
+
+        logger.info("Bulk update completed, {} students in {} chunks", result.affected(), result.chunks());
+        return result;
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private BulkUpdateResultDto applyInChunks(LongFunction<Chunk> source,
+                                              BiFunction<List<Long>, Set<Long>, Integer> update) {
+        long affected = 0;
+        int chunks = 0;
+        long afterId = 0;
+        while (true) {
+            long cursor = afterId;
+            ChunkResult chunkResult = transactionTemplate.execute(status -> {
+                Chunk chunk = source.apply(cursor);
+                if (chunk == null) {
+                    return null;
+                }
+                if (chunk.rows().isEmpty()) {
+                    return new ChunkResult(chunk.lastId(), 0);
+                }
+
+                List<Long> ids = chunk.rows().stream().map(FacultyStudentIdProjection::getStudentId).toList();
+                Set<Long> facultyIds = new HashSet<>();
+                chunk.rows().stream()
+                     .map(FacultyStudentIdProjection::getFacultyId)
+                     .filter(Objects::nonNull)
+                     .forEach(facultyIds::add);
+
+                int updated = update.apply(ids, facultyIds);
+                changeVersionGenerator.stampStudents(ids);
+                eventPublisher.publishEvent(EntityChangedEvent.students(ChangeType.UPDATED, facultyIds));
+                return new ChunkResult(chunk.lastId(), updated);
+            });
+            if (chunkResult == null) {
+                return new BulkUpdateResultDto(affected, chunks);
+            }
+            affected += chunkResult.updated();
+            chunks++;
+            afterId = chunkResult.lastId();
+            logger.debug("Bulk chunk {} committed: {} students, cursor at ID {}", chunks, chunkResult.updated(),
+                    afterId);
+        }
+    }
+
+    private Chunk keysetChunk(long afterId, Long facultyId, Integer minAge, Integer maxAge) {
+        List<FacultyStudentIdProjection> rows = studentRepository.findChunkAfter(afterId, facultyId, minAge, maxAge,
+                PageRequest.of(0, CHUNK_SIZE));
+        return rows.isEmpty() ? null : new Chunk(rows.get(rows.size() - 1).getStudentId(), rows);
+    }
+
+    private LongFunction<Chunk> idListSource(List<Long> studentIds) {
+        List<Long> sortedIds = studentIds.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        return afterId -> {
+            List<Long> chunkIds = sortedIds.stream().filter(id -> id > afterId).limit(CHUNK_SIZE).toList();
+            if (chunkIds.isEmpty()) {
+                return null;
+            }
+            return new Chunk(chunkIds.get(chunkIds.size() - 1), studentRepository.findFacultyIdsByStudentIds(chunkIds));
+        };
+    }
+
+    private record Chunk(long lastId, List<FacultyStudentIdProjection> rows) {
+    }
+
+    private record ChunkResult(long lastId, int updated) {
+    }
+}
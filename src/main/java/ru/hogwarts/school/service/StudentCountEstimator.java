@@ -0,0 +1,8 @@
+package ru.hogwarts.school.service;
+
+import ru.hogwarts.school.dto.StudentCountDto;
+
+public interface StudentCountEstimator {
+
+    StudentCountDto estimate();
+}
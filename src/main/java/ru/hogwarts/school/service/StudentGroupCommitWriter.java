@@ -0,0 +1,266 @@
+package ru.hogwarts.school.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.hogwarts.school.dto.StudentCreateDto;
+import ru.hogwarts.school.dto.StudentDto;
+import ru.hogwarts.school.event.ChangeType;
+import ru.hogwarts.school.event.EntityChangedEvent;
+import ru.hogwarts.school.exception.FacultyNotFoundException;
+import ru.hogwarts.school.exception.GroupCommitTimeoutException;
+import ru.hogwarts.school.model.Student;
+import ru.hogwarts.school.repository.FacultyRepository;
+import ru.hogwarts.school.repository.StudentBatchInsertRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Group commit for student creates. Concurrent callers enqueue their request and block; a single writer
+ * thread drains up to {@code maxBatchSize} requests, waiting at most {@code maxDelayMillis} after the first
+ * one, and commits them as one multi-row insert in one transaction. Rows referencing a missing faculty fail
+ * individually before the insert; if the batch itself fails, its rows are retried one by one so that each
+ * caller receives its own error. Callers wait at most {@code callerTimeoutMillis}: a request still queued by
+ * then is written on the caller thread, one already in a batch fails with {@link GroupCommitTimeoutException}.
+ * If the writer thread ever stops, creates fall back to the caller thread.
+ */
+public class StudentGroupCommitWriter implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentGroupCommitWriter.class);
+
+    private final StudentBatchInsertRepository studentBatchInsertRepository;
+    private final FacultyRepository facultyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final long callerTimeoutMillis;
+    private final BlockingQueue<PendingCreate> queue;
+    private final Thread writer;
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private volatile boolean running = true;
+
+    public StudentGroupCommitWriter(StudentBatchInsertRepository studentBatchInsertRepository,
+                                    FacultyRepository facultyRepository, ApplicationEventPublisher eventPublisher,
+                                    TransactionTemplate transactionTemplate, int maxBatchSize, long maxDelayMillis,
+                                    int queueCapacity, long callerTimeoutMillis) {
+        this.studentBatchInsertRepository = studentBatchInsertRepository;
+        this.facultyRepository = facultyRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.callerTimeoutMillis = callerTimeoutMillis;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::drainLoop, "student-group-commit");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public StudentDto create(StudentCreateDto request) {
+        PendingCreate pending = new PendingCreate(request, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            logger.debug("Group commit queue unavailable, writing Student '{}' on caller thread", request.name());
+            commit(List.of(pending));
+        }
+        try {
+            return await(pending, callerTimeoutMillis);
+        } catch (TimeoutException e) {
+            if (!queue.remove(pending)) {
+                logger.error("Student '{}' was not group-committed within {} ms", request.name(),
+                        callerTimeoutMillis);
+                throw new GroupCommitTimeoutException(callerTimeoutMillis);
+            }
+            logger.warn("Student '{}' still queued after {} ms, writing on caller thread", request.name(),
+                    callerTimeoutMillis);
+            commit(List.of(pending));
+            return committed(pending);
+        }
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    public long getRowCount() {
+        return rows.sum();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        List<PendingCreate> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            commit(remaining);
+        }
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private void drainLoop() {
+        List<PendingCreate> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (running) {
+                try {
+                    batch.add(queue.take());
+                    long deadline = System.nanoTime() + maxDelayNanos;
+                    while (batch.size() < maxBatchSize) {
+                        long remaining = deadline - System.nanoTime();
+                        PendingCreate next = remaining > 0
+                                ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                                : queue.poll();
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                commitGuarded(batch);
+                batch = new ArrayList<>(maxBatchSize);
+            }
+            if (!batch.isEmpty()) {
+                commitGuarded(batch);
+            }
+        } finally {
+            if (running) {
+                // Only reachable if something escaped commitGuarded; later creates bypass the dead queue
+                running = false;
+                logger.error("Group commit writer stopped unexpectedly, creates now commit on caller threads");
+                List<PendingCreate> stranded = new ArrayList<>(batch);
+                queue.drainTo(stranded);
+                stranded.forEach(pending -> pending.result().completeExceptionally(
+                        new IllegalStateException("Group commit writer stopped")));
+            }
+        }
+    }
+
+    // An Error must not kill the single writer thread and leave every later caller waiting on the queue
+    private void commitGuarded(List<PendingCreate> batch) {
+        try {
+            commit(batch);
+        } catch (Throwable e) {
+            logger.error("Group commit of {} students failed unexpectedly", batch.size(), e);
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+        }
+    }
+
+    private void commit(List<PendingCreate> batch) {
+        try {
+            List<PendingCreate> accepted = rejectMissingFaculties(batch);
+            if (accepted.isEmpty()) {
+                return;
+            }
+
+            List<Student> students = transactionTemplate.execute(status -> insert(accepted));
+            batches.increment();
+            rows.add(students.size());
+            logger.debug("Group-committed {} students in one transaction", students.size());
+
+            for (int i = 0; i < accepted.size(); i++) {
+                Student student = students.get(i);
+                Long facultyId = student.getFaculty() != null ? student.getFaculty().getId() : null;
+                accepted.get(i).result().complete(
+                        new StudentDto(student.getId(), student.getName(), student.getAge(), facultyId));
+            }
+        } catch (RuntimeException e) {
+            if (batch.size() > 1) {
+                logger.warn("Group commit of {} students failed, retrying rows individually", batch.size(), e);
+                batch.forEach(pending -> commit(List.of(pending)));
+            } else {
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+            }
+        }
+    }
+
+    private List<PendingCreate> rejectMissingFaculties(List<PendingCreate> batch) {
+        List<Long> facultyIds = batch.stream()
+                                     .map(pending -> pending.request().facultyId())
+                                     .filter(Objects::nonNull)
+                                     .distinct()
+                                     .toList();
+        Set<Long> existing = facultyIds.isEmpty() ? Set.of() : facultyRepository.findExistingIds(facultyIds);
+
+        List<PendingCreate> accepted = new ArrayList<>(batch.size());
+        for (PendingCreate pending : batch) {
+            Long facultyId = pending.request().facultyId();
+            if (pending.result().isDone()) {
+                continue;
+            }
+            if (facultyId != null && !existing.contains(facultyId)) {
+                logger.error("Faculty with ID: {} not found when group-committing Student '{}'", facultyId,
+                        pending.request().name());
+                pending.result().completeExceptionally(new FacultyNotFoundException(facultyId));
+            } else {
+                accepted.add(pending);
+            }
+        }
+        return accepted;
+    }
+
+    private List<Student> insert(List<PendingCreate> accepted) {
+        List<Student> students = new ArrayList<>(accepted.size());
+        for (PendingCreate pending : accepted) {
+            StudentCreateDto request = pending.request();
+            Student student = new Student(request.name(), request.age());
+            if (request.facultyId() != null) {
+                student.setFaculty(facultyRepository.getReferenceById(request.facultyId()));
+            }
+            students.add(student);
+        }
+
+        studentBatchInsertRepository.insertAll(students);
+        for (Student student : students) {
+            Long facultyId = student.getFaculty() != null ? student.getFaculty().getId() : null;
+            eventPublisher.publishEvent(EntityChangedEvent.student(student.getId(), ChangeType.CREATED, facultyId));
+        }
+        return students;
+    }
+
+    private static StudentDto await(PendingCreate pending, long timeoutMillis) throws TimeoutException {
+        try {
+            return pending.result().get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Group commit failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for group commit", e);
+        }
+    }
+
+    private static StudentDto committed(PendingCreate pending) {
+        try {
+            return pending.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record PendingCreate(StudentCreateDto request, CompletableFuture<StudentDto> result) {
+    }
+}
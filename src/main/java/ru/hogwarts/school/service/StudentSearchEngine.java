@@ -0,0 +1,10 @@
+package ru.hogwarts.school.service;
+
+import ru.hogwarts.school.dto.StudentSearchResultDto;
+
+import java.util.List;
+
+public interface StudentSearchEngine {
+
+    List<StudentSearchResultDto> search(String normalizedQuery, int limit, long offset);
+}
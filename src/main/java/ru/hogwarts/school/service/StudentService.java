@@ -2,40 +2,84 @@ package ru.hogwarts.school.service;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.hogwarts.school.coalescing.Coalesced;
 import ru.hogwarts.school.dto.FacultyDto;
+import ru.hogwarts.school.dto.MultiGetResultDto;
+import ru.hogwarts.school.dto.StudentCountDto;
 import ru.hogwarts.school.dto.StudentCreateDto;
 import ru.hogwarts.school.dto.StudentDto;
+import ru.hogwarts.school.dto.StudentPatchDto;
+import ru.hogwarts.school.dto.StudentSearchResultDto;
 import ru.hogwarts.school.dto.StudentUpdateDto;
+import ru.hogwarts.school.dto.VersionedDto;
+import ru.hogwarts.school.event.ChangeType;
+import ru.hogwarts.school.event.EntityChangedEvent;
+import ru.hogwarts.school.event.EntityType;
 import ru.hogwarts.school.exception.StudentNotFoundException;
+import ru.hogwarts.school.exception.VersionConflictException;
 import ru.hogwarts.school.mapper.StudentMapper;
 import ru.hogwarts.school.model.Faculty;
 import ru.hogwarts.school.model.Student;
 import ru.hogwarts.school.repository.StudentRepository;
+import ru.hogwarts.school.util.MultiGetUtil;
+import ru.hogwarts.school.util.NameTransliterator;
+import ru.hogwarts.school.util.PaginationUtil;
 
 import java.util.List;
+import java.util.Objects;
 
 @Service
 public class StudentService {
 
     private static final Logger logger = LoggerFactory.getLogger(StudentService.class);
 
+    private static final int LAST_STUDENTS_COUNT = 5;
+
     private final StudentRepository studentRepository;
     private final StudentMapper studentMapper;
     private final UniversityManagementService universityManagementService;
+    private final StudentSearchEngine studentSearchEngine;
+    private final StudentCountEstimator studentCountEstimator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final StudentGroupCommitWriter studentGroupCommitWriter;
 
     public StudentService(StudentRepository studentRepository, StudentMapper studentMapper,
-                          UniversityManagementService universityManagementService) {
+                          UniversityManagementService universityManagementService,
+                          StudentSearchEngine studentSearchEngine, StudentCountEstimator studentCountEstimator,
+                          ApplicationEventPublisher eventPublisher,
+                          TransactionTemplate transactionTemplate,
+                          ObjectProvider<StudentGroupCommitWriter> studentGroupCommitWriter) {
         this.studentRepository = studentRepository;
         this.studentMapper = studentMapper;
         this.universityManagementService = universityManagementService;
+        this.studentSearchEngine = studentSearchEngine;
+        this.studentCountEstimator = studentCountEstimator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.studentGroupCommitWriter = studentGroupCommitWriter.getIfAvailable();
     }
 
-    @Transactional
     public StudentDto createStudent(StudentCreateDto studentCreateDto) {
         logger.info("Was invoked method for CREATE Student with Name: {}", studentCreateDto.name());
 
+        // Group commit waits for the batch outside any transaction, so no connection is held while queued;
+        // inside a caller's transaction the row has to be written by that transaction instead
+        if (studentGroupCommitWriter != null && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return studentGroupCommitWriter.create(studentCreateDto);
+        }
+        return transactionTemplate.execute(status -> createStudentInTransaction(studentCreateDto));
+    }
+
+    private StudentDto createStudentInTransaction(StudentCreateDto studentCreateDto) {
         Student student = studentMapper.toEntity(studentCreateDto);
         logger.debug("Mapped StudentCreateDto to Student entity: {}", studentCreateDto.name());
 
@@ -50,6 +94,8 @@ public class StudentService {
 
         Student savedStudent = studentRepository.save(student);
         logger.debug("Student saved to database with ID: {}", savedStudent.getId());
+        eventPublisher.publishEvent(EntityChangedEvent.student(savedStudent.getId(), ChangeType.CREATED,
+                facultyIdOf(savedStudent)));
 
         StudentDto result = studentMapper.toDto(savedStudent);
         logger.info("Student successfully created with ID: {} and Name: {}", savedStudent.getId(),
@@ -58,17 +104,33 @@ public class StudentService {
         return result;
     }
 
+    @Transactional(readOnly = true)
     public StudentDto findStudent(long id) {
         logger.info("Was invoked method for FIND Student by ID: {}", id);
 
-        Student student = studentRepository.findById(id).orElseThrow(
+        StudentDto student = studentRepository.findDtoById(id).orElseThrow(
                 () -> {
                     logger.error("Student with ID: {} not found when ask FIND Student", id);
                     return new StudentNotFoundException(id);
                 }
         );
-        logger.debug("Student found: {} (ID: {}, age: {})", student.getName(), student.getId(), student.getAge());
-        return studentMapper.toDto(student);
+        logger.debug("Student found: {} (ID: {}, age: {})", student.name(), student.id(), student.age());
+        return student;
+    }
+
+    @Transactional(readOnly = true)
+    public MultiGetResultDto<StudentDto> findStudents(List<Long> ids) {
+        List<Long> requestedIds = MultiGetUtil.distinctIds(ids);
+        logger.info("Was invoked method for FIND {} students by IDs", requestedIds.size());
+        if (requestedIds.isEmpty()) {
+            return new MultiGetResultDto<>(List.of(), List.of());
+        }
+
+        MultiGetResultDto<StudentDto> result = MultiGetUtil.inRequestOrder(requestedIds,
+                studentRepository.findDtosByIdIn(requestedIds), StudentDto::id);
+        logger.debug("Found {} of {} requested students, missing IDs: {}", result.items().size(),
+                requestedIds.size(), result.missingIds());
+        return result;
     }
 
     @Transactional
@@ -81,21 +143,8 @@ public class StudentService {
         logger.debug("Found existing Student: {} (ID: {}, age: {}", existingStudent.getName(),
                 existingStudent.getId(), existingStudent.getAge());
 
-        existingStudent.setName(studentUpdateDto.name());
-        existingStudent.setAge(studentUpdateDto.age());
-        logger.debug("Student basic fields updated");
-
-        if (studentUpdateDto.facultyId() != null) {
-            logger.debug("Updating Faculty for Student, new faculty ID: {}",studentUpdateDto.facultyId());
-
-            Faculty faculty = universityManagementService.findFacultyEntity(studentUpdateDto.facultyId());
-            existingStudent.setFaculty(faculty);
-        } else {
-            existingStudent.setFaculty(null);
-        }
-
-        Student updatedStudent = studentRepository.save(existingStudent);
-        logger.debug("Student saved to database");
+        Student updatedStudent = applyChanges(existingStudent, studentUpdateDto.name(), studentUpdateDto.age(),
+                studentUpdateDto.facultyId());
 
         StudentDto result = studentMapper.toDto(updatedStudent);
         logger.info("Student successfully updated with ID: {}", id);
@@ -103,6 +152,37 @@ public class StudentService {
         return result;
     }
 
+    @Transactional
+    public VersionedDto<StudentDto> patchStudent(long id, StudentPatchDto studentPatchDto, Long expectedVersion) {
+        logger.info("Was invoked method for PATCH Student with ID: {}, expected version: {}", id, expectedVersion);
+        logger.debug("Patch Student data: {}", studentPatchDto);
+
+        Student existingStudent = findStudentEntity(id);
+        if (expectedVersion != null && expectedVersion != existingStudent.getVersion()) {
+            logger.warn("Student with ID: {} is at version {}, client expected {}", id,
+                    existingStudent.getVersion(), expectedVersion);
+            throw new VersionConflictException("Student", id, existingStudent.getVersion(), expectedVersion);
+        }
+
+        Long facultyId;
+        if (studentPatchDto.removeFaculty()) {
+            facultyId = null;
+        } else if (studentPatchDto.facultyId() != null) {
+            facultyId = studentPatchDto.facultyId();
+        } else {
+            facultyId = facultyIdOf(existingStudent);
+        }
+        Student patchedStudent = applyChanges(existingStudent,
+                studentPatchDto.name() != null ? studentPatchDto.name() : existingStudent.getName(),
+                studentPatchDto.age() != null ? studentPatchDto.age() : existingStudent.getAge(),
+                facultyId);
+        // Flush now so that the returned version already includes this change
+        studentRepository.flush();
+
+        logger.info("Student with ID: {} patched, now at version {}", id, patchedStudent.getVersion());
+        return new VersionedDto<>(studentMapper.toDto(patchedStudent), patchedStudent.getVersion());
+    }
+
     @Transactional
     public StudentDto deleteStudent(long id) {
         logger.info("Was invoked method for DELETE Student by ID: {}", id);
@@ -116,6 +196,7 @@ public class StudentService {
 
         logger.debug("Deleting Student {} (ID: {})", student.getName(),student.getId());
         studentRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.student(id, ChangeType.DELETED, facultyIdOf(student)));
 
         StudentDto result = studentMapper.toDto(student);
         logger.info("Student successfully deleted with ID: {} and Name: {}", id, student.getName());
@@ -123,42 +204,77 @@ public class StudentService {
         return result;
     }
 
+    @Transactional(readOnly = true)
     public List<StudentDto> getStudentsByAge(int age) {
         logger.info("Was invoked method for get students by age: {}", age);
 
-        List<Student> students = studentRepository.findByAge(age);
+        List<StudentDto> students = studentRepository.findDtosByAge(age);
         logger.debug("Found {} students with age: {}", students.size(), age);
 
-        return studentMapper.toDtoList(students);
+        return students;
     }
 
+    @Transactional(readOnly = true)
     public List<StudentDto> getAllStudents() {
         logger.info("Was invoked method for GET ALL students");
 
-        List<Student> students = studentRepository.findAll();
+        List<StudentDto> students = studentRepository.findAllDtos();
         logger.debug("Found {} total students", students.size());
 
-        return studentMapper.toDtoList(students);
+        return students;
     }
 
+    @Transactional(readOnly = true)
     public List<StudentDto> getStudentsByAgeBetween(int minAge, int maxAge) {
         logger.info("Was invoked method for GET students by age between {} and {}", minAge, maxAge);
 
-        List<Student> students = studentRepository.findByAgeBetween(minAge, maxAge);
+        List<StudentDto> students = studentRepository.findDtosByAgeBetween(minAge, maxAge);
         logger.debug("Found {} students with age between {} and {}", students.size(), minAge, maxAge);
 
-        return studentMapper.toDtoList(students);
+        return students;
+    }
+
+    @Transactional(readOnly = true)
+    public List<StudentSearchResultDto> searchStudents(String query, int page, int size) {
+        logger.info("Was invoked method for SEARCH students by query: '{}', page: {}, size: {}", query, page, size);
+
+        Pageable pageable = PaginationUtil.createPageRequest(page, size);
+        String normalizedQuery = NameTransliterator.normalize(query);
+        if (normalizedQuery.isEmpty()) {
+            logger.warn("Search query '{}' is empty after normalization", query);
+            return List.of();
+        }
+
+        List<StudentSearchResultDto> results = studentSearchEngine.search(normalizedQuery, pageable.getPageSize(),
+                pageable.getOffset());
+        logger.debug("Found {} students matching '{}' (normalized: '{}')", results.size(), query, normalizedQuery);
+
+        return results;
     }
 
-    public Integer getTotalCountOfStudents() {
+    @Coalesced(invalidatedBy = EntityType.STUDENT)
+    @Transactional(readOnly = true)
+    public Long getTotalCountOfStudents() {
         logger.info("Was invoked method for GET total count of students");
 
-        Integer count = studentRepository.getTotalCountOfStudents();
+        long count = studentRepository.getTotalCountOfStudents();
         logger.debug("Total students count: {}", count);
 
         return count;
     }
 
+    @Transactional(readOnly = true)
+    public StudentCountDto estimateTotalCountOfStudents() {
+        logger.info("Was invoked method for GET estimated total count of students");
+
+        StudentCountDto count = studentCountEstimator.estimate();
+        logger.debug("Estimated students count: {} (exact: {})", count.count(), count.exact());
+
+        return count;
+    }
+
+    @Coalesced(invalidatedBy = EntityType.STUDENT)
+    @Transactional(readOnly = true)
     public Double getAverageAgeOfStudents() {
         logger.info("Was invoked method for GET average age of students");
 
@@ -168,13 +284,14 @@ public class StudentService {
         return averageAge;
     }
 
+    @Transactional(readOnly = true)
     public List<StudentDto> getLastFiveStudents() {
         logger.info("Was invoked method for GET last five students");
 
-        List<Student> students = studentRepository.getLastFiveStudents();
+        List<StudentDto> students = studentRepository.findLatestDtos(PageRequest.of(0, LAST_STUDENTS_COUNT));
         logger.debug("Found {} last students", students.size());
 
-        return studentMapper.toDtoList(students);
+        return students;
     }
 
     public Student findStudentEntity(long id) {
@@ -206,4 +323,40 @@ public class StudentService {
 
         return facultyDto;
     }
-}
\ No newline at end of file
+
+    // ========== HELPER METHODS ==========
+
+    /**
+     * Writes only what differs from the stored row: an unchanged payload issues no UPDATE, publishes no event
+     * and skips the faculty lookup, and an unchanged faculty is never re-fetched. The UPDATE itself is left to
+     * the next flush so that several changes in one transaction go out as one JDBC batch.
+     */
+    private Student applyChanges(Student student, String name, int age, Long facultyId) {
+        Long previousFacultyId = facultyIdOf(student);
+        boolean nameChanged = !name.equals(student.getName());
+        boolean ageChanged = age != student.getAge();
+        boolean facultyChanged = !Objects.equals(facultyId, previousFacultyId);
+        if (!nameChanged && !ageChanged && !facultyChanged) {
+            logger.debug("Student with ID: {} is unchanged, skipping write", student.getId());
+            return student;
+        }
+
+        student.setName(name);
+        student.setAge(age);
+        if (facultyChanged) {
+            logger.debug("Updating Faculty for Student, new faculty ID: {}", facultyId);
+            student.setFaculty(facultyId != null ? universityManagementService.findFacultyEntity(facultyId) : null);
+        }
+
+        Student updatedStudent = studentRepository.save(student);
+        logger.debug("Student changes saved - name: {}, age: {}, faculty: {}", nameChanged, ageChanged,
+                facultyChanged);
+        eventPublisher.publishEvent(EntityChangedEvent.student(student.getId(), ChangeType.UPDATED, previousFacultyId,
+                facultyIdOf(updatedStudent)));
+        return updatedStudent;
+    }
+
+    private Long facultyIdOf(Student student) {
+        return student.getFaculty() != null ? student.getFaculty().getId() : null;
+    }
+}
@@ -0,0 +1,41 @@
+package ru.hogwarts.school.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import ru.hogwarts.school.dto.StudentSearchResultDto;
+import ru.hogwarts.school.repository.StudentRepository;
+
+import java.util.List;
+
+@Service
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "trigram", matchIfMissing = true)
+public class TrigramStudentSearchEngine implements StudentSearchEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrigramStudentSearchEngine.class);
+
+    private final StudentRepository studentRepository;
+
+    public TrigramStudentSearchEngine(StudentRepository studentRepository) {
+        this.studentRepository = studentRepository;
+    }
+
+    @Override
+    public List<StudentSearchResultDto> search(String normalizedQuery, int limit, long offset) {
+        logger.debug("Searching students by trigram index for '{}', limit: {}, offset: {}", normalizedQuery, limit,
+                offset);
+
+        return studentRepository.searchByTrigram(normalizedQuery, escapeLikePattern(normalizedQuery), limit, offset)
+                                .stream()
+                                .map(row -> new StudentSearchResultDto(row.getId(), row.getName(), row.getAge(),
+                                        row.getFacultyId(), row.getScore()))
+                                .toList();
+    }
+
+    private String escapeLikePattern(String query) {
+        return query.replace("\\", "\\\\")
+                    .replace("%", "\\%")
+                    .replace("_", "\\_");
+    }
+}
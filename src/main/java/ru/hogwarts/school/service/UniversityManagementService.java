@@ -2,18 +2,26 @@ package ru.hogwarts.school.service;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.hogwarts.school.dto.FacultyDto;
+import ru.hogwarts.school.dto.StudentDto;
+import ru.hogwarts.school.event.ChangeType;
+import ru.hogwarts.school.event.EntityChangedEvent;
 import ru.hogwarts.school.exception.FacultyNotFoundException;
 import ru.hogwarts.school.exception.StudentNotFoundException;
-import ru.hogwarts.school.mapper.FacultyMapper;
 import ru.hogwarts.school.model.Faculty;
 import ru.hogwarts.school.model.Student;
+import ru.hogwarts.school.repository.FacultyProjection;
 import ru.hogwarts.school.repository.FacultyRepository;
+import ru.hogwarts.school.repository.FacultyStudentIdProjection;
 import ru.hogwarts.school.repository.StudentRepository;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional
@@ -23,12 +31,13 @@ public class UniversityManagementService {
 
     private final FacultyRepository facultyRepository;
     private final StudentRepository studentRepository;
-    private final FacultyMapper facultyMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UniversityManagementService(FacultyRepository facultyRepository, StudentRepository studentRepository, FacultyMapper facultyMapper) {
+    public UniversityManagementService(FacultyRepository facultyRepository, StudentRepository studentRepository,
+                                       ApplicationEventPublisher eventPublisher) {
         this.facultyRepository = facultyRepository;
         this.studentRepository = studentRepository;
-        this.facultyMapper = facultyMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     public void deleteFacultyWithStudents(Long facultyId) {
@@ -56,6 +65,7 @@ public class UniversityManagementService {
                 studentRepository.save(student);
             }
 
+            eventPublisher.publishEvent(EntityChangedEvent.students(ChangeType.UPDATED, List.of(facultyId)));
             logger.info("Faculty associations removed from all students");
         } else {
             logger.debug("No students associated with faculty id: {}", facultyId);
@@ -92,26 +102,47 @@ public class UniversityManagementService {
     public FacultyDto getStudentFacultyDto(Long studentId) {
         logger.info("Was invoked method for GET student Faculty DTO by student ID: {}", studentId);
 
-        Student student = studentRepository.findWithFacultyById(studentId)
-                                           .orElseThrow(() -> {
-                                               logger.error("Student not found with id: {}", studentId);
-                                               return new StudentNotFoundException(studentId);
-                                           });
+        StudentDto student = studentRepository.findDtoById(studentId)
+                                              .orElseThrow(() -> {
+                                                  logger.error("Student not found with id: {}", studentId);
+                                                  return new StudentNotFoundException(studentId);
+                                              });
 
-        logger.debug("Found Student: {} (ID: {})", student.getName(), studentId);
+        logger.debug("Found Student: {} (ID: {})", student.name(), studentId);
 
-        Faculty faculty = student.getFaculty();
-        if (faculty == null) {
+        if (student.facultyId() == null) {
             logger.warn("Student with ID: {} has no Faculty assigned", studentId);
             throw FacultyNotFoundException.forStudentWithoutFaculty(studentId);
         }
 
+        Long facultyId = student.facultyId();
+        FacultyProjection faculty = facultyRepository.findProjectedById(facultyId)
+                                                     .orElseThrow(() -> new FacultyNotFoundException(facultyId));
         logger.debug("Found Faculty for Student: {} (faculty ID: {}, faculty Name: {})",
-                student.getName(), faculty.getId(), faculty.getName());
+                student.name(), faculty.getId(), faculty.getName());
 
-        FacultyDto facultyDto = facultyMapper.toDto(faculty);
+        FacultyDto facultyDto = assembleFacultyDtos(List.of(faculty)).get(0);
         logger.info("Successfully retrieved Faculty DTO for student ID: {}", studentId);
 
         return facultyDto;
     }
-}
\ No newline at end of file
+
+    @Transactional(readOnly = true)
+    public List<FacultyDto> assembleFacultyDtos(List<? extends FacultyProjection> faculties) {
+        if (faculties.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> facultyIds = faculties.stream().map(FacultyProjection::getId).toList();
+        Map<Long, List<Long>> studentIdsByFaculty = new HashMap<>();
+        for (FacultyStudentIdProjection row : facultyRepository.findStudentIdsByFacultyIds(facultyIds)) {
+            studentIdsByFaculty.computeIfAbsent(row.getFacultyId(), key -> new ArrayList<>()).add(row.getStudentId());
+        }
+        logger.debug("Loaded student IDs for {} of {} faculties", studentIdsByFaculty.size(), faculties.size());
+
+        return faculties.stream()
+                        .map(faculty -> new FacultyDto(faculty.getId(), faculty.getName(), faculty.getColor(),
+                                studentIdsByFaculty.getOrDefault(faculty.getId(), List.of())))
+                        .toList();
+    }
+}
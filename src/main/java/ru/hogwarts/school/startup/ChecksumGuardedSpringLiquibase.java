@@ -0,0 +1,146 @@
+package ru.hogwarts.school.startup;
+
+import liquibase.exception.LiquibaseException;
+import liquibase.integration.spring.SpringLiquibase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Runs Liquibase only when the changelog has changed since the last successful update. A SHA-256 over every
+ * resource in the changelog's directory, plus the context and label filters, is compared with the marker in
+ * {@value #MARKER_TABLE}; on a match the changelog is neither parsed nor checked against the database. The
+ * marker is written only after a successful update, so a failed migration runs again on the next start.
+ */
+public class ChecksumGuardedSpringLiquibase extends SpringLiquibase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChecksumGuardedSpringLiquibase.class);
+
+    static final String MARKER_TABLE = "startup_markers";
+    static final String MARKER_NAME = "liquibase-changelog";
+
+    private boolean skipped;
+
+    @Override
+    public void afterPropertiesSet() throws LiquibaseException {
+        if (!shouldRun) {
+            super.afterPropertiesSet();
+            return;
+        }
+
+        String checksum = changelogChecksum();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(getDataSource());
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(new DataSourceTransactionManager(getDataSource()));
+        if (checksum.equals(transactionTemplate.execute(status -> storedChecksum(jdbcTemplate)))) {
+            skipped = true;
+            logger.info("Liquibase changelog unchanged (checksum {}), skipping update", checksum.substring(0, 12));
+            return;
+        }
+
+        logger.info("Liquibase changelog changed or never recorded, running update");
+        super.afterPropertiesSet();
+        storeChecksum(transactionTemplate, jdbcTemplate, checksum);
+    }
+
+    public boolean isSkipped() {
+        return skipped;
+    }
+
+    // ========== HELPER METHODS ==========
+
+    String changelogChecksum() {
+        String changeLog = getChangeLog();
+        String location = changeLog.startsWith("classpath:") ? changeLog.substring("classpath:".length()) : changeLog;
+        String directory = location.contains("/") ? location.substring(0, location.lastIndexOf('/') + 1) : "";
+
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(
+                getResourceLoader() != null ? getResourceLoader() : new DefaultResourceLoader());
+        try {
+            List<Resource> resources = Arrays.stream(resolver.getResources("classpath*:" + directory + "**/*"))
+                                             .filter(Resource::isReadable)
+                                             .sorted(Comparator.comparing(resource -> relativePath(resource, directory)))
+                                             .toList();
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((Objects.toString(getContexts(), "") + "|" + Objects.toString(getLabelFilter(), ""))
+                    .getBytes(StandardCharsets.UTF_8));
+            for (Resource resource : resources) {
+                digest.update(relativePath(resource, directory).getBytes(StandardCharsets.UTF_8));
+                try (InputStream input = resource.getInputStream()) {
+                    digest.update(input.readAllBytes());
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read Liquibase changelog " + changeLog, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String relativePath(Resource resource, String directory) {
+        try {
+            String url = resource.getURL().toString();
+            int start = directory.isEmpty() ? url.lastIndexOf('/') + 1 : url.lastIndexOf(directory);
+            return start >= 0 ? url.substring(start) : url;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // A missing table means the changelog creating it has never run
+    private static String storedChecksum(JdbcTemplate jdbcTemplate) {
+        try {
+            List<String> checksums = jdbcTemplate.queryForList(
+                    "SELECT checksum FROM " + MARKER_TABLE + " WHERE name = ?", String.class, MARKER_NAME);
+            return checksums.isEmpty() ? null : checksums.get(0);
+        } catch (DataAccessException e) {
+            logger.debug("No Liquibase checksum marker available: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // Instances starting together may both find no row; the one losing the INSERT race updates instead
+    static void storeChecksum(TransactionTemplate transactionTemplate, JdbcTemplate jdbcTemplate,
+                                      String checksum) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (updateChecksum(jdbcTemplate, checksum) == 0) {
+                    jdbcTemplate.update("INSERT INTO " + MARKER_TABLE
+                                    + " (name, checksum, updated_at) VALUES (?, ?, ?)",
+                            MARKER_NAME, checksum, Timestamp.from(Instant.now()));
+                }
+            });
+        } catch (DuplicateKeyException e) {
+            logger.debug("Liquibase checksum marker inserted concurrently, updating it instead");
+            transactionTemplate.executeWithoutResult(status -> updateChecksum(jdbcTemplate, checksum));
+        }
+    }
+
+    private static int updateChecksum(JdbcTemplate jdbcTemplate, String checksum) {
+        return jdbcTemplate.update("UPDATE " + MARKER_TABLE + " SET checksum = ?, updated_at = ? WHERE name = ?",
+                checksum, Timestamp.from(Instant.now()), MARKER_NAME);
+    }
+}
@@ -0,0 +1,77 @@
+package ru.hogwarts.school.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Marks rarely used beans lazy so they are created on first use instead of during startup: every bean named
+ * in {@code lazyBeans}, and every bean whose class, or whose {@code @Bean} method's declaring class, is in one
+ * of {@code lazyPackages}. Infrastructure beans and post-processors are left alone, since they must exist
+ * before the rest of the context. Lazy controllers are still mapped; they are created by the first request.
+ */
+public class LazyBeansPostProcessor implements BeanFactoryPostProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyBeansPostProcessor.class);
+
+    private final Set<String> lazyBeans;
+    private final List<String> lazyPackages;
+
+    public LazyBeansPostProcessor(Set<String> lazyBeans, List<String> lazyPackages) {
+        this.lazyBeans = Set.copyOf(lazyBeans);
+        this.lazyPackages = lazyPackages.stream().map(prefix -> prefix.endsWith(".") ? prefix : prefix + ".").toList();
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        int marked = 0;
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (definition.isLazyInit() || definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE
+                    || !definition.isSingleton() || !matches(beanName, definition)) {
+                continue;
+            }
+            definition.setLazyInit(true);
+            marked++;
+            logger.debug("Bean '{}' will be created on first use", beanName);
+        }
+        logger.info("Deferred creation of {} rarely used beans", marked);
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private boolean matches(String beanName, BeanDefinition definition) {
+        if (lazyBeans.contains(beanName)) {
+            return true;
+        }
+        String className = definition.getBeanClassName();
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            if (factoryMethod != null) {
+                className = factoryMethod.getDeclaringClassName();
+            }
+        }
+        if (className == null || isPostProcessor(className, definition)) {
+            return false;
+        }
+        String candidate = className;
+        return lazyPackages.stream().anyMatch(candidate::startsWith);
+    }
+
+    private static boolean isPostProcessor(String className, BeanDefinition definition) {
+        Class<?> beanType = definition.getResolvableType().resolve();
+        if (beanType == null) {
+            return className.contains("PostProcessor");
+        }
+        return BeanFactoryPostProcessor.class.isAssignableFrom(beanType)
+                || BeanPostProcessor.class.isAssignableFrom(beanType);
+    }
+}
@@ -0,0 +1,87 @@
+package ru.hogwarts.school.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+import ru.hogwarts.school.dto.StartupStepDto;
+import ru.hogwarts.school.dto.StartupTimelineDto;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summarises the startup steps recorded by {@link BufferingApplicationStartup} once the application is
+ * ready: time to ready and the steps with the most self time (their duration minus that of nested steps),
+ * so one slow bean is not hidden behind the context refresh that contains it. The summary is logged and
+ * kept for {@code GET /info/startup}; the buffer is drained so the raw steps do not stay in memory.
+ */
+@Component
+public class StartupTimelineReporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimelineReporter.class);
+
+    static final int SLOWEST_STEPS = 15;
+
+    private volatile StartupTimelineDto timeline = StartupTimelineDto.notRecorded();
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        long readyMs = event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : 0;
+        if (!(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup buffering)) {
+            logger.info("Application ready in {} ms, startup steps not recorded", readyMs);
+            return;
+        }
+
+        StartupTimeline recorded = buffering.drainBufferedTimeline();
+        timeline = summarise(recorded, readyMs);
+        logger.info("Application ready in {} ms, {} startup steps recorded", readyMs, timeline.steps());
+        timeline.slowestSteps().forEach(step -> logger.debug("Startup step {} {}: {} ms self, {} ms total",
+                step.name(), step.detail(), step.selfMs(), step.durationMs()));
+    }
+
+    public StartupTimelineDto getTimeline() {
+        return timeline;
+    }
+
+    // ========== HELPER METHODS ==========
+
+    static StartupTimelineDto summarise(StartupTimeline recorded, long readyMs) {
+        List<StartupTimeline.TimelineEvent> events = recorded.getEvents();
+        Map<Long, Long> childNanos = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                childNanos.merge(parentId, event.getDuration().toNanos(), Long::sum);
+            }
+        }
+
+        List<StartupStepDto> slowest = events.stream()
+                                             .map(event -> toStep(event, childNanos))
+                                             .sorted(Comparator.comparingLong(StartupStepDto::selfMs).reversed())
+                                             .limit(SLOWEST_STEPS)
+                                             .toList();
+        return new StartupTimelineDto(true, recorded.getStartTime(), readyMs, events.size(), slowest);
+    }
+
+    private static StartupStepDto toStep(StartupTimeline.TimelineEvent event, Map<Long, Long> childNanos) {
+        StartupStep step = event.getStartupStep();
+        long durationNanos = event.getDuration().toNanos();
+        long selfNanos = Math.max(durationNanos - childNanos.getOrDefault(step.getId(), 0L), 0);
+
+        String detail = "";
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey()) || "configClass".equals(tag.getKey())) {
+                detail = tag.getValue();
+                break;
+            }
+        }
+        return new StartupStepDto(step.getName(), detail, durationNanos / 1_000_000, selfNanos / 1_000_000);
+    }
+}
@@ -0,0 +1,102 @@
+package ru.hogwarts.school.sync;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.hogwarts.school.config.ChangeFeedProperties;
+import ru.hogwarts.school.model.ChangeTombstone;
+import ru.hogwarts.school.repository.ChangeTombstoneRepository;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes tombstones older than the retention period. The newest expired tombstone is kept as a marker: a cursor
+ * below it may have missed pruned deletions, so {@link #isExpired(long)} tells the feed to send such clients back
+ * to a full resync instead of returning an incomplete delta. The marker lives in the table itself, so the check
+ * survives restarts and holds across instances. The same schedule removes change version floors abandoned by
+ * stopped instances.
+ */
+public class ChangeTombstonePruner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeTombstonePruner.class);
+
+    private final ChangeTombstoneRepository changeTombstoneRepository;
+    private final ChangeVersionGenerator changeVersionGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final ChangeFeedProperties properties;
+    private final ScheduledExecutorService scheduler;
+
+    public ChangeTombstonePruner(ChangeTombstoneRepository changeTombstoneRepository,
+                                 ChangeVersionGenerator changeVersionGenerator,
+                                 TransactionTemplate transactionTemplate, ChangeFeedProperties properties) {
+        this.changeTombstoneRepository = changeTombstoneRepository;
+        this.changeVersionGenerator = changeVersionGenerator;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "change-tombstone-pruner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::pruneQuietly, properties.pruneIntervalMs(),
+                properties.pruneIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Deletes every expired tombstone except the newest one and returns the number deleted.
+     */
+    public int prune() {
+        Instant before = retentionCutoff();
+        Integer deleted = transactionTemplate.execute(status -> {
+            Long marker = changeTombstoneRepository.findLatestVersionDeletedBefore(before);
+            return marker != null ? changeTombstoneRepository.deleteOlderThan(marker, before) : 0;
+        });
+        logger.debug("Pruned {} change tombstones deleted before {}", deleted, before);
+        return deleted != null ? deleted : 0;
+    }
+
+    /**
+     * Whether deletions after {@code since} may already have been pruned. A zero cursor is a full sync and
+     * needs no tombstones.
+     */
+    public boolean isExpired(long since) {
+        if (since == 0) {
+            return false;
+        }
+        Optional<ChangeTombstone> oldest = changeTombstoneRepository.findFirstByOrderByChangeVersionAsc();
+        return oldest.isPresent()
+                && oldest.get().getDeletedAt().isBefore(retentionCutoff())
+                && since < oldest.get().getChangeVersion();
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private Instant retentionCutoff() {
+        return Instant.now().minusMillis(properties.tombstoneRetentionMs());
+    }
+
+    private void pruneQuietly() {
+        try {
+            prune();
+        } catch (RuntimeException e) {
+            logger.warn("Change tombstone prune failed", e);
+        }
+        try {
+            int abandoned = changeVersionGenerator.removeAbandoned();
+            if (abandoned > 0) {
+                logger.warn("Removed {} change version floors left behind by stopped instances", abandoned);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Removing abandoned change version floors failed", e);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package ru.hogwarts.school.sync;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.hogwarts.school.config.ChangeFeedProperties;
+import ru.hogwarts.school.model.ChangeEntityType;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import static ru.hogwarts.school.model.ChangeTombstone.CHANGE_VERSION_SEQUENCE;
+
+/**
+ * Hands out change versions, one {@value ru.hogwarts.school.model.ChangeTombstone#CHANGE_VERSION_SEQUENCE} value
+ * per write.
+ * <p>
+ * Before a transaction draws its first version it commits a floor from the same sequence to
+ * {@code change_versions_in_flight}, on a connection of its own, and deletes it once the transaction completes.
+ * Every version the transaction stamps is above its floor, and the floor is visible to all instances before the
+ * first of them is drawn, so everything at or below {@link #visibleHorizon()} has either committed or rolled back
+ * anywhere in the cluster. Floors older than {@code inFlightTimeoutMs} are taken as left behind by a stopped
+ * instance and ignored.
+ */
+@Component
+public class ChangeVersionGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeVersionGenerator.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate separateTransaction;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ChangeFeedProperties properties;
+    private volatile Dialect dialect;
+
+    public ChangeVersionGenerator(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory,
+                                  ChangeFeedProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.properties = properties;
+        this.separateTransaction = new TransactionTemplate(
+                new DataSourceTransactionManager(Objects.requireNonNull(jdbcTemplate.getDataSource())));
+        separateTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public long next() {
+        registerInFlight();
+        return nextSequenceValue();
+    }
+
+    /**
+     * Highest version below every version an open transaction on any instance may still commit.
+     */
+    public long visibleHorizon() {
+        // Drawn before the floors are read: any lower version was drawn after its floor had committed
+        long drawn = nextSequenceValue();
+        Long oldestFloor = jdbcTemplate.queryForObject(
+                "SELECT MIN(floor_version) FROM change_versions_in_flight WHERE started_at > ?", Long.class,
+                abandonedBefore());
+        return oldestFloor == null ? drawn : Math.min(drawn, oldestFloor);
+    }
+
+    /**
+     * Deletes floors left behind by instances that stopped before their transactions completed.
+     */
+    public int removeAbandoned() {
+        Integer deleted = separateTransaction.execute(status -> jdbcTemplate.update(
+                "DELETE FROM change_versions_in_flight WHERE started_at <= ?", abandonedBefore()));
+        return deleted != null ? deleted : 0;
+    }
+
+    public int stampStudents(Collection<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> rows = new ArrayList<>(studentIds.size());
+        for (Long studentId : studentIds) {
+            rows.add(new Object[]{next(), studentId});
+        }
+        int[] updated = jdbcTemplate.batchUpdate("UPDATE students SET change_version = ? WHERE id = ?", rows);
+        int total = 0;
+        for (int count : updated) {
+            total += Math.max(count, 0);
+        }
+        return total;
+    }
+
+    public void recordDeletion(ChangeEntityType entityType, Long entityId) {
+        jdbcTemplate.update("INSERT INTO change_tombstones (change_version, entity_type, entity_id, deleted_at) " +
+                        "VALUES (?, ?, ?, ?)",
+                next(), entityType.name(), entityId, Timestamp.from(Instant.now()));
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private long nextSequenceValue() {
+        Long value = jdbcTemplate.queryForObject(
+                dialect().getSequenceSupport().getSequenceNextValString(CHANGE_VERSION_SEQUENCE), Long.class);
+        if (value == null) {
+            throw new IllegalStateException("Sequence " + CHANGE_VERSION_SEQUENCE + " returned no value");
+        }
+        return value;
+    }
+
+    // Writes outside a transaction commit per statement and are not tracked
+    private void registerInFlight() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        long floor = nextSequenceValue();
+        separateTransaction.executeWithoutResult(status -> jdbcTemplate.update(
+                "INSERT INTO change_versions_in_flight (floor_version, started_at) VALUES (?, ?)",
+                floor, Timestamp.from(Instant.now())));
+        TransactionSynchronizationManager.bindResource(this, floor);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ChangeVersionGenerator.this);
+                release(floor);
+            }
+        });
+    }
+
+    private void release(long floor) {
+        try {
+            separateTransaction.executeWithoutResult(status -> jdbcTemplate.update(
+                    "DELETE FROM change_versions_in_flight WHERE floor_version = ?", floor));
+        } catch (RuntimeException e) {
+            logger.warn("Could not release change version floor {}, the feed holds back newer changes for up " +
+                    "to {} ms", floor, properties.inFlightTimeoutMs(), e);
+        }
+    }
+
+    private Timestamp abandonedBefore() {
+        return Timestamp.from(Instant.now().minusMillis(properties.inFlightTimeoutMs()));
+    }
+
+    private Dialect dialect() {
+        Dialect resolved = dialect;
+        if (resolved == null) {
+            resolved = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+            dialect = resolved;
+        }
+        return resolved;
+    }
+}
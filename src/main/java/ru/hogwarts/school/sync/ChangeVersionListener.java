@@ -0,0 +1,32 @@
+package ru.hogwarts.school.sync;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import ru.hogwarts.school.model.ChangeTracked;
+
+/**
+ * Stamps {@link ChangeTracked} entities with a fresh change version whenever Hibernate inserts or updates
+ * them, and writes a tombstone when they are removed. Instantiated by Hibernate through Spring's bean
+ * container; the generator is resolved lazily because it depends on the entity manager factory.
+ */
+public class ChangeVersionListener {
+
+    private final ObjectProvider<ChangeVersionGenerator> changeVersionGenerator;
+
+    public ChangeVersionListener(ObjectProvider<ChangeVersionGenerator> changeVersionGenerator) {
+        this.changeVersionGenerator = changeVersionGenerator;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void stamp(ChangeTracked entity) {
+        entity.setChangeVersion(changeVersionGenerator.getObject().next());
+    }
+
+    @PreRemove
+    public void recordDeletion(ChangeTracked entity) {
+        changeVersionGenerator.getObject().recordDeletion(entity.changeEntityType(), entity.getId());
+    }
+}
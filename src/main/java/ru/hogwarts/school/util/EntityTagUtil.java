@@ -0,0 +1,39 @@
+package ru.hogwarts.school.util;
+
+import ru.hogwarts.school.exception.InvalidPreconditionException;
+
+/**
+ * Maps entity versions to strong ETags ({@code "3"}) and back. {@code If-Match} uses strong comparison, so
+ * weak tags are rejected rather than silently ignored.
+ */
+public class EntityTagUtil {
+
+    private static final String ANY = "*";
+
+    private EntityTagUtil() {
+    }
+
+    public static String toEntityTag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * @return the version the client expects, or {@code null} if the header is absent or {@code *}
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new InvalidPreconditionException(
+                    "If-Match must be a single strong entity tag, e.g. \"3\"");
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new InvalidPreconditionException("If-Match does not contain a known version");
+        }
+    }
+}
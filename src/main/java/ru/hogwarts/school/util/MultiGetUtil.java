@@ -0,0 +1,55 @@
+package ru.hogwarts.school.util;
+
+import ru.hogwarts.school.dto.MultiGetResultDto;
+import ru.hogwarts.school.exception.InvalidMultiGetException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Request-side helpers for fetching many entities by ID in one query: the ID list is de-duplicated and
+ * capped before it reaches the database, and the rows are put back into request order afterwards.
+ */
+public class MultiGetUtil {
+
+    public static final int MAX_IDS = 500;
+
+    private MultiGetUtil() {
+    }
+
+    public static List<Long> distinctIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinct.removeIf(Objects::isNull);
+        if (distinct.size() > MAX_IDS) {
+            throw new InvalidMultiGetException(MAX_IDS, distinct.size());
+        }
+        return distinct;
+    }
+
+    public static <T> MultiGetResultDto<T> inRequestOrder(List<Long> requestedIds, Collection<T> rows,
+                                                          Function<T, Long> idOf) {
+        Map<Long, T> rowsById = new HashMap<>(rows.size() * 2);
+        rows.forEach(row -> rowsById.put(idOf.apply(row), row));
+
+        List<T> items = new ArrayList<>(rows.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            T row = rowsById.get(id);
+            if (row != null) {
+                items.add(row);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new MultiGetResultDto<>(items, missingIds);
+    }
+}
@@ -0,0 +1,45 @@
+-- liquibase formatted sql
+
+-- changeset hogwarts_dev:11
+CREATE SEQUENCE change_version_seq;
+
+-- changeset hogwarts_dev:12
+ALTER TABLE students ADD COLUMN change_version BIGINT NOT NULL DEFAULT nextval('change_version_seq');
+
+-- changeset hogwarts_dev:13
+ALTER TABLE faculties ADD COLUMN change_version BIGINT NOT NULL DEFAULT nextval('change_version_seq');
+
+-- changeset hogwarts_dev:14
+ALTER TABLE avatars ADD COLUMN change_version BIGINT NOT NULL DEFAULT nextval('change_version_seq');
+
+-- changeset hogwarts_dev:15
+CREATE INDEX idx_students_change_version ON students(change_version);
+
+-- changeset hogwarts_dev:16
+CREATE INDEX idx_faculties_change_version ON faculties(change_version);
+
+-- changeset hogwarts_dev:17
+CREATE INDEX idx_avatars_change_version ON avatars(change_version);
+
+-- changeset hogwarts_dev:18
+CREATE TABLE change_tombstones (
+    change_version BIGINT                   PRIMARY KEY,
+    entity_type    VARCHAR(32)              NOT NULL,
+    entity_id      BIGINT                   NOT NULL,
+    deleted_at     TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- changeset hogwarts_dev:23
+ALTER SEQUENCE change_version_seq INCREMENT BY 50;
+
+-- changeset hogwarts_dev:24
+CREATE INDEX idx_change_tombstones_deleted_at ON change_tombstones(deleted_at);
+
+-- changeset hogwarts_dev:26
+ALTER SEQUENCE change_version_seq INCREMENT BY 1;
+
+-- changeset hogwarts_dev:27
+CREATE TABLE change_versions_in_flight (
+    floor_version BIGINT                   PRIMARY KEY,
+    started_at    TIMESTAMP WITH TIME ZONE NOT NULL
+);
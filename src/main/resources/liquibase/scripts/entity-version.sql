@@ -0,0 +1,7 @@
+-- liquibase formatted sql
+
+-- changeset hogwarts_dev:9
+ALTER TABLE students ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- changeset hogwarts_dev:10
+ALTER TABLE faculties ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
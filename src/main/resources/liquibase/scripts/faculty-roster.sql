@@ -0,0 +1,18 @@
+-- liquibase formatted sql
+
+-- changeset hogwarts_dev:3
+CREATE TABLE faculty_rosters (
+    student_id   BIGINT PRIMARY KEY,
+    faculty_id   BIGINT       NOT NULL,
+    student_name VARCHAR(255) NOT NULL,
+    student_age  INTEGER      NOT NULL
+);
+
+-- changeset hogwarts_dev:4
+CREATE INDEX idx_faculty_rosters_faculty_id ON faculty_rosters(faculty_id);
+
+-- changeset hogwarts_dev:5
+INSERT INTO faculty_rosters (student_id, faculty_id, student_name, student_age)
+SELECT id, faculty_id, name, age
+FROM students
+WHERE faculty_id IS NOT NULL;
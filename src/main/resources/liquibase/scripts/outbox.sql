@@ -0,0 +1,21 @@
+-- liquibase formatted sql
+
+-- changeset hogwarts_dev:19
+CREATE TABLE outbox_events (
+    id             BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(32)              NOT NULL,
+    aggregate_id   BIGINT,
+    change_type    VARCHAR(16)              NOT NULL,
+    faculty_ids    VARCHAR(2000)            NOT NULL,
+    created_at     TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- changeset hogwarts_dev:20
+CREATE TABLE outbox_checkpoints (
+    consumer      VARCHAR(128)             PRIMARY KEY,
+    last_event_id BIGINT                   NOT NULL,
+    updated_at    TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- changeset hogwarts_dev:25
+ALTER TABLE outbox_checkpoints ADD COLUMN skipped_ids VARCHAR(4000) NOT NULL DEFAULT '';
@@ -0,0 +1,8 @@
+-- liquibase formatted sql
+
+-- changeset hogwarts_dev:21
+CREATE TABLE startup_markers (
+    name       VARCHAR(64)              PRIMARY KEY,
+    checksum   VARCHAR(64)              NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,23 @@
+-- liquibase formatted sql
+
+-- changeset hogwarts_dev:6
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- changeset hogwarts_dev:7
+ALTER TABLE students ADD COLUMN search_name VARCHAR(255);
+
+-- changeset hogwarts_dev:8
+CREATE INDEX idx_students_search_name_trgm ON students USING gin (search_name gin_trgm_ops);
+
+-- changeset hogwarts_dev:22
+-- Backfill search_name for rows written before the column existed, mirroring NameTransliterator.normalize:
+-- Cyrillic transliterated, ASCII letters and digits kept, every other run of characters collapsed to one space
+UPDATE students
+SET search_name = btrim(regexp_replace(
+        translate(
+            replace(replace(replace(replace(replace(replace(replace(replace(
+                lower(translate(name, 'АБВГДЕЁЖЗИЙКЛМНОПРСТУФХЦЧШЩЪЫЬЭЮЯ', 'абвгдеёжзийклмнопрстуфхцчшщъыьэюя')),
+                'ж', 'zh'), 'х', 'kh'), 'ц', 'ts'), 'ч', 'ch'), 'щ', 'shch'), 'ш', 'sh'), 'ю', 'yu'), 'я', 'ya'),
+            'абвгдеёзийклмнопрстуфыэъь', 'abvgdeeziyklmnoprstufye'),
+        '[^a-z0-9]+', ' ', 'g'))
+WHERE search_name IS NULL;
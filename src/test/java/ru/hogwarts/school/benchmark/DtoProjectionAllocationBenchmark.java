@@ -0,0 +1,88 @@
+package ru.hogwarts.school.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.hogwarts.school.dto.StudentDto;
+import ru.hogwarts.school.mapper.StudentMapper;
+import ru.hogwarts.school.model.Student;
+import ru.hogwarts.school.repository.StudentRepository;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.ru.hogwarts.school=WARN"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class DtoProjectionAllocationBenchmark {
+
+    private static final int ROWS = 5_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentMapper studentMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Benchmark. Allocated bytes per row for entity hydration vs constructor-expression projection")
+    void compareAllocationPerRow() {
+        // Given
+        List<Student> students = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            students.add(new Student("Benchmark Student " + i, 15 + i % 50));
+        }
+        studentRepository.saveAll(students);
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        Supplier<List<StudentDto>> entityPath =
+                () -> readOnlyTransaction.execute(status -> studentMapper.toDtoList(studentRepository.findAll()));
+        Supplier<List<StudentDto>> projectionPath =
+                () -> readOnlyTransaction.execute(status -> studentRepository.findAllDtos());
+
+        // When
+        double entityBytesPerRow = measureBytesPerRow(entityPath);
+        double projectionBytesPerRow = measureBytesPerRow(projectionPath);
+
+        // Then
+        assertEquals(ROWS, projectionPath.get().size());
+        System.out.printf("Entity + MapStruct:    %.0f bytes/row%n", entityBytesPerRow);
+        System.out.printf("Constructor projection: %.0f bytes/row%n", projectionBytesPerRow);
+        System.out.printf("Reduction:             %.1f%%%n", 100 * (1 - projectionBytesPerRow / entityBytesPerRow));
+    }
+
+    private double measureBytesPerRow(Supplier<List<StudentDto>> readPath) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            readPath.get();
+        }
+
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        long rows = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            rows += readPath.get().size();
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+        return (double) allocated / rows;
+    }
+}
@@ -0,0 +1,90 @@
+package ru.hogwarts.school.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.hogwarts.school.dto.StudentCreateDto;
+import ru.hogwarts.school.service.StudentGroupCommitWriter;
+import ru.hogwarts.school.service.StudentService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+        "app.student.group-commit.enabled=true",
+        "spring.datasource.hikari.maximum-pool-size=10",
+        "spring.jpa.show-sql=false",
+        "logging.level.ru.hogwarts.school=WARN"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class GroupCommitThroughputBenchmark {
+
+    private static final int CREATES = 5_000;
+    private static final int CALLERS = 64;
+
+    @Autowired
+    private StudentGroupCommitWriter studentGroupCommitWriter;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Benchmark. Concurrent create commit rate and p99 latency, per-row transaction vs group commit")
+    void compareCommitRate() throws Exception {
+        // Given
+        // Both paths go through StudentService with its roster, search and event hooks; inside an active
+        // transaction createStudent takes the per-row path instead of queueing for the group commit
+        Consumer<StudentCreateDto> perRowTransaction = request -> transactionTemplate.executeWithoutResult(
+                status -> studentService.createStudent(request));
+        Consumer<StudentCreateDto> groupCommit = studentService::createStudent;
+
+        // When
+        long[] perRow = run(perRowTransaction);
+        long[] grouped = run(groupCommit);
+
+        // Then
+        System.out.printf("Per-row transactions: %d creates/s, p99 %.2f ms%n", perRow[0], perRow[1] / 1e6);
+        System.out.printf("Group commit:         %d creates/s, p99 %.2f ms (%d batches)%n", grouped[0],
+                grouped[1] / 1e6, studentGroupCommitWriter.getBatchCount());
+    }
+
+    private long[] run(Consumer<StudentCreateDto> create) throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        long[] latencies = new long[CREATES];
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>(CREATES);
+            for (int i = 0; i < CREATES; i++) {
+                int index = i;
+                futures.add(callers.submit(() -> {
+                    long callStart = System.nanoTime();
+                    create.accept(new StudentCreateDto("Benchmark Student " + index, 17, null));
+                    latencies[index] = System.nanoTime() - callStart;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            callers.shutdown();
+            callers.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        Arrays.sort(latencies);
+        return new long[]{Math.round(CREATES / seconds), latencies[(int) Math.ceil(CREATES * 0.99) - 1]};
+    }
+}
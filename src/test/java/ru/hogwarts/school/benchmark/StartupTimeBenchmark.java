@@ -0,0 +1,142 @@
+package ru.hogwarts.school.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Time to first request of a freshly started JVM, measured from process start to the first successful
+ * {@code GET /faculty}. Runs on the test class path (H2) with eager and lazy rarely used beans; with
+ * {@code -Dbenchmark.fast-startup-dir=target/fast-startup} it also starts the fast-startup build plain and
+ * with AOT and its AppCDS archive, which needs the database configured for the fast-startup profile.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class StartupTimeBenchmark {
+
+    private static final int RUNS = 3;
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+    private static final Pattern READY_MS = Pattern.compile("\"readyMs\":(\\d+)");
+
+    private static final List<String> QUIET = List.of("--spring.jpa.show-sql=false", "--logging.level.root=WARN");
+    private static final List<String> LAZY = List.of("--app.startup.lazy-packages=org.springdoc",
+            "--app.startup.lazy-beans=analyticsController,analyticsService,analyticsComputePool,computeStrategyEngine");
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    @Test
+    @DisplayName("Benchmark. Time to first request, eager vs lazy beans and the AOT + AppCDS build")
+    void compareTimeToFirstRequest() throws Exception {
+        // Given
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> classPath = List.of(java, "-cp", System.getProperty("java.class.path"),
+                "ru.hogwarts.school.SchoolApplication");
+
+        // When / Then
+        report("Eager beans", concat(classPath, QUIET), null);
+        report("Lazy beans", concat(classPath, QUIET, LAZY), null);
+
+        String fastStartupDir = System.getProperty("benchmark.fast-startup-dir");
+        if (fastStartupDir != null) {
+            File directory = new File(fastStartupDir);
+            String jar = Arrays.stream(directory.list((dir, name) -> name.endsWith(".jar"))).findFirst().orElseThrow();
+            List<String> profile = List.of("--spring.profiles.active=fast-startup");
+            report("Fast-startup jar", concat(List.of(java, "-jar", jar), profile, QUIET), directory);
+            report("Fast-startup jar, AOT + AppCDS", concat(List.of(java, "-XX:SharedArchiveFile=application.jsa",
+                    "-Dspring.aot.enabled=true", "-jar", jar), profile, QUIET), directory);
+        }
+    }
+
+    private void report(String label, List<String> command, File directory) throws Exception {
+        long[] firstRequestMs = new long[RUNS];
+        long[] readyMs = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long[] run = startOnce(command, directory);
+            firstRequestMs[i] = run[0];
+            readyMs[i] = run[1];
+        }
+        Arrays.sort(firstRequestMs);
+        Arrays.sort(readyMs);
+        System.out.printf("%-32s first request after %5d ms (median of %d), application ready in %5d ms%n", label,
+                firstRequestMs[RUNS / 2], RUNS, readyMs[RUNS / 2]);
+    }
+
+    private long[] startOnce(List<String> command, File directory) throws Exception {
+        int port = freePort();
+        List<String> withPort = concat(command, List.of("--server.port=" + port));
+        ProcessBuilder builder = new ProcessBuilder(withPort).redirectErrorStream(true)
+                                                             .redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        if (directory != null) {
+            builder.directory(directory);
+        }
+
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            long deadline = start + STARTUP_TIMEOUT.toNanos();
+            while (!respondsOk(port, "/faculty")) {
+                if (!process.isAlive() || System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Application did not start: " + withPort);
+                }
+                Thread.sleep(10);
+            }
+            long firstRequestMs = (System.nanoTime() - start) / 1_000_000;
+            return new long[]{firstRequestMs, reportedReadyMs(port)};
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private boolean respondsOk(int port, String path) {
+        try {
+            return get(port, path).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private long reportedReadyMs(int port) throws Exception {
+        Matcher matcher = READY_MS.matcher(get(port, "/info/startup").body());
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : -1;
+    }
+
+    private HttpResponse<String> get(int port, String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                                         .timeout(Duration.ofSeconds(5))
+                                         .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @SafeVarargs
+    private static List<String> concat(List<String>... parts) {
+        List<String> result = new ArrayList<>();
+        for (List<String> part : parts) {
+            result.addAll(part);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,81 @@
+package ru.hogwarts.school.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import ru.hogwarts.school.dto.StudentCreateDto;
+import ru.hogwarts.school.service.StudentService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+        "spring.datasource.hikari.maximum-pool-size=10",
+        "spring.jpa.show-sql=false",
+        "logging.level.ru.hogwarts.school=WARN"
+})
+@EnabledForJreRange(min = JRE.JAVA_21)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class VirtualThreadThroughputBenchmark {
+
+    private static final int TASKS = 5_000;
+    private static final int PLATFORM_POOL_SIZE = 200;
+    private static final long SIMULATED_FILE_IO_MILLIS = 20;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Test
+    @DisplayName("Benchmark. Blocking request throughput on platform vs virtual threads")
+    void compareThroughput() throws Exception {
+        // Given
+        long id = studentService.createStudent(new StudentCreateDto("Benchmark Student", 17, null)).id();
+
+        // When
+        double platformThroughput = run(Executors.newFixedThreadPool(PLATFORM_POOL_SIZE), id);
+        double virtualThroughput = run(newVirtualThreadPerTaskExecutor(), id);
+
+        // Then
+        System.out.printf("Platform threads (%d): %.0f req/s%n", PLATFORM_POOL_SIZE, platformThroughput);
+        System.out.printf("Virtual threads:        %.0f req/s%n", virtualThroughput);
+    }
+
+    private double run(ExecutorService executor, long studentId) throws Exception {
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>(TASKS);
+            for (int i = 0; i < TASKS; i++) {
+                futures.add(executor.submit(() -> {
+                    assertEquals(studentId, studentService.findStudent(studentId).id());
+                    Thread.sleep(SIMULATED_FILE_IO_MILLIS);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return TASKS / seconds;
+    }
+
+    // Looked up reflectively so the test sources still compile with the default Java 17 build
+    private ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+}
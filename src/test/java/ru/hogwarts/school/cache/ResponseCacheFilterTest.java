@@ -0,0 +1,59 @@
+package ru.hogwarts.school.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import ru.hogwarts.school.config.QueryMetricsResponseAdvice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheFilterTest {
+
+    private static final String PATH = "/faculty/1";
+    private static final String BODY = "{\"id\":1,\"name\":\"Gryffindor\"}";
+    private static final String ETAG = "\"3\"";
+    private static final long LOAD_TIMEOUT_MILLIS = 1_000;
+
+    // ========== POSITIVE TESTS ==========
+
+    @Test
+    @DisplayName("Positive. Should replay stored response headers on a cache hit")
+    void doFilter_cacheHit_shouldReplayHeadersOfTheMiss() throws Exception {
+        // Given
+        ResponseCacheFilter filter = new ResponseCacheFilter(new ResponseCache(1_000_000, 100_000),
+                new ObjectMapper(), LOAD_TIMEOUT_MILLIS);
+        FilterChain controller = (request, response) -> {
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setContentType("application/json");
+            http.setHeader(HttpHeaders.ETAG, ETAG);
+            http.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+            http.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            http.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE);
+            http.setHeader(QueryMetricsResponseAdvice.QUERY_COUNT_HEADER, "2");
+            http.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        };
+        MockHttpServletResponse miss = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", PATH), miss, controller);
+
+        // When
+        MockHttpServletResponse hit = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", PATH), hit, (request, response) -> fail("Not cached"));
+
+        // Then
+        assertEquals("MISS", miss.getHeader(ResponseCacheFilter.CACHE_HEADER));
+        assertEquals("HIT", hit.getHeader(ResponseCacheFilter.CACHE_HEADER));
+        assertEquals(ETAG, hit.getHeader(HttpHeaders.ETAG));
+        assertEquals("no-cache", hit.getHeader(HttpHeaders.CACHE_CONTROL));
+        assertEquals(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_LANGUAGE), hit.getHeaders(HttpHeaders.VARY));
+        assertNull(hit.getHeader(QueryMetricsResponseAdvice.QUERY_COUNT_HEADER));
+        assertEquals(BODY, hit.getContentAsString());
+    }
+}
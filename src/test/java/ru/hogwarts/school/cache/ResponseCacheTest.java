@@ -0,0 +1,94 @@
+package ru.hogwarts.school.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+
+    private static final String CONTENT_TYPE = "application/json";
+    private static final int BODY_SIZE = 1_000;
+
+    // ========== POSITIVE TESTS ==========
+
+    @Test
+    @DisplayName("Positive. Should evict least recently used entries when byte budget is exceeded")
+    void put_overBudget_shouldEvictLeastRecentlyUsed() {
+        // Given
+        ResponseCache cache = new ResponseCache(2 * (BODY_SIZE + 200), BODY_SIZE + 200);
+        cache.put("/a", response(), Set.of("a"), cache.epoch());
+        cache.put("/b", response(), Set.of("b"), cache.epoch());
+        cache.get("/a");
+
+        // When
+        cache.put("/c", response(), Set.of("c"), cache.epoch());
+
+        // Then
+        assertNotNull(cache.get("/a"));
+        assertNull(cache.get("/b"));
+        assertNotNull(cache.get("/c"));
+        assertEquals(2, cache.size());
+        assertTrue(cache.usedBytes() <= 2 * (BODY_SIZE + 200));
+    }
+
+    @Test
+    @DisplayName("Positive. Should invalidate only entries carrying the given tag")
+    void invalidate_tag_shouldRemoveOnlyTaggedEntries() {
+        // Given
+        ResponseCache cache = new ResponseCache(1_000_000, 100_000);
+        cache.put("/faculty/1/students", response(), Set.of("faculty:1"), cache.epoch());
+        cache.put("/faculty/2/students", response(), Set.of("faculty:2"), cache.epoch());
+        cache.put("/faculty", response(), Set.of("faculty:list", "faculty:1", "faculty:2"), cache.epoch());
+
+        // When
+        int removed = cache.invalidate(List.of("faculty:1"));
+
+        // Then
+        assertEquals(2, removed);
+        assertNull(cache.get("/faculty/1/students"));
+        assertNull(cache.get("/faculty"));
+        assertNotNull(cache.get("/faculty/2/students"));
+    }
+
+    // ========== NEGATIVE TESTS ==========
+
+    @Test
+    @DisplayName("Negative. Should not store a response loaded before an invalidation")
+    void put_afterInvalidation_shouldRejectStaleLoad() {
+        // Given
+        ResponseCache cache = new ResponseCache(1_000_000, 100_000);
+        long loadEpoch = cache.epoch();
+        cache.invalidate(List.of("faculty:1"));
+
+        // When
+        boolean stored = cache.put("/faculty/1/students", response(), Set.of("faculty:1"), loadEpoch);
+
+        // Then
+        assertFalse(stored);
+        assertNull(cache.get("/faculty/1/students"));
+    }
+
+    @Test
+    @DisplayName("Negative. Should not store entries larger than the per-entry limit")
+    void put_oversizedEntry_shouldBeRejected() {
+        // Given
+        ResponseCache cache = new ResponseCache(1_000_000, BODY_SIZE / 2);
+
+        // When
+        boolean stored = cache.put("/faculty", response(), Set.of("faculty:list"), cache.epoch());
+
+        // Then
+        assertFalse(stored);
+        assertEquals(0, cache.usedBytes());
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private CachedResponse response() {
+        return new CachedResponse(CONTENT_TYPE, new byte[BODY_SIZE]);
+    }
+}
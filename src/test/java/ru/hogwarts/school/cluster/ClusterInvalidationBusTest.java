@@ -0,0 +1,188 @@
+package ru.hogwarts.school.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.hogwarts.school.event.ChangeType;
+import ru.hogwarts.school.event.ClusterInvalidationEvent;
+import ru.hogwarts.school.event.EntityChangedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClusterInvalidationBusTest {
+
+    private static final long NO_AUTOMATIC_FLUSH = 3_600_000;
+    private static final long NO_AUTOMATIC_HEARTBEAT = 0;
+    private static final int MAX_BATCH_SIZE = 1_000;
+    private static final int MAX_PAYLOAD_LENGTH = 7_900;
+    private static final long FACULTY_ID = 3L;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final List<ClusterInvalidationBus> buses = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        buses.forEach(ClusterInvalidationBus::shutdown);
+    }
+
+    // ========== POSITIVE TESTS ==========
+
+    @Test
+    @DisplayName("Positive. Should deliver a batch of changes to other instances as one compressed message")
+    void flush_batchedChanges_shouldReachOtherInstancesOnly() {
+        // Given
+        LoopbackInvalidationTransport.Hub hub = new LoopbackInvalidationTransport.Hub();
+        List<Object> senderEvents = new CopyOnWriteArrayList<>();
+        List<Object> receiverEvents = new CopyOnWriteArrayList<>();
+        ClusterInvalidationBus sender = bus(new LoopbackInvalidationTransport(hub, MAX_PAYLOAD_LENGTH), senderEvents);
+        bus(new LoopbackInvalidationTransport(hub, MAX_PAYLOAD_LENGTH), receiverEvents);
+        List<EntityChangedEvent> changes = List.of(
+                EntityChangedEvent.student(1L, ChangeType.CREATED, FACULTY_ID),
+                EntityChangedEvent.faculty(FACULTY_ID, ChangeType.UPDATED),
+                EntityChangedEvent.avatar(1L, ChangeType.CREATED));
+
+        // When
+        changes.forEach(sender::onEntityChanged);
+        sender.flush();
+
+        // Then
+        assertEquals(1, sender.getSentCount());
+        assertEquals(List.of(ClusterInvalidationEvent.of(changes)), receiverEvents);
+        assertTrue(senderEvents.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Positive. Should split a batch exceeding the payload limit into contiguous messages")
+    void flush_oversizedBatch_shouldSplitWithoutGaps() {
+        // Given
+        LoopbackInvalidationTransport.Hub hub = new LoopbackInvalidationTransport.Hub();
+        List<Object> receiverEvents = new CopyOnWriteArrayList<>();
+        ClusterInvalidationBus sender = bus(new LoopbackInvalidationTransport(hub, 200), new ArrayList<>());
+        ClusterInvalidationBus receiver = bus(new LoopbackInvalidationTransport(hub, 200), receiverEvents);
+
+        // When
+        for (long id = 1; id <= 40; id++) {
+            sender.onEntityChanged(EntityChangedEvent.student(id * 7919, ChangeType.UPDATED, id * 104729));
+        }
+        sender.flush();
+
+        // Then
+        assertTrue(sender.getSentCount() > 1);
+        assertEquals(0, receiver.getFlushCount());
+        long delivered = receiverEvents.stream()
+                                       .map(ClusterInvalidationEvent.class::cast)
+                                       .mapToLong(event -> event.changes().size())
+                                       .sum();
+        assertEquals(40, delivered);
+    }
+
+    // ========== NEGATIVE TESTS ==========
+
+    @Test
+    @DisplayName("Negative. Should flush local caches after a missed message or a transport reset")
+    void onMessage_sequenceGapOrReset_shouldFlushLocalCaches() {
+        // Given
+        LossyTransport senderTransport = new LossyTransport();
+        List<Object> receiverEvents = new CopyOnWriteArrayList<>();
+        ClusterInvalidationBus sender = bus(senderTransport, new ArrayList<>());
+        ClusterInvalidationBus receiver = bus(new LossyTransport(), receiverEvents);
+        senderTransport.peer = receiver;
+
+        // When
+        sender.onEntityChanged(EntityChangedEvent.student(1L, ChangeType.CREATED));
+        sender.flush();
+        senderTransport.dropNext = true;
+        sender.onEntityChanged(EntityChangedEvent.student(2L, ChangeType.CREATED));
+        sender.flush();
+        sender.onEntityChanged(EntityChangedEvent.student(3L, ChangeType.CREATED));
+        sender.flush();
+        receiver.onReset();
+
+        // Then
+        assertEquals(List.of(
+                ClusterInvalidationEvent.of(List.of(EntityChangedEvent.student(1L, ChangeType.CREATED))),
+                ClusterInvalidationEvent.flush(),
+                ClusterInvalidationEvent.flush()
+        ), receiverEvents);
+        assertEquals(2, receiver.getFlushCount());
+    }
+
+    @Test
+    @DisplayName("Negative. Should flush after a lost final batch once a heartbeat arrives, then forget silent senders")
+    void heartbeat_lostTrailingBatch_shouldFlushAndExpireSender() {
+        // Given
+        LossyTransport senderTransport = new LossyTransport();
+        LossyTransport receiverTransport = new LossyTransport();
+        List<Object> receiverEvents = new CopyOnWriteArrayList<>();
+        ClusterInvalidationBus sender = bus(senderTransport, new ArrayList<>());
+        ClusterInvalidationBus receiver = bus(receiverTransport, receiverEvents, 0);
+        senderTransport.peer = receiver;
+        receiverTransport.peer = sender;
+
+        // When
+        sender.onEntityChanged(EntityChangedEvent.student(1L, ChangeType.CREATED));
+        sender.flush();
+        senderTransport.dropNext = true;
+        sender.onEntityChanged(EntityChangedEvent.student(2L, ChangeType.CREATED));
+        sender.flush();
+        long flushesBeforeHeartbeat = receiver.getFlushCount();
+        sender.heartbeat();
+        sender.heartbeat();
+        int knownBeforeExpiry = receiver.getKnownSenderCount();
+        receiver.heartbeat();
+
+        // Then
+        assertEquals(0, flushesBeforeHeartbeat);
+        assertEquals(1, receiver.getFlushCount());
+        assertEquals(ClusterInvalidationEvent.flush(), receiverEvents.get(receiverEvents.size() - 1));
+        assertEquals(1, knownBeforeExpiry);
+        assertEquals(0, receiver.getKnownSenderCount());
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private ClusterInvalidationBus bus(InvalidationTransport transport, List<Object> publishedEvents) {
+        return bus(transport, publishedEvents, NO_AUTOMATIC_FLUSH);
+    }
+
+    private ClusterInvalidationBus bus(InvalidationTransport transport, List<Object> publishedEvents,
+                                       long senderTimeoutMillis) {
+        ClusterInvalidationBus bus = new ClusterInvalidationBus(transport, publishedEvents::add, objectMapper,
+                NO_AUTOMATIC_FLUSH, MAX_BATCH_SIZE, NO_AUTOMATIC_HEARTBEAT, senderTimeoutMillis);
+        buses.add(bus);
+        return bus;
+    }
+
+    private static final class LossyTransport implements InvalidationTransport {
+        private ClusterInvalidationBus peer;
+        private boolean dropNext;
+
+        @Override
+        public void start(Receiver receiver) {
+        }
+
+        @Override
+        public void publish(String payload) {
+            if (dropNext) {
+                dropNext = false;
+                return;
+            }
+            peer.onMessage(payload);
+        }
+
+        @Override
+        public int maxPayloadLength() {
+            return MAX_PAYLOAD_LENGTH;
+        }
+
+        @Override
+        public void stop() {
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package ru.hogwarts.school.coalescing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.hogwarts.school.dto.CoalescingStatsDto;
+import ru.hogwarts.school.event.ChangeType;
+import ru.hogwarts.school.event.EntityChangedEvent;
+import ru.hogwarts.school.event.EntityType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescerTest {
+
+    private static final String METHOD = "AnalyticsService.getAverageAgeOfStudents";
+    private static final RequestCoalescer.CallKey KEY = new RequestCoalescer.CallKey(METHOD, List.of());
+    private static final int CALLERS = 8;
+
+    // ========== POSITIVE TESTS ==========
+
+    @Test
+    @DisplayName("Positive. Should share one in-flight execution between concurrent identical calls")
+    void execute_concurrentIdenticalCalls_shouldRunOnce() throws Exception {
+        // Given
+        RequestCoalescer coalescer = new RequestCoalescer(Runnable::run);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+
+        try {
+            // When
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(callers.submit(() -> executeBlocking(coalescer, release, executions)));
+            }
+            awaitDeduplicated(coalescer, CALLERS - 1);
+            release.countDown();
+
+            // Then
+            for (Future<Object> result : results) {
+                assertEquals(42.0, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, executions.get());
+            assertEquals(new CoalescingStatsDto(METHOD, CALLERS, 1, CALLERS - 1, 0, 0), coalescer.getStats().get(0));
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Positive. Should reuse result within TTL and serve stale result while revalidating")
+    void execute_ttlAndStaleWindow_shouldReuseThenRevalidate() throws Throwable {
+        // Given
+        AtomicLong clock = new AtomicLong();
+        RequestCoalescer coalescer = new RequestCoalescer(Runnable::run, clock::get);
+        AtomicInteger version = new AtomicInteger();
+        RequestCoalescer.CoalescedCall call = version::incrementAndGet;
+
+        // When
+        Object first = coalescer.execute(KEY, 100, 1_000, call);
+        clock.set(50);
+        Object cached = coalescer.execute(KEY, 100, 1_000, call);
+        clock.set(500);
+        Object stale = coalescer.execute(KEY, 100, 1_000, call);
+        Object refreshed = coalescer.execute(KEY, 100, 1_000, call);
+
+        // Then
+        assertEquals(1, first);
+        assertEquals(1, cached);
+        assertEquals(1, stale);
+        assertEquals(2, refreshed);
+        assertEquals(new CoalescingStatsDto(METHOD, 4, 2, 0, 2, 1), coalescer.getStats().get(0));
+    }
+
+    @Test
+    @DisplayName("Positive. Should evict least recently used results and hand out unmodifiable copies")
+    @SuppressWarnings("unchecked")
+    void execute_manyKeys_shouldEvictLeastRecentlyUsed() throws Throwable {
+        // Given
+        RequestCoalescer coalescer = new RequestCoalescer(Runnable::run);
+        AtomicInteger executions = new AtomicInteger();
+        List<String> names = new ArrayList<>(List.of("Harry"));
+        RequestCoalescer.CoalescedCall call = () -> {
+            executions.incrementAndGet();
+            return names;
+        };
+
+        // When
+        Object first = coalescer.execute(KEY, 60_000, 0, call);
+        names.add("Hermione");
+        for (int i = 1; i < RequestCoalescer.MAX_RESULTS; i++) {
+            coalescer.execute(keyFor(i), 60_000, 0, call);
+        }
+        coalescer.execute(KEY, 60_000, 0, call);
+        coalescer.execute(keyFor(RequestCoalescer.MAX_RESULTS), 60_000, 0, call);
+        Object cached = coalescer.execute(KEY, 60_000, 0, call);
+        coalescer.execute(keyFor(1), 60_000, 0, call);
+
+        // Then
+        assertEquals(List.of("Harry"), first);
+        assertSame(first, cached);
+        assertThrows(UnsupportedOperationException.class, () -> ((List<Object>) cached).add("Ron"));
+        assertEquals(RequestCoalescer.MAX_RESULTS + 2, executions.get());
+    }
+
+    @Test
+    @DisplayName("Positive. Should start a fresh flight for a call made after a committed write")
+    void execute_afterWrite_shouldNotJoinEarlierFlight() throws Throwable {
+        // Given
+        RequestCoalescer coalescer = new RequestCoalescer(Runnable::run);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+
+        try {
+            RequestCoalescer.CallKey before = new RequestCoalescer.CallKey(METHOD, List.of(),
+                    coalescer.generation(EntityType.STUDENT));
+            Future<Object> earlier = callers.submit(() -> executeBlocking(coalescer, before, release, executions));
+            awaitExecutions(executions, 1);
+
+            // When
+            coalescer.onEntityChanged(EntityChangedEvent.student(7L, ChangeType.CREATED));
+            RequestCoalescer.CallKey after = new RequestCoalescer.CallKey(METHOD, List.of(),
+                    coalescer.generation(EntityType.STUDENT));
+            Object fresh = coalescer.execute(after, 0, 0, () -> {
+                executions.incrementAndGet();
+                return 2L;
+            });
+            release.countDown();
+
+            // Then
+            assertEquals(2L, fresh);
+            assertEquals(42.0, earlier.get(5, TimeUnit.SECONDS));
+            assertEquals(2, executions.get());
+            assertEquals(0, coalescer.generation(EntityType.FACULTY));
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    // ========== NEGATIVE TESTS ==========
+
+    @Test
+    @DisplayName("Negative. Should propagate failure and not cache it")
+    void execute_failingCall_shouldPropagateAndRetryNextTime() throws Throwable {
+        // Given
+        RequestCoalescer coalescer = new RequestCoalescer(Runnable::run);
+        AtomicInteger attempts = new AtomicInteger();
+        RequestCoalescer.CoalescedCall call = () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("database unavailable");
+            }
+            return 17.5;
+        };
+
+        // When
+        assertThrows(IllegalStateException.class, () -> coalescer.execute(KEY, 1_000, 0, call));
+        Object retried = coalescer.execute(KEY, 1_000, 0, call);
+
+        // Then
+        assertEquals(17.5, retried);
+        assertEquals(2, attempts.get());
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private static RequestCoalescer.CallKey keyFor(int argument) {
+        return new RequestCoalescer.CallKey(METHOD, List.of(argument));
+    }
+
+    private Object executeBlocking(RequestCoalescer coalescer, CountDownLatch release, AtomicInteger executions)
+            throws Exception {
+        return executeBlocking(coalescer, KEY, release, executions);
+    }
+
+    private Object executeBlocking(RequestCoalescer coalescer, RequestCoalescer.CallKey key, CountDownLatch release,
+                                   AtomicInteger executions) throws Exception {
+        try {
+            return coalescer.execute(key, 0, 0, () -> {
+                executions.incrementAndGet();
+                release.await();
+                return 42.0;
+            });
+        } catch (Exception e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitExecutions(AtomicInteger executions, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executions.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, executions.get());
+    }
+
+    private void awaitDeduplicated(RequestCoalescer coalescer, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            List<CoalescingStatsDto> stats = coalescer.getStats();
+            if (!stats.isEmpty() && stats.get(0).deduplicated() == expected) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+        fail("Expected " + expected + " deduplicated callers");
+    }
+}
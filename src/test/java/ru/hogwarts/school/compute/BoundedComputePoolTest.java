@@ -0,0 +1,123 @@
+package ru.hogwarts.school.compute;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.hogwarts.school.dto.ComputeTaskStatsDto;
+import ru.hogwarts.school.exception.ComputePoolSaturatedException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedComputePoolTest {
+
+    private static final String TASK = "sum";
+    private static final long QUEUE_TIMEOUT_MS = 50;
+    private static final long LIMIT = 5_000_000;
+    private static final long LEAF_SIZE = 100_000;
+
+    // ========== POSITIVE TESTS ==========
+
+    @Test
+    @DisplayName("Positive. Should run task on pool workers and account leaf CPU time")
+    void invoke_underCap_shouldRunOnPoolAndAccountCpuTime() {
+        // Given
+        BoundedComputePool pool = new BoundedComputePool("test-compute", 2, 1, QUEUE_TIMEOUT_MS, false);
+        AtomicReference<LongAdder> account = new AtomicReference<>();
+
+        try {
+            // When
+            long sum = pool.invoke(TASK, cpuNanos -> {
+                account.set(cpuNanos);
+                return new RangeSumTask(1, LIMIT, LEAF_SIZE, cpuNanos);
+            }, () -> -1L);
+
+            // Then
+            ComputeTaskStatsDto stats = taskStats(pool);
+            assertEquals(LIMIT * (LIMIT + 1) / 2, sum);
+            assertTrue(account.get().sum() > 0);
+            assertEquals(1, stats.parallelRuns());
+            assertEquals(0, stats.sequentialRuns());
+            assertEquals(1, pool.getStats().availablePermits());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Positive. Should run sequential variant on caller thread when pool is saturated")
+    void invoke_saturatedWithFallback_shouldRunSequentially() throws Exception {
+        // Given
+        BoundedComputePool pool = new BoundedComputePool("test-compute", 1, 1, QUEUE_TIMEOUT_MS, true);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Long> holder = occupy(pool, release);
+
+        try {
+            // When
+            long result = pool.invoke(TASK, cpuNanos -> ForkJoinTask.adapt(() -> -1L), () -> 7L);
+
+            // Then
+            assertEquals(7L, result);
+            release.countDown();
+            assertEquals(0L, holder.get(5, TimeUnit.SECONDS));
+            ComputeTaskStatsDto stats = taskStats(pool);
+            assertEquals(1, stats.sequentialRuns());
+            assertEquals(0, stats.rejected());
+        } finally {
+            release.countDown();
+            pool.shutdown();
+        }
+    }
+
+    // ========== NEGATIVE TESTS ==========
+
+    @Test
+    @DisplayName("Negative. Should reject task when pool is saturated and fallback is disabled")
+    void invoke_saturatedWithoutFallback_shouldReject() {
+        // Given
+        BoundedComputePool pool = new BoundedComputePool("test-compute", 1, 1, QUEUE_TIMEOUT_MS, false);
+        CountDownLatch release = new CountDownLatch(1);
+        occupy(pool, release);
+
+        try {
+            // When & Then
+            assertThrows(ComputePoolSaturatedException.class,
+                    () -> pool.invoke(TASK, cpuNanos -> ForkJoinTask.adapt(() -> -1L), () -> 7L));
+            assertEquals(1, taskStats(pool).rejected());
+        } finally {
+            release.countDown();
+            pool.shutdown();
+        }
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private ComputeTaskStatsDto taskStats(BoundedComputePool pool) {
+        return pool.getStats().tasks().stream()
+                   .filter(stats -> TASK.equals(stats.task()))
+                   .findFirst()
+                   .orElseThrow();
+    }
+
+    private CompletableFuture<Long> occupy(BoundedComputePool pool, CountDownLatch release) {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Long> holder = CompletableFuture.supplyAsync(() -> pool.invoke("holder",
+                cpuNanos -> ForkJoinTask.adapt(() -> {
+                    started.countDown();
+                    release.await();
+                    return 0L;
+                }), () -> -1L));
+        try {
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(e);
+        }
+        return holder;
+    }
+}
@@ -0,0 +1,100 @@
+package ru.hogwarts.school.compute;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.hogwarts.school.dto.ComputeStrategyTimingDto;
+import ru.hogwarts.school.exception.InvalidComputeRequestException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComputeStrategyEngineTest {
+
+    private static final long FROM = 7;
+    private static final long TO = 200_003;
+    private static final long EXPECTED_SUM = (FROM + TO) * (TO - FROM + 1) / 2;
+
+    private final BoundedComputePool pool = new BoundedComputePool("test-compute", 2, 2, 1_000, true);
+    private final ComputeStrategyEngine engine = new ComputeStrategyEngine(pool);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    // ========== POSITIVE TESTS ==========
+
+    @Test
+    @DisplayName("Positive. Every registered strategy should produce the same sum")
+    void run_everyStrategy_shouldAgreeWithClosedForm() {
+        for (String strategy : engine.getStrategyNames()) {
+            // When & Then
+            assertEquals(EXPECTED_SUM, engine.run(strategy, FROM, TO), strategy);
+        }
+    }
+
+    @Test
+    @DisplayName("Positive. Every strategy should agree on ranges at the value bounds and across zero")
+    void run_boundaryRanges_shouldAgreeWithClosedForm() {
+        long max = ComputeStrategyEngine.MAX_ABS_VALUE;
+        for (String strategy : engine.getStrategyNames()) {
+            // When & Then
+            assertEquals(0, engine.run(strategy, -100_000, 100_000), strategy);
+            assertEquals((max - 9 + max) * 10 / 2, engine.run(strategy, max - 9, max), strategy);
+            assertEquals(-(max - 9 + max) * 10 / 2, engine.run(strategy, -max, -max + 9), strategy);
+        }
+    }
+
+    @Test
+    @DisplayName("Positive. Should report ordered nanoTime statistics per requested strategy")
+    void measure_selectedStrategies_shouldReturnOrderedStatistics() {
+        // Given
+        List<String> strategies = List.of(ComputeStrategyEngine.PRIMITIVE_LOOP, ComputeStrategyEngine.FORK_JOIN);
+
+        // When
+        List<ComputeStrategyTimingDto> timings = engine.measure(strategies, FROM, TO, 2, 10);
+
+        // Then
+        assertEquals(strategies, timings.stream().map(ComputeStrategyTimingDto::strategy).toList());
+        for (ComputeStrategyTimingDto timing : timings) {
+            assertEquals(EXPECTED_SUM, timing.result());
+            assertEquals(10, timing.iterations());
+            assertTrue(timing.minNanos() <= timing.medianNanos());
+            assertTrue(timing.medianNanos() <= timing.p99Nanos());
+        }
+    }
+
+    // ========== NEGATIVE TESTS ==========
+
+    @Test
+    @DisplayName("Negative. Should reject unknown strategy and out-of-bounds parameters")
+    void measure_invalidRequest_shouldThrow() {
+        // When & Then
+        assertThrows(InvalidComputeRequestException.class,
+                () -> engine.measure(List.of("simd"), FROM, TO, 1, 1));
+        assertThrows(InvalidComputeRequestException.class,
+                () -> engine.measure(List.of(), TO, FROM, 1, 1));
+        assertThrows(InvalidComputeRequestException.class,
+                () -> engine.measure(List.of(), 1, ComputeStrategyEngine.MAX_RANGE + 1, 1, 1));
+        assertThrows(InvalidComputeRequestException.class,
+                () -> engine.measure(List.of(), FROM, TO, 1, ComputeStrategyEngine.MAX_ITERATIONS + 1));
+        assertThrows(InvalidComputeRequestException.class,
+                () -> engine.measure(List.of(), 1, ComputeStrategyEngine.MAX_RANGE,
+                        ComputeStrategyEngine.MAX_ITERATIONS, ComputeStrategyEngine.MAX_ITERATIONS));
+    }
+
+    @Test
+    @DisplayName("Negative. Should reject ranges whose width or sum would overflow a long")
+    void run_overflowingRange_shouldThrow() {
+        // When & Then
+        assertThrows(InvalidComputeRequestException.class,
+                () -> engine.measure(List.of(), Long.MIN_VALUE, Long.MAX_VALUE, 1, 1));
+        assertThrows(InvalidComputeRequestException.class,
+                () -> engine.run(ComputeStrategyEngine.PRIMITIVE_LOOP, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+        assertThrows(InvalidComputeRequestException.class,
+                () -> engine.run(ComputeStrategyEngine.CLOSED_FORM, ComputeStrategyEngine.MAX_ABS_VALUE,
+                        ComputeStrategyEngine.MAX_ABS_VALUE + 1));
+    }
+}
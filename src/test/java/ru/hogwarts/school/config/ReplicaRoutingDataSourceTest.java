@@ -0,0 +1,104 @@
+package ru.hogwarts.school.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final String NODE_QUERY = "SELECT name FROM node";
+    private static final String NO_LAG_QUERY = "SELECT 0";
+    private static final String HIGH_LAG_QUERY = "SELECT 60000";
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        ReplicaRoutingContext.clear();
+        routingDataSource.destroy();
+    }
+
+    // ========== POSITIVE TESTS ==========
+
+    @Test
+    @DisplayName("Positive. Should route read-only transactions to replica and writes to primary")
+    void readOnlyTransaction_freshReplica_shouldUseReplica() {
+        // Given
+        routingDataSource = createRoutingDataSource(NO_LAG_QUERY);
+
+        // When
+        String readOnlyNode = queryNode(true);
+        String readWriteNode = queryNode(false);
+
+        // Then
+        assertEquals("replica", readOnlyNode);
+        assertEquals("primary", readWriteNode);
+    }
+
+    @Test
+    @DisplayName("Positive. Should keep reads on primary after a write in the same request")
+    void readOnlyTransaction_primaryForced_shouldUsePrimary() {
+        // Given
+        routingDataSource = createRoutingDataSource(NO_LAG_QUERY);
+        ReplicaRoutingContext.forcePrimary();
+
+        // When
+        String readOnlyNode = queryNode(true);
+
+        // Then
+        assertEquals("primary", readOnlyNode);
+    }
+
+    // ========== NEGATIVE TESTS ==========
+
+    @Test
+    @DisplayName("Negative. Should bypass replica when lag exceeds tolerance")
+    void readOnlyTransaction_laggingReplica_shouldUsePrimary() {
+        // Given
+        routingDataSource = createRoutingDataSource(HIGH_LAG_QUERY);
+
+        // When
+        String readOnlyNode = queryNode(true);
+
+        // Then
+        assertFalse(routingDataSource.isReplicaFresh());
+        assertEquals("primary", readOnlyNode);
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private ReplicaRoutingDataSource createRoutingDataSource(String lagQuery) {
+        DataSource primary = createNode("primary");
+        DataSource replica = createNode("replica");
+        ReplicaDataSourceProperties properties = new ReplicaDataSourceProperties(true, null, null, null, null,
+                1_000, 60_000, lagQuery, 5_000);
+        return new ReplicaRoutingDataSource(primary, replica, properties);
+    }
+
+    private DataSource createNode(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbcTemplate.execute("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private String queryNode(boolean readOnly) {
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(new DataSourceTransactionManager(routingDataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(routingDataSource);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject(NODE_QUERY, String.class));
+    }
+}
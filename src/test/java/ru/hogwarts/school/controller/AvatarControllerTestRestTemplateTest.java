@@ -0,0 +1,224 @@
+package ru.hogwarts.school.controller;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.*;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import ru.hogwarts.school.dto.AvatarInfoDto;
+import ru.hogwarts.school.dto.StudentDto;
+import ru.hogwarts.school.model.Avatar;
+import ru.hogwarts.school.repository.AvatarRepository;
+import ru.hogwarts.school.testconfig.LazyLoadGuardConfig;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.hogwarts.school.testconfig.TestConstants.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@Import(LazyLoadGuardConfig.class)
+@TestPropertySource(properties = "avatars.dir.path=" + AvatarConst.TEST_DIR)
+public class AvatarControllerTestRestTemplateTest {
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+    @Autowired
+    private AvatarRepository avatarRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @LocalServerPort
+    private int port;
+    private String testUrl;
+
+    @BeforeEach
+    void setUp() {
+        testUrl = BASE_URL + port + AvatarConst.ENDPOINT;
+    }
+
+    // ========== POSITIVE TESTS ==========
+
+    @Test
+    @DisplayName("Positive. Should stream full-size Avatar asynchronously")
+    void getAvatarFull_uploadedAvatar_shouldStreamFileContent() throws IOException {
+        // Given
+        StudentDto student = createStudentInDatabase();
+        byte[] image = createTestImage();
+        uploadAvatar(student.id(), image);
+
+        // When
+        ResponseEntity<byte[]> response = testRestTemplate.getForEntity(
+                testUrl + "/{studentId}" + AvatarConst.FULL_ENDPOINT, byte[].class, student.id()
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.parseMediaType(AvatarConst.TEST_MEDIA_TYPE), response.getHeaders().getContentType());
+        assertEquals(image.length, response.getHeaders().getContentLength());
+        assertArrayEquals(image, response.getBody());
+    }
+
+    @Test
+    @DisplayName("Positive. Should return Avatar preview info")
+    void getAvatarPreviewInfo_uploadedAvatar_shouldReturnInfo() throws IOException {
+        // Given
+        StudentDto student = createStudentInDatabase();
+        byte[] image = createTestImage();
+        uploadAvatar(student.id(), image);
+
+        // When
+        ResponseEntity<AvatarInfoDto> response = testRestTemplate.getForEntity(
+                testUrl + "/{studentId}" + AvatarConst.PREVIEW_INFO_ENDPOINT, AvatarInfoDto.class, student.id()
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(student.id(), response.getBody().studentId());
+        assertEquals(image.length, response.getBody().fileSize());
+    }
+
+    @Test
+    @DisplayName("Positive. Should load Avatar metadata without reading the preview LOB")
+    void findAvatar_metadataOnly_shouldNotSelectPreviewData() throws IOException {
+        // Given
+        StudentDto student = createStudentInDatabase();
+        uploadAvatar(student.id(), createTestImage());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ListAppender<ILoggingEvent> sqlAppender = startSqlCapture();
+
+        try {
+            // When
+            List<String> metadataSql = transactionTemplate.execute(status -> {
+                Avatar avatar = avatarRepository.findByStudentId(student.id()).orElseThrow();
+                assertEquals(AvatarConst.TEST_MEDIA_TYPE, avatar.getMediaType());
+                List<String> statements = capturedSql(sqlAppender);
+                sqlAppender.list.clear();
+                assertTrue(avatar.getData().length > 0);
+                return statements;
+            });
+            List<String> previewSql = capturedSql(sqlAppender);
+
+            // Then
+            assertFalse(metadataSql.isEmpty());
+            assertTrue(metadataSql.stream().noneMatch(sql -> sql.contains(AvatarConst.DATA_COLUMN)),
+                    "Metadata query should not select the preview LOB: " + metadataSql);
+            assertTrue(previewSql.stream().anyMatch(sql -> sql.contains(AvatarConst.DATA_COLUMN)),
+                    "Preview LOB should be fetched on first access: " + previewSql);
+        } finally {
+            stopSqlCapture(sqlAppender);
+        }
+    }
+
+    // ========== NEGATIVE TESTS ==========
+
+    @Test
+    @DisplayName("Negative. Should return 404 when streaming missing Avatar")
+    void getAvatarFull_noAvatar_shouldReturn404() {
+        // When
+        ResponseEntity<String> response = testRestTemplate.getForEntity(
+                testUrl + "/{studentId}" + AvatarConst.FULL_ENDPOINT, String.class, NON_EXISTENT_ID
+        );
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private StudentDto createStudentInDatabase() {
+        String studentJson = String.format("""
+                {
+                    "name": "%s",
+                    "age": %d
+                }""", StudentConst.TEST_NAME, StudentConst.TEST_AGE);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        ResponseEntity<StudentDto> response = testRestTemplate.exchange(
+                BASE_URL + port + StudentConst.ENDPOINT, HttpMethod.POST, new HttpEntity<>(studentJson, headers),
+                StudentDto.class
+        );
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        return response.getBody();
+    }
+
+    private void uploadAvatar(Long studentId, byte[] image) {
+        ByteArrayResource resource = new ByteArrayResource(image) {
+            @Override
+            public String getFilename() {
+                return AvatarConst.TEST_FILE_NAME;
+            }
+        };
+
+        HttpHeaders partHeaders = new HttpHeaders();
+        partHeaders.setContentType(MediaType.parseMediaType(AvatarConst.TEST_MEDIA_TYPE));
+
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", new HttpEntity<>(resource, partHeaders));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+
+        ResponseEntity<String> response = testRestTemplate.postForEntity(
+                testUrl + "/{studentId}" + AvatarConst.UPLOAD_ENDPOINT, new HttpEntity<>(body, headers), String.class,
+                studentId
+        );
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+    }
+
+    private ListAppender<ILoggingEvent> startSqlCapture() {
+        Logger sqlLogger = (Logger) LoggerFactory.getLogger(AvatarConst.SQL_LOGGER);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        sqlLogger.setLevel(Level.DEBUG);
+        sqlLogger.addAppender(appender);
+        return appender;
+    }
+
+    private List<String> capturedSql(ListAppender<ILoggingEvent> appender) {
+        return appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+    }
+
+    private void stopSqlCapture(ListAppender<ILoggingEvent> appender) {
+        Logger sqlLogger = (Logger) LoggerFactory.getLogger(AvatarConst.SQL_LOGGER);
+        sqlLogger.detachAppender(appender);
+        sqlLogger.setLevel(null);
+        appender.stop();
+    }
+
+    private byte[] createTestImage() throws IOException {
+        BufferedImage image = new BufferedImage(AvatarConst.TEST_IMAGE_SIZE, AvatarConst.TEST_IMAGE_SIZE,
+                BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < AvatarConst.TEST_IMAGE_SIZE; x++) {
+            for (int y = 0; y < AvatarConst.TEST_IMAGE_SIZE; y++) {
+                image.setRGB(x, y, (x * 31 + y * 17) & 0xFFFFFF);
+            }
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,169 @@
+package ru.hogwarts.school.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.*;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import ru.hogwarts.school.dto.BatchOperationResultDto;
+import ru.hogwarts.school.dto.BatchResultDto;
+import ru.hogwarts.school.dto.FacultyDto;
+import ru.hogwarts.school.dto.StudentDto;
+import ru.hogwarts.school.service.AvatarService;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.hogwarts.school.testconfig.TestConstants.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class BatchControllerTestRestTemplateTest {
+
+    @MockitoBean
+    AvatarService avatarService;
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+    @LocalServerPort
+    private int port;
+    private String testUrl;
+
+    @BeforeEach
+    void setUp() {
+        testUrl = BASE_URL + port + BatchConst.ENDPOINT;
+    }
+
+    // ========== POSITIVE TESTS ==========
+
+    @Test
+    @DisplayName("Positive. Should execute mixed operations atomically and return per-operation results")
+    void executeBatch_atomicMixedOperations_shouldCommitAll() {
+        // Given
+        FacultyDto faculty = createFacultyInDatabase();
+        String batchJson = String.format("""
+                {"operations": [
+                    {"resource": "STUDENT", "action": "CREATE", "body": {"name": "%s", "age": %d, "facultyId": %d}},
+                    {"resource": "FACULTY", "action": "UPDATE", "id": %d, "body": {"name": "%s", "color": "%s"}},
+                    {"resource": "STUDENT", "action": "CREATE", "body": {"name": "%s", "age": %d}}
+                ]}""", StudentConst.TEST_NAME, StudentConst.TEST_AGE, faculty.id(), faculty.id(),
+                FacultyConst.UPDATED_NAME, FacultyConst.UPDATED_COLOR, StudentConst.SEARCH_OTHER_NAME,
+                StudentConst.UPDATED_AGE);
+
+        // When
+        ResponseEntity<BatchResultDto> response = executeBatch(batchJson);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        BatchResultDto result = response.getBody();
+        assertTrue(result.atomic());
+        assertTrue(result.committed());
+        assertEquals(3, result.succeeded());
+        assertEquals(List.of(201, 200, 201), statuses(result));
+
+        FacultyDto updatedFaculty = testRestTemplate.getForObject(
+                BASE_URL + port + FacultyConst.ENDPOINT + "/{id}", FacultyDto.class, faculty.id());
+        assertEquals(FacultyConst.UPDATED_NAME, updatedFaculty.name());
+        assertEquals(1, updatedFaculty.studentIds().size());
+        assertEquals(2, getAllStudents().length);
+    }
+
+    @Test
+    @DisplayName("Positive. Should commit successful operations and report failures of a non-atomic batch")
+    void executeBatch_nonAtomicWithFailures_shouldReportPartialFailure() {
+        // Given
+        String batchJson = String.format("""
+                {"atomic": false, "operations": [
+                    {"resource": "STUDENT", "action": "CREATE", "body": {"name": "%s", "age": %d}},
+                    {"resource": "STUDENT", "action": "DELETE", "id": %d},
+                    {"resource": "STUDENT", "action": "CREATE", "body": {"name": "%s", "age": %d}}
+                ]}""", StudentConst.TEST_NAME, StudentConst.TEST_AGE, NON_EXISTENT_ID,
+                StudentConst.SEARCH_OTHER_NAME, Validation.TOO_YOUNG_AGE);
+
+        // When
+        ResponseEntity<BatchResultDto> response = executeBatch(batchJson);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        BatchResultDto result = response.getBody();
+        assertFalse(result.atomic());
+        assertEquals(1, result.succeeded());
+        assertEquals(2, result.failed());
+        assertEquals(List.of(201, 404, 400), statuses(result));
+        assertEquals(1, getAllStudents().length);
+    }
+
+    // ========== NEGATIVE TESTS ==========
+
+    @Test
+    @DisplayName("Negative. Should roll back an atomic batch and skip the rest after the first failure")
+    void executeBatch_atomicWithFailure_shouldRollBackEverything() {
+        // Given
+        String batchJson = String.format("""
+                {"operations": [
+                    {"resource": "STUDENT", "action": "CREATE", "body": {"name": "%s", "age": %d}},
+                    {"resource": "STUDENT", "action": "UPDATE", "id": %d, "body": {"name": "%s", "age": %d}},
+                    {"resource": "STUDENT", "action": "CREATE", "body": {"name": "%s", "age": %d}}
+                ]}""", StudentConst.TEST_NAME, StudentConst.TEST_AGE, NON_EXISTENT_ID, StudentConst.UPDATED_NAME,
+                StudentConst.UPDATED_AGE, StudentConst.SEARCH_OTHER_NAME, StudentConst.TEST_AGE);
+
+        // When
+        ResponseEntity<BatchResultDto> response = executeBatch(batchJson);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        BatchResultDto result = response.getBody();
+        assertFalse(result.committed());
+        assertEquals(0, result.succeeded());
+        assertEquals(List.of(201, 404, 424), statuses(result));
+        assertEquals(0, getAllStudents().length);
+    }
+
+    @Test
+    @DisplayName("Negative. Should reject a batch without operations")
+    void executeBatch_emptyOperations_shouldReturnBadRequest() {
+        // When
+        ResponseEntity<String> response = testRestTemplate.exchange(
+                testUrl, HttpMethod.POST, createHttpEntity("""
+                        {"operations": []}"""), String.class
+        );
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private HttpEntity<String> createHttpEntity(String jsonBody) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new HttpEntity<>(jsonBody, headers);
+    }
+
+    private ResponseEntity<BatchResultDto> executeBatch(String batchJson) {
+        return testRestTemplate.exchange(testUrl, HttpMethod.POST, createHttpEntity(batchJson), BatchResultDto.class);
+    }
+
+    private FacultyDto createFacultyInDatabase() {
+        String facultyJson = String.format("""
+                {
+                    "name": "%s",
+                    "color": "%s"
+                }""", FacultyConst.TEST_NAME, FacultyConst.TEST_COLOR);
+
+        return testRestTemplate.exchange(BASE_URL + port + FacultyConst.ENDPOINT, HttpMethod.POST,
+                createHttpEntity(facultyJson), FacultyDto.class).getBody();
+    }
+
+    private StudentDto[] getAllStudents() {
+        return testRestTemplate.getForObject(BASE_URL + port + StudentConst.ENDPOINT, StudentDto[].class);
+    }
+
+    private List<Integer> statuses(BatchResultDto result) {
+        return result.results().stream().map(BatchOperationResultDto::status).toList();
+    }
+}
@@ -0,0 +1,231 @@
+package ru.hogwarts.school.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.hogwarts.school.dto.ChangeDto;
+import ru.hogwarts.school.dto.ChangeFeedDto;
+import ru.hogwarts.school.dto.FacultyDto;
+import ru.hogwarts.school.dto.StudentDto;
+import ru.hogwarts.school.model.ChangeEntityType;
+import ru.hogwarts.school.service.AvatarService;
+import ru.hogwarts.school.sync.ChangeTombstonePruner;
+import ru.hogwarts.school.sync.ChangeVersionGenerator;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.hogwarts.school.testconfig.QueryBudget.assertQueryBudget;
+import static ru.hogwarts.school.testconfig.TestConstants.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ChangeControllerTestRestTemplateTest {
+
+    @MockitoBean
+    AvatarService avatarService;
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ChangeVersionGenerator changeVersionGenerator;
+    @Autowired
+    private ChangeTombstonePruner changeTombstonePruner;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @LocalServerPort
+    private int port;
+    private String testUrl;
+
+    @BeforeEach
+    void setUp() {
+        testUrl = BASE_URL + port + ChangeConst.ENDPOINT;
+    }
+
+    // ========== POSITIVE TESTS ==========
+
+    @Test
+    @DisplayName("Positive. Should return creations, updates and deletions in version order")
+    void getChanges_afterWrites_shouldReturnOnlyNewerChanges() {
+        // Given
+        FacultyDto faculty = postJson(FacultyConst.ENDPOINT, String.format("""
+                {"name": "%s", "color": "%s"}""", FacultyConst.TEST_NAME, FacultyConst.TEST_COLOR), FacultyDto.class);
+        StudentDto student = postJson(StudentConst.ENDPOINT, String.format("""
+                {"name": "%s", "age": %d, "facultyId": %d}""", StudentConst.TEST_NAME, StudentConst.TEST_AGE,
+                faculty.id()), StudentDto.class);
+
+        // When
+        ResponseEntity<ChangeFeedDto> initialResponse = getChanges(0, 100);
+        long cursor = initialResponse.getBody().nextSince();
+        testRestTemplate.exchange(BASE_URL + port + StudentConst.ENDPOINT + "/{id}", HttpMethod.PUT,
+                createHttpEntity(String.format("""
+                        {"name": "%s", "age": %d, "facultyId": %d}""", StudentConst.UPDATED_NAME,
+                        StudentConst.TEST_AGE, faculty.id())), StudentDto.class, student.id());
+        ChangeFeedDto afterUpdate = getChanges(cursor, 100).getBody();
+        testRestTemplate.delete(BASE_URL + port + StudentConst.ENDPOINT + "/{id}", student.id());
+        ChangeFeedDto afterDelete = getChanges(afterUpdate.nextSince(), 100).getBody();
+
+        // Then
+        assertEquals(HttpStatus.OK, initialResponse.getStatusCode());
+        List<ChangeDto> initial = initialResponse.getBody().changes();
+        assertEquals(List.of(ChangeEntityType.FACULTY, ChangeEntityType.STUDENT),
+                initial.stream().map(ChangeDto::entityType).toList());
+        assertTrue(initial.get(0).changeVersion() < initial.get(1).changeVersion());
+        assertFalse(initialResponse.getBody().hasMore());
+        assertQueryBudget(initialResponse, 5);
+
+        assertEquals(1, afterUpdate.changes().size());
+        ChangeDto update = afterUpdate.changes().get(0);
+        assertEquals(student.id(), update.id());
+        assertFalse(update.deleted());
+        assertTrue(update.changeVersion() > cursor);
+
+        assertEquals(1, afterDelete.changes().size());
+        ChangeDto deletion = afterDelete.changes().get(0);
+        assertEquals(ChangeEntityType.STUDENT, deletion.entityType());
+        assertEquals(student.id(), deletion.id());
+        assertTrue(deletion.deleted());
+        assertNull(deletion.data());
+    }
+
+    @Test
+    @DisplayName("Positive. Should page through changes and stamp bulk-updated rows with distinct versions")
+    void getChanges_pagedAfterBulkUpdate_shouldCoverEveryStudentOnce() {
+        // Given
+        for (String name : List.of(StudentConst.TEST_NAME, StudentConst.UPDATED_NAME, StudentConst.SEARCH_OTHER_NAME)) {
+            postJson(StudentConst.ENDPOINT, String.format("""
+                    {"name": "%s", "age": %d}""", name, StudentConst.TEST_AGE), StudentDto.class);
+        }
+        long cursor = getChanges(0, 100).getBody().nextSince();
+        postJson(StudentConst.ENDPOINT + StudentConst.BULK_UPDATE_ENDPOINT, """
+                {"ageDelta": 1}""", String.class);
+
+        // When
+        ChangeFeedDto firstPage = getChanges(cursor, 2).getBody();
+        ChangeFeedDto secondPage = getChanges(firstPage.nextSince(), 2).getBody();
+
+        // Then
+        assertEquals(2, firstPage.changes().size());
+        assertTrue(firstPage.hasMore());
+        assertEquals(1, secondPage.changes().size());
+        assertFalse(secondPage.hasMore());
+        List<Long> versions = List.of(firstPage.changes().get(0).changeVersion(),
+                firstPage.changes().get(1).changeVersion(), secondPage.changes().get(0).changeVersion());
+        assertEquals(3, versions.stream().distinct().count());
+        assertEquals(versions.stream().sorted().toList(), versions);
+    }
+
+    @Test
+    @DisplayName("Positive. Should hold back changes above a version that is still uncommitted")
+    void getChanges_lowerVersionInFlight_shouldNotAdvancePastIt() {
+        // Given
+        ChangeFeedDto whileInFlight = transactionTemplate.execute(status -> {
+            long inFlightVersion = changeVersionGenerator.next();
+            StudentDto student = postJson(StudentConst.ENDPOINT, String.format("""
+                    {"name": "%s", "age": %d}""", StudentConst.TEST_NAME, StudentConst.TEST_AGE), StudentDto.class);
+            assertNotNull(student);
+
+            // When
+            ChangeFeedDto feed = getChanges(0, 100).getBody();
+            assertTrue(feed.nextSince() < inFlightVersion);
+            return feed;
+        });
+        ChangeFeedDto afterCommit = getChanges(0, 100).getBody();
+
+        // Then
+        assertTrue(whileInFlight.changes().isEmpty());
+        assertFalse(whileInFlight.hasMore());
+        assertEquals(1, afterCommit.changes().size());
+    }
+
+    @Test
+    @DisplayName("Positive. Should hold back changes while another instance has a lower version in flight")
+    void getChanges_floorCommittedByOtherInstance_shouldNotAdvancePastIt() {
+        // Given
+        long floor = changeVersionGenerator.visibleHorizon();
+        jdbcTemplate.update("INSERT INTO change_versions_in_flight (floor_version, started_at) VALUES (?, ?)",
+                floor, Timestamp.from(Instant.now()));
+        postJson(StudentConst.ENDPOINT, String.format("""
+                {"name": "%s", "age": %d}""", StudentConst.TEST_NAME, StudentConst.TEST_AGE), StudentDto.class);
+
+        // When
+        ChangeFeedDto whileInFlight = getChanges(0, 100).getBody();
+        jdbcTemplate.update("UPDATE change_versions_in_flight SET started_at = ? WHERE floor_version = ?",
+                Timestamp.from(Instant.now().minus(Duration.ofHours(1))), floor);
+        ChangeFeedDto afterAbandoned = getChanges(0, 100).getBody();
+        int removed = changeVersionGenerator.removeAbandoned();
+
+        // Then
+        assertTrue(whileInFlight.changes().isEmpty());
+        assertEquals(0, whileInFlight.nextSince());
+        assertEquals(1, afterAbandoned.changes().size());
+        assertEquals(1, removed);
+    }
+
+    // ========== NEGATIVE TESTS ==========
+
+    @Test
+    @DisplayName("Negative. Should answer Gone for a cursor older than the pruned tombstones")
+    void getChanges_cursorBeforePrunedTombstones_shouldReturnGone() {
+        // Given
+        Timestamp expired = Timestamp.from(Instant.now().minus(Duration.ofDays(60)));
+        for (long version : List.of(1_000_005L, 1_000_007L)) {
+            jdbcTemplate.update("INSERT INTO change_tombstones (change_version, entity_type, entity_id, deleted_at) " +
+                    "VALUES (?, 'STUDENT', ?, ?)", version, version, expired);
+        }
+
+        // When
+        int pruned = changeTombstonePruner.prune();
+        ResponseEntity<String> staleResponse = testRestTemplate.getForEntity(testUrl + "?since=1000003",
+                String.class);
+        ResponseEntity<ChangeFeedDto> fullResync = getChanges(0, 100);
+        ResponseEntity<ChangeFeedDto> currentResponse = getChanges(1_000_007L, 100);
+
+        // Then
+        assertEquals(1, pruned);
+        assertEquals(HttpStatus.GONE, staleResponse.getStatusCode());
+        assertEquals(HttpStatus.OK, fullResync.getStatusCode());
+        assertEquals(HttpStatus.OK, currentResponse.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Negative. Should reject a limit outside the allowed range")
+    void getChanges_invalidLimit_shouldReturnBadRequest() {
+        // When
+        ResponseEntity<String> response = testRestTemplate.getForEntity(testUrl + "?limit=0", String.class);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private HttpEntity<String> createHttpEntity(String jsonBody) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new HttpEntity<>(jsonBody, headers);
+    }
+
+    private <T> T postJson(String endpoint, String jsonBody, Class<T> responseType) {
+        return testRestTemplate.exchange(BASE_URL + port + endpoint, HttpMethod.POST, createHttpEntity(jsonBody),
+                responseType).getBody();
+    }
+
+    private ResponseEntity<ChangeFeedDto> getChanges(long since, int limit) {
+        return testRestTemplate.getForEntity(testUrl + "?since={since}&limit={limit}", ChangeFeedDto.class,
+                since, limit);
+    }
+}
@@ -7,23 +7,36 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import ru.hogwarts.school.dto.FacultyDto;
+import ru.hogwarts.school.dto.FacultyRosterConsistencyDto;
+import ru.hogwarts.school.dto.MultiGetResultDto;
 import ru.hogwarts.school.dto.StudentDto;
+import ru.hogwarts.school.outbox.OutboxDispatcher;
 import ru.hogwarts.school.service.AvatarService;
+import ru.hogwarts.school.testconfig.LazyLoadGuardConfig;
+
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static ru.hogwarts.school.testconfig.QueryBudget.assertQueryBudget;
 import static ru.hogwarts.school.testconfig.TestConstants.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@Import(LazyLoadGuardConfig.class)
 class FacultyControllerTestRestTemplateTest {
 
     @Autowired
     private TestRestTemplate testRestTemplate;
 
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
     @LocalServerPort
     private int port;
 
@@ -174,6 +187,123 @@ class FacultyControllerTestRestTemplateTest {
         assertNotNull(getResponse.getBody());
     }
 
+    @Test
+    @DisplayName("Positive. Should keep faculty roster in sync with student changes")
+    void getFacultyStudents_afterStudentChanges_shouldReturnRosterAndCount() {
+        // Given
+        FacultyDto createdFaculty = createFacultyInDatabase(FacultyConst.TEST_NAME, FacultyConst.TEST_COLOR);
+        StudentDto firstStudent = createStudentInDatabase(StudentConst.TEST_NAME, createdFaculty.id());
+        StudentDto secondStudent = createStudentInDatabase(StudentConst.UPDATED_NAME, createdFaculty.id());
+        testRestTemplate.delete(BASE_URL + port + StudentConst.ENDPOINT + "/{id}", secondStudent.id());
+        outboxDispatcher.dispatch();
+
+        // When
+        ResponseEntity<StudentDto[]> rosterResponse = testRestTemplate.getForEntity(
+                testUrl + "/{id}" + FacultyConst.STUDENTS_ENDPOINT, StudentDto[].class, createdFaculty.id()
+        );
+        ResponseEntity<Long> countResponse = testRestTemplate.getForEntity(
+                testUrl + "/{id}" + FacultyConst.STUDENTS_ENDPOINT + FacultyConst.COUNT_ENDPOINT, Long.class,
+                createdFaculty.id()
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, rosterResponse.getStatusCode());
+        assertNotNull(rosterResponse.getBody());
+        assertEquals(1, rosterResponse.getBody().length);
+        assertEquals(firstStudent, rosterResponse.getBody()[0]);
+        assertEquals(1L, countResponse.getBody());
+    }
+
+    @Test
+    @DisplayName("Positive. Should serve cached faculty responses until a student write invalidates them")
+    void getFacultyStudents_cachedResponse_shouldBeInvalidatedByStudentWrite() {
+        // Given
+        FacultyDto createdFaculty = createFacultyInDatabase(FacultyConst.TEST_NAME, FacultyConst.TEST_COLOR);
+        FacultyDto otherFaculty = createFacultyInDatabase(FacultyConst.GREEN_NAME, FacultyConst.GREEN_COLOR);
+        String studentsUrl = testUrl + "/{id}" + FacultyConst.STUDENTS_ENDPOINT;
+        testRestTemplate.getForEntity(studentsUrl, StudentDto[].class, createdFaculty.id());
+        testRestTemplate.getForEntity(studentsUrl, StudentDto[].class, otherFaculty.id());
+
+        // When
+        ResponseEntity<StudentDto[]> cachedResponse = testRestTemplate.getForEntity(
+                studentsUrl, StudentDto[].class, createdFaculty.id()
+        );
+        StudentDto student = createStudentInDatabase(StudentConst.TEST_NAME, createdFaculty.id());
+        outboxDispatcher.dispatch();
+        ResponseEntity<StudentDto[]> invalidatedResponse = testRestTemplate.getForEntity(
+                studentsUrl, StudentDto[].class, createdFaculty.id()
+        );
+        ResponseEntity<StudentDto[]> untouchedResponse = testRestTemplate.getForEntity(
+                studentsUrl, StudentDto[].class, otherFaculty.id()
+        );
+
+        // Then
+        assertEquals(CacheConst.HIT, cachedResponse.getHeaders().getFirst(CacheConst.HEADER));
+        assertEquals(0, cachedResponse.getBody().length);
+        assertEquals(CacheConst.MISS, invalidatedResponse.getHeaders().getFirst(CacheConst.HEADER));
+        assertArrayEquals(new StudentDto[]{student}, invalidatedResponse.getBody());
+        assertEquals(CacheConst.HIT, untouchedResponse.getHeaders().getFirst(CacheConst.HEADER));
+    }
+
+    @Test
+    @DisplayName("Positive. Should report consistent roster after rebuild")
+    void rebuildRoster_shouldReturnConsistentRoster() {
+        // Given
+        FacultyDto createdFaculty = createFacultyInDatabase(FacultyConst.TEST_NAME, FacultyConst.TEST_COLOR);
+        createStudentInDatabase(StudentConst.TEST_NAME, createdFaculty.id());
+
+        // When
+        ResponseEntity<FacultyRosterConsistencyDto> rebuildResponse = testRestTemplate.postForEntity(
+                testUrl + FacultyConst.ROSTER_REBUILD_ENDPOINT, null, FacultyRosterConsistencyDto.class
+        );
+        ResponseEntity<FacultyRosterConsistencyDto> consistencyResponse = testRestTemplate.getForEntity(
+                testUrl + FacultyConst.ROSTER_CONSISTENCY_ENDPOINT, FacultyRosterConsistencyDto.class
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, rebuildResponse.getStatusCode());
+        assertEquals(new FacultyRosterConsistencyDto(1, 0, 0, true), rebuildResponse.getBody());
+        assertEquals(rebuildResponse.getBody(), consistencyResponse.getBody());
+    }
+
+    @Test
+    @DisplayName("Positive. Should return student IDs on every faculty read path without open session in view")
+    void facultyReads_withStudents_shouldReturnStudentIds() {
+        // Given
+        FacultyDto createdFaculty = createFacultyInDatabase(FacultyConst.TEST_NAME, FacultyConst.TEST_COLOR);
+        StudentDto firstStudent = createStudentInDatabase(StudentConst.TEST_NAME, createdFaculty.id());
+        StudentDto secondStudent = createStudentInDatabase(StudentConst.UPDATED_NAME, createdFaculty.id());
+        List<Long> expectedStudentIds = List.of(firstStudent.id(), secondStudent.id());
+
+        // When
+        ResponseEntity<FacultyDto> findResponse = testRestTemplate.getForEntity(
+                testUrl + "/{id}", FacultyDto.class, createdFaculty.id()
+        );
+        ResponseEntity<FacultyDto[]> allResponse = testRestTemplate.getForEntity(testUrl, FacultyDto[].class);
+        ResponseEntity<FacultyDto[]> colorResponse = testRestTemplate.getForEntity(
+                testUrl + FacultyConst.COLOR_ENDPOINT + "/{color}", FacultyDto[].class, FacultyConst.TEST_COLOR
+        );
+        ResponseEntity<FacultyDto> studentFacultyResponse = testRestTemplate.getForEntity(
+                BASE_URL + port + StudentConst.ENDPOINT + "/{id}" + StudentConst.FACULTY_ENDPOINT, FacultyDto.class,
+                firstStudent.id()
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, findResponse.getStatusCode());
+        assertEquals(expectedStudentIds, sorted(findResponse.getBody().studentIds()));
+        assertEquals(HttpStatus.OK, allResponse.getStatusCode());
+        assertEquals(1, allResponse.getBody().length);
+        assertEquals(expectedStudentIds, sorted(allResponse.getBody()[0].studentIds()));
+        assertEquals(HttpStatus.OK, colorResponse.getStatusCode());
+        assertEquals(expectedStudentIds, sorted(colorResponse.getBody()[0].studentIds()));
+        assertEquals(HttpStatus.OK, studentFacultyResponse.getStatusCode());
+        assertEquals(expectedStudentIds, sorted(studentFacultyResponse.getBody().studentIds()));
+        assertQueryBudget(findResponse, 2);
+        assertQueryBudget(allResponse, 2);
+        assertQueryBudget(colorResponse, 2);
+        assertQueryBudget(studentFacultyResponse, 3);
+    }
+
     @Test
     @DisplayName("Positive. Should create faculty with student IDs list")
     void createFaculty_withStudentIds_shouldReturnFacultyWithStudentIds() {
@@ -197,6 +327,56 @@ class FacultyControllerTestRestTemplateTest {
         assertEquals("#800080", postResponse.getBody().color());
     }
 
+    @Test
+    @DisplayName("Positive. Should PATCH only the given faculty fields when If-Match is current")
+    void patchFaculty_currentIfMatch_shouldUpdateColorOnly() {
+        // Given
+        FacultyDto createdFaculty = createFacultyInDatabase(FacultyConst.TEST_NAME, FacultyConst.TEST_COLOR);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setIfMatch("\"0\"");
+        String patchJson = String.format("""
+                {"color": "%s"}""", FacultyConst.UPDATED_COLOR);
+
+        // When
+        ResponseEntity<FacultyDto> patchResponse = testRestTemplate.exchange(
+                testUrl + "/{id}", HttpMethod.PATCH, new HttpEntity<>(patchJson, headers), FacultyDto.class,
+                createdFaculty.id()
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, patchResponse.getStatusCode());
+        assertEquals("\"1\"", patchResponse.getHeaders().getETag());
+        assertFacultyResponse(patchResponse.getBody(), FacultyConst.TEST_NAME, FacultyConst.UPDATED_COLOR);
+    }
+
+    @Test
+    @DisplayName("Positive. Should look up faculties with student IDs in request order and report missing IDs")
+    void lookupFaculties_mixedIds_shouldPreserveOrderAndReportMissing() {
+        // Given
+        FacultyDto gryffindor = createFacultyInDatabase(FacultyConst.TEST_NAME, FacultyConst.TEST_COLOR);
+        FacultyDto slytherin = createFacultyInDatabase(FacultyConst.GREEN_NAME, FacultyConst.GREEN_COLOR);
+        StudentDto student = createStudentInDatabase(StudentConst.TEST_NAME, slytherin.id());
+        String body = String.format("""
+                {"ids": [%d, %d, %d]}""", slytherin.id(), NON_EXISTENT_ID, gryffindor.id());
+
+        // When
+        ResponseEntity<MultiGetResultDto<FacultyDto>> response = testRestTemplate.exchange(
+                testUrl + FacultyConst.LOOKUP_ENDPOINT, HttpMethod.POST, createHttpEntity(body),
+                new ParameterizedTypeReference<>() {
+                }
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        List<FacultyDto> items = response.getBody().items();
+        assertEquals(List.of(slytherin.id(), gryffindor.id()), items.stream().map(FacultyDto::id).toList());
+        assertEquals(List.of(student.id()), items.get(0).studentIds());
+        assertEquals(List.of(), items.get(1).studentIds());
+        assertEquals(List.of(NON_EXISTENT_ID), response.getBody().missingIds());
+        assertQueryBudget(response, 2);
+    }
+
     // ========== NEGATIVE TESTS ==========
 
     @Test
@@ -374,6 +554,27 @@ class FacultyControllerTestRestTemplateTest {
         return postResponse.getBody();
     }
 
+    private StudentDto createStudentInDatabase(String name, Long facultyId) {
+        String studentJson = String.format("""
+                {
+                    "name": "%s",
+                    "age": %d,
+                    "facultyId": %d
+                }""", name, StudentConst.TEST_AGE, facultyId);
+
+        ResponseEntity<StudentDto> postResponse = testRestTemplate.exchange(
+                BASE_URL + port + StudentConst.ENDPOINT, HttpMethod.POST, createHttpEntity(studentJson),
+                StudentDto.class
+        );
+
+        return postResponse.getBody();
+    }
+
+    private List<Long> sorted(List<Long> ids) {
+        assertNotNull(ids);
+        return ids.stream().sorted().toList();
+    }
+
     private void assertFacultyResponse(FacultyDto faculty, String expectedName, String expectedColor) {
         assertNotNull(faculty, "Faculty should not be null");
         assertNotNull(faculty.id(), "Faculty ID should not be null");
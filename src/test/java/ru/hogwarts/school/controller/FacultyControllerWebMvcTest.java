@@ -1,5 +1,6 @@
 package ru.hogwarts.school.controller;
 
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,12 +21,14 @@ import ru.hogwarts.school.service.UniversityManagementService;
 import java.util.Collections;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static ru.hogwarts.school.testconfig.TestConstants.*;
@@ -33,6 +36,8 @@ import static ru.hogwarts.school.testconfig.TestConstants.*;
 @WebMvcTest(FacultyController.class)
 public class FacultyControllerWebMvcTest {
 
+    private static final MediaType SMILE_MEDIA_TYPE = MediaType.parseMediaType("application/x-jackson-smile");
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -138,6 +143,29 @@ public class FacultyControllerWebMvcTest {
                .andDo(print());
     }
 
+    @Test
+    @DisplayName("Positive. Should return faculties as Smile when requested")
+    void getAllFaculties_acceptSmile_shouldReturnSmileList() throws Exception {
+        // Given
+        FacultyDto facultyWithStudents = new FacultyDto(EXISTING_ID, FacultyConst.TEST_NAME, FacultyConst.TEST_COLOR,
+                List.of(1L, 2L, 3L));
+        when(facultyService.getAllFaculties()).thenReturn(List.of(facultyWithStudents));
+
+        // When
+        byte[] body = mockMvc.perform(get(FacultyConst.ENDPOINT)
+                                     .accept(SMILE_MEDIA_TYPE))
+                             .andExpect(status().isOk())
+                             .andExpect(content().contentType(SMILE_MEDIA_TYPE))
+                             .andReturn()
+                             .getResponse()
+                             .getContentAsByteArray();
+
+        // Then
+        FacultyDto[] decoded = new SmileMapper().readValue(body, FacultyDto[].class);
+        assertEquals(1, decoded.length);
+        assertEquals(facultyWithStudents, decoded[0]);
+    }
+
     @Test
     @DisplayName("Positive. Should return faculties filtered by Color")
     void getFacultiesByColor_existingColor_shouldReturnFilteredFaculties() throws Exception {
@@ -7,24 +7,46 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import ru.hogwarts.school.dto.BulkUpdateResultDto;
 import ru.hogwarts.school.dto.FacultyDto;
+import ru.hogwarts.school.dto.FacultyRosterConsistencyDto;
+import ru.hogwarts.school.dto.MultiGetResultDto;
+import ru.hogwarts.school.dto.StudentCountDto;
 import ru.hogwarts.school.dto.StudentDto;
+import ru.hogwarts.school.dto.StudentSearchResultDto;
+import ru.hogwarts.school.outbox.OutboxDispatcher;
 import ru.hogwarts.school.service.AvatarService;
+import ru.hogwarts.school.testconfig.LazyLoadGuardConfig;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static ru.hogwarts.school.testconfig.QueryBudget.assertQueryBudget;
 import static ru.hogwarts.school.testconfig.TestConstants.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@Import(LazyLoadGuardConfig.class)
 public class StudentControllerTestRestTemplateTest {
 
+    private static final ParameterizedTypeReference<MultiGetResultDto<StudentDto>> MULTI_GET_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
     @MockitoBean
     AvatarService avatarService;
     @Autowired
     private TestRestTemplate testRestTemplate;
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
     @LocalServerPort
     private int port;
     private String testUrl;
@@ -68,6 +90,7 @@ public class StudentControllerTestRestTemplateTest {
         // Then
         assertEquals(HttpStatus.OK, getResponse.getStatusCode());
         assertStudentResponse(getResponse.getBody(), StudentConst.TEST_NAME, StudentConst.TEST_AGE);
+        assertQueryBudget(getResponse, 1);
     }
 
     @Test
@@ -182,6 +205,205 @@ public class StudentControllerTestRestTemplateTest {
         assertEquals(17, postResponse.getBody().age());
     }
 
+    @Test
+    @DisplayName("Positive. Should find Student by substring and by typo")
+    void searchStudents_substringAndTypo_shouldReturnRankedStudents() {
+        // Given
+        StudentDto harry = createStudentInDatabase(StudentConst.TEST_NAME, StudentConst.TEST_AGE);
+        createStudentInDatabase(StudentConst.SEARCH_OTHER_NAME, StudentConst.TEST_AGE);
+        outboxDispatcher.dispatch();
+
+        // When
+        ResponseEntity<StudentSearchResultDto[]> substringResponse = testRestTemplate.getForEntity(
+                testUrl + StudentConst.SEARCH_ENDPOINT + "?q={q}", StudentSearchResultDto[].class, "pott"
+        );
+        ResponseEntity<StudentSearchResultDto[]> typoResponse = testRestTemplate.getForEntity(
+                testUrl + StudentConst.SEARCH_ENDPOINT + "?q={q}", StudentSearchResultDto[].class, "Hary Poter"
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, substringResponse.getStatusCode());
+        assertNotNull(substringResponse.getBody());
+        assertEquals(1, substringResponse.getBody().length);
+        assertEquals(harry.id(), substringResponse.getBody()[0].id());
+
+        assertNotNull(typoResponse.getBody());
+        assertTrue(typoResponse.getBody().length > 0, "Typo query should still match");
+        assertEquals(harry.id(), typoResponse.getBody()[0].id());
+    }
+
+    @Test
+    @DisplayName("Positive. Should find Cyrillic-named Student by Latin query")
+    void searchStudents_transliteratedQuery_shouldReturnStudent() {
+        // Given
+        StudentDto hermione = createStudentInDatabase(StudentConst.CYRILLIC_NAME, StudentConst.TEST_AGE);
+        outboxDispatcher.dispatch();
+
+        // When
+        ResponseEntity<StudentSearchResultDto[]> response = testRestTemplate.getForEntity(
+                testUrl + StudentConst.SEARCH_ENDPOINT + "?q={q}", StudentSearchResultDto[].class,
+                StudentConst.CYRILLIC_NAME_LATIN_QUERY
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().length);
+        assertEquals(hermione.id(), response.getBody()[0].id());
+    }
+
+    @Test
+    @DisplayName("Positive. Should return exact count as a bare number and an estimate tracking creates and deletes")
+    void getTotalCountOfStudents_exactAndEstimated_shouldMatchAfterWrites() {
+        // Given
+        createStudentInDatabase(StudentConst.TEST_NAME, StudentConst.TEST_AGE);
+        StudentDto removed = createStudentInDatabase(StudentConst.SEARCH_OTHER_NAME, StudentConst.TEST_AGE);
+        createStudentInDatabase(StudentConst.CYRILLIC_NAME, StudentConst.TEST_AGE);
+        Instant beforeDelete = Instant.now();
+        testRestTemplate.delete(testUrl + "/{id}", removed.id());
+
+        // When
+        ResponseEntity<Long> exactResponse = testRestTemplate.getForEntity(
+                testUrl + StudentConst.COUNT_ENDPOINT, Long.class
+        );
+        ResponseEntity<StudentCountDto> estimatedResponse = testRestTemplate.getForEntity(
+                testUrl + StudentConst.COUNT_ESTIMATE_ENDPOINT, StudentCountDto.class
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, exactResponse.getStatusCode());
+        assertEquals(2L, exactResponse.getBody());
+
+        assertEquals(HttpStatus.OK, estimatedResponse.getStatusCode());
+        assertNotNull(estimatedResponse.getBody());
+        assertFalse(estimatedResponse.getBody().exact());
+        assertEquals(2, estimatedResponse.getBody().count());
+        assertFalse(estimatedResponse.getBody().asOf().isBefore(beforeDelete));
+    }
+
+    @Test
+    @DisplayName("Positive. Should bulk transfer students by ID list and by source Faculty keeping roster consistent")
+    void transferStudents_byIdsThenBySource_shouldMoveAllStudents() {
+        // Given
+        FacultyDto gryffindor = createFacultyInDatabase(FacultyConst.TEST_NAME, FacultyConst.TEST_COLOR);
+        FacultyDto slytherin = createFacultyInDatabase(FacultyConst.GREEN_NAME, FacultyConst.GREEN_COLOR);
+        StudentDto harry = createStudentInDatabase(StudentConst.TEST_NAME, StudentConst.TEST_AGE);
+        StudentDto ron = createStudentInDatabase(StudentConst.SEARCH_OTHER_NAME, StudentConst.TEST_AGE);
+        String byIds = String.format("""
+                {"studentIds": [%d, %d, %d], "toFacultyId": %d}""",
+                harry.id(), ron.id(), NON_EXISTENT_ID, gryffindor.id());
+        String bySource = String.format("""
+                {"fromFacultyId": %d, "toFacultyId": %d}""", gryffindor.id(), slytherin.id());
+
+        // When
+        ResponseEntity<BulkUpdateResultDto> byIdsResponse = testRestTemplate.exchange(
+                testUrl + StudentConst.BULK_TRANSFER_ENDPOINT, HttpMethod.POST, createHttpEntity(byIds),
+                BulkUpdateResultDto.class
+        );
+        outboxDispatcher.dispatch();
+        StudentDto[] gryffindorStudents = testRestTemplate.getForObject(
+                BASE_URL + port + FacultyConst.ENDPOINT + "/{id}" + FacultyConst.STUDENTS_ENDPOINT,
+                StudentDto[].class, gryffindor.id()
+        );
+        ResponseEntity<BulkUpdateResultDto> bySourceResponse = testRestTemplate.exchange(
+                testUrl + StudentConst.BULK_TRANSFER_ENDPOINT, HttpMethod.POST, createHttpEntity(bySource),
+                BulkUpdateResultDto.class
+        );
+        outboxDispatcher.dispatch();
+
+        // Then
+        assertEquals(HttpStatus.OK, byIdsResponse.getStatusCode());
+        assertEquals(new BulkUpdateResultDto(2, 1), byIdsResponse.getBody());
+        assertNotNull(gryffindorStudents);
+        assertEquals(2, gryffindorStudents.length);
+
+        assertEquals(HttpStatus.OK, bySourceResponse.getStatusCode());
+        assertEquals(new BulkUpdateResultDto(2, 1), bySourceResponse.getBody());
+        assertEquals(slytherin.id(), testRestTemplate.getForObject(
+                testUrl + "/{id}", StudentDto.class, harry.id()).facultyId());
+        FacultyRosterConsistencyDto consistency = testRestTemplate.getForObject(
+                BASE_URL + port + FacultyConst.ENDPOINT + FacultyConst.ROSTER_CONSISTENCY_ENDPOINT,
+                FacultyRosterConsistencyDto.class
+        );
+        assertTrue(consistency.consistent());
+        assertEquals(2, consistency.rosterEntries());
+    }
+
+    @Test
+    @DisplayName("Positive. Should bulk shift ages of filtered students within allowed bounds")
+    void updateStudents_ageDeltaWithFilter_shouldUpdateOnlyMatchingStudents() {
+        // Given
+        StudentDto young = createStudentInDatabase(StudentConst.TEST_NAME, StudentConst.MIN_AGE);
+        StudentDto old = createStudentInDatabase(StudentConst.SEARCH_OTHER_NAME, StudentConst.MAX_AGE);
+        String body = String.format("""
+                {"maxAge": %d, "ageDelta": 1}""", StudentConst.TEST_AGE);
+
+        // When
+        ResponseEntity<BulkUpdateResultDto> response = testRestTemplate.exchange(
+                testUrl + StudentConst.BULK_UPDATE_ENDPOINT, HttpMethod.POST, createHttpEntity(body),
+                BulkUpdateResultDto.class
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(new BulkUpdateResultDto(1, 1), response.getBody());
+        assertEquals(StudentConst.MIN_AGE + 1,
+                testRestTemplate.getForObject(testUrl + "/{id}", StudentDto.class, young.id()).age());
+        assertEquals(StudentConst.MAX_AGE,
+                testRestTemplate.getForObject(testUrl + "/{id}", StudentDto.class, old.id()).age());
+    }
+
+    @Test
+    @DisplayName("Positive. Should skip the write for a no-op PATCH and bump the version on a real change")
+    void patchStudent_unchangedThenChanged_shouldWriteOnlyOnChange() {
+        // Given
+        StudentDto createdStudent = createStudentInDatabase(StudentConst.TEST_NAME, StudentConst.TEST_AGE);
+        String unchangedJson = String.format("""
+                {"age": %d}""", StudentConst.TEST_AGE);
+        String changedJson = String.format("""
+                {"name": "%s"}""", StudentConst.UPDATED_NAME);
+
+        // When
+        ResponseEntity<StudentDto> noOpResponse = testRestTemplate.exchange(
+                testUrl + "/{id}", HttpMethod.PATCH, createHttpEntity(unchangedJson), StudentDto.class,
+                createdStudent.id()
+        );
+        ResponseEntity<StudentDto> patchResponse = testRestTemplate.exchange(
+                testUrl + "/{id}", HttpMethod.PATCH, createHttpEntity(changedJson, noOpResponse.getHeaders().getETag()),
+                StudentDto.class, createdStudent.id()
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, noOpResponse.getStatusCode());
+        assertEquals("\"0\"", noOpResponse.getHeaders().getETag());
+        assertEquals(createdStudent, noOpResponse.getBody());
+        assertQueryBudget(noOpResponse, 1);
+
+        assertEquals(HttpStatus.OK, patchResponse.getStatusCode());
+        assertEquals("\"1\"", patchResponse.getHeaders().getETag());
+        assertStudentResponse(patchResponse.getBody(), StudentConst.UPDATED_NAME, StudentConst.TEST_AGE);
+    }
+
+    @Test
+    @DisplayName("Positive. Should multi-get students in request order with one query and report missing IDs")
+    void getStudentsByIds_mixedIds_shouldPreserveOrderAndReportMissing() {
+        // Given
+        StudentDto first = createStudentInDatabase(StudentConst.TEST_NAME, StudentConst.TEST_AGE);
+        StudentDto second = createStudentInDatabase(StudentConst.SEARCH_OTHER_NAME, StudentConst.UPDATED_AGE);
+
+        // When
+        ResponseEntity<MultiGetResultDto<StudentDto>> response = testRestTemplate.exchange(
+                testUrl + "?ids={ids}", HttpMethod.GET, null, MULTI_GET_TYPE,
+                second.id() + "," + NON_EXISTENT_ID + "," + first.id() + "," + second.id()
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(second, first), response.getBody().items());
+        assertEquals(List.of(NON_EXISTENT_ID), response.getBody().missingIds());
+        assertQueryBudget(response, 1);
+    }
+
     // ========== NEGATIVE TESTS ==========
 
     @Test
@@ -307,6 +529,61 @@ public class StudentControllerTestRestTemplateTest {
                 postResponse.getStatusCode().is4xxClientError());
     }
 
+    @Test
+    @DisplayName("Negative. Should reject bulk transfer with both source Faculty and ID list")
+    void transferStudents_ambiguousSource_shouldReturnBadRequest() {
+        // Given
+        FacultyDto gryffindor = createFacultyInDatabase(FacultyConst.TEST_NAME, FacultyConst.TEST_COLOR);
+        String body = String.format("""
+                {"fromFacultyId": %d, "studentIds": [1], "toFacultyId": %d}""", gryffindor.id(), gryffindor.id());
+
+        // When
+        ResponseEntity<String> response = testRestTemplate.exchange(
+                testUrl + StudentConst.BULK_TRANSFER_ENDPOINT, HttpMethod.POST, createHttpEntity(body), String.class
+        );
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Negative. Should reject PATCH with a stale If-Match version and report the current ETag")
+    void patchStudent_staleIfMatch_shouldReturnPreconditionFailed() {
+        // Given
+        StudentDto createdStudent = createStudentInDatabase(StudentConst.TEST_NAME, StudentConst.TEST_AGE);
+        String patchJson = String.format("""
+                {"age": %d}""", StudentConst.UPDATED_AGE);
+        testRestTemplate.exchange(testUrl + "/{id}", HttpMethod.PATCH, createHttpEntity(patchJson, "\"0\""),
+                StudentDto.class, createdStudent.id());
+
+        // When
+        ResponseEntity<String> response = testRestTemplate.exchange(
+                testUrl + "/{id}", HttpMethod.PATCH, createHttpEntity(patchJson, "\"0\""), String.class,
+                createdStudent.id()
+        );
+
+        // Then
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        assertEquals("\"1\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Negative. Should reject multi-get lookup above the batch size cap")
+    void lookupStudents_tooManyIds_shouldReturnBadRequest() {
+        // Given
+        String ids = LongStream.rangeClosed(1, 501).mapToObj(String::valueOf).collect(Collectors.joining(","));
+        String body = String.format("""
+                {"ids": [%s]}""", ids);
+
+        // When
+        ResponseEntity<String> response = testRestTemplate.exchange(
+                testUrl + StudentConst.LOOKUP_ENDPOINT, HttpMethod.POST, createHttpEntity(body), String.class
+        );
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
     // ========== HELPER METHODS ==========
 
     private HttpEntity<String> createHttpEntity(String jsonBody) {
@@ -315,6 +592,13 @@ public class StudentControllerTestRestTemplateTest {
         return new HttpEntity<>(jsonBody, headers);
     }
 
+    private HttpEntity<String> createHttpEntity(String jsonBody, String ifMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setIfMatch(ifMatch);
+        return new HttpEntity<>(jsonBody, headers);
+    }
+
     private String createValidStudentCreateJson(String name, int age) {
         return String.format("""
                 {
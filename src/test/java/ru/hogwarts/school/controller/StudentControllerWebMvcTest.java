@@ -1,5 +1,6 @@
 package ru.hogwarts.school.controller;
 
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,17 +15,20 @@ import ru.hogwarts.school.dto.FacultyDto;
 import ru.hogwarts.school.dto.StudentCreateDto;
 import ru.hogwarts.school.dto.StudentDto;
 import ru.hogwarts.school.dto.StudentUpdateDto;
+import ru.hogwarts.school.service.StudentBulkService;
 import ru.hogwarts.school.service.StudentService;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static ru.hogwarts.school.testconfig.TestConstants.*;
@@ -38,6 +42,9 @@ public class StudentControllerWebMvcTest {
     @MockitoBean
     private StudentService studentService;
 
+    @MockitoBean
+    private StudentBulkService studentBulkService;
+
     private StudentDto testStudentDto;
     private FacultyDto testFacultyDto;
 
@@ -164,6 +171,28 @@ public class StudentControllerWebMvcTest {
                .andDo(print());
     }
 
+    @Test
+    @DisplayName("Positive. Should return students list as CBOR when requested")
+    void getAllStudents_acceptCbor_shouldReturnCborList() throws Exception {
+        // Given
+        List<StudentDto> students = Collections.singletonList(testStudentDto);
+        when(studentService.getAllStudents()).thenReturn(students);
+
+        // When
+        byte[] body = mockMvc.perform(get(StudentConst.ENDPOINT)
+                                     .accept(MediaType.APPLICATION_CBOR))
+                             .andExpect(status().isOk())
+                             .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                             .andReturn()
+                             .getResponse()
+                             .getContentAsByteArray();
+
+        // Then
+        StudentDto[] decoded = new CBORMapper().readValue(body, StudentDto[].class);
+        assertEquals(1, decoded.length);
+        assertEquals(testStudentDto, decoded[0]);
+    }
+
     @Test
     @DisplayName("Positive. Should filter students by Age")
     void getStudents_existingAge_shouldReturnFilteredStudents() throws Exception {
@@ -0,0 +1,240 @@
+package ru.hogwarts.school.outbox;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.hogwarts.school.dto.FacultyCreateDto;
+import ru.hogwarts.school.dto.FacultyDto;
+import ru.hogwarts.school.dto.StudentBulkTransferDto;
+import ru.hogwarts.school.dto.StudentCreateDto;
+import ru.hogwarts.school.dto.StudentDto;
+import ru.hogwarts.school.dto.StudentSearchResultDto;
+import ru.hogwarts.school.event.ChangeType;
+import ru.hogwarts.school.event.EntityChangedEvent;
+import ru.hogwarts.school.event.EntityType;
+import ru.hogwarts.school.repository.OutboxCheckpointRepository;
+import ru.hogwarts.school.repository.OutboxEventRepository;
+import ru.hogwarts.school.service.FacultyService;
+import ru.hogwarts.school.service.StudentBulkService;
+import ru.hogwarts.school.service.StudentService;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@TestPropertySource(properties = {
+        "app.outbox.poll-interval-ms=3600000",
+        "app.outbox.gap-timeout-ms=0",
+        "app.outbox.retention-ms=0"
+})
+class OutboxDispatcherTest {
+
+    private static final String SUBSCRIBER = "test-recorder";
+    private static final int STUDENT_AGE = 17;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxCheckpointRepository outboxCheckpointRepository;
+
+    @Autowired
+    private RecordingSubscriber recordingSubscriber;
+
+    @Autowired
+    private List<OutboxSubscriber> subscribers;
+
+    @Autowired
+    private FacultyService facultyService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentBulkService studentBulkService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // ========== POSITIVE TESTS ==========
+
+    @Test
+    @DisplayName("Positive. Should deliver committed changes once in order and advance the checkpoint")
+    void dispatch_committedChanges_shouldDeliverInOrder() {
+        // Given
+        FacultyDto faculty = facultyService.createFaculty(new FacultyCreateDto("Ravenclaw", "#0E1A40"));
+        StudentDto student = studentService.createStudent(
+                new StudentCreateDto("Luna Lovegood", STUDENT_AGE, faculty.id()));
+        studentService.deleteStudent(student.id());
+
+        // When
+        int firstPass = outboxDispatcher.dispatch();
+        int secondPass = outboxDispatcher.dispatch();
+
+        // Then
+        assertEquals(3 * subscribers.size(), firstPass);
+        assertEquals(0, secondPass);
+        assertEquals(List.of(
+                EntityChangedEvent.faculty(faculty.id(), ChangeType.CREATED),
+                EntityChangedEvent.student(student.id(), ChangeType.CREATED, faculty.id()),
+                EntityChangedEvent.student(student.id(), ChangeType.DELETED, faculty.id())
+        ), recordingSubscriber.events);
+        assertEquals(3, outboxCheckpointRepository.findById(SUBSCRIBER).orElseThrow().getLastEventId());
+
+        assertEquals(3, outboxDispatcher.prune());
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    @DisplayName("Positive. Should refresh the faculty roster and search index only once events are dispatched")
+    void dispatch_studentWrites_shouldUpdateRosterAndSearchIndex() {
+        // Given
+        FacultyDto gryffindor = facultyService.createFaculty(new FacultyCreateDto("Gryffindor", "#AE0001"));
+        FacultyDto ravenclaw = facultyService.createFaculty(new FacultyCreateDto("Ravenclaw", "#0E1A40"));
+        StudentDto luna = studentService.createStudent(
+                new StudentCreateDto("Luna Lovegood", STUDENT_AGE, ravenclaw.id()));
+        StudentDto ginny = studentService.createStudent(
+                new StudentCreateDto("Ginny Weasley", STUDENT_AGE, gryffindor.id()));
+        studentBulkService.transferStudents(new StudentBulkTransferDto(ravenclaw.id(), null, gryffindor.id()));
+        studentService.deleteStudent(ginny.id());
+
+        // When
+        long rosterBeforeDispatch = facultyService.countFacultyStudents(gryffindor.id());
+        List<StudentSearchResultDto> searchBeforeDispatch = studentService.searchStudents("Lovegood", 1, 10);
+        outboxDispatcher.dispatch();
+
+        // Then
+        assertEquals(0, rosterBeforeDispatch);
+        assertTrue(searchBeforeDispatch.isEmpty());
+        assertEquals(List.of(new StudentDto(luna.id(), luna.name(), luna.age(), gryffindor.id())),
+                facultyService.getFacultyStudents(gryffindor.id()));
+        assertEquals(0, facultyService.countFacultyStudents(ravenclaw.id()));
+        assertTrue(facultyService.checkRosterConsistency().consistent());
+        assertEquals(List.of(luna.id()),
+                studentService.searchStudents("Lovegood", 1, 10).stream().map(StudentSearchResultDto::id).toList());
+        assertTrue(studentService.searchStudents("Weasley", 1, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Positive. Should write no outbox event when the change rolls back")
+    void dispatch_rolledBackChange_shouldDeliverNothing() {
+        // Given
+        transactionTemplate.executeWithoutResult(status -> {
+            facultyService.createFaculty(new FacultyCreateDto("Hufflepuff", "#FFD800"));
+            status.setRollbackOnly();
+        });
+
+        // When
+        int handled = outboxDispatcher.dispatch();
+
+        // Then
+        assertEquals(0, handled);
+        assertEquals(0, outboxEventRepository.count());
+        assertTrue(recordingSubscriber.events.isEmpty());
+    }
+
+    // ========== NEGATIVE TESTS ==========
+
+    @Test
+    @DisplayName("Negative. Should redeliver from the failed event without skipping it")
+    void dispatch_subscriberFails_shouldRetryFailedEvent() {
+        // Given
+        FacultyDto first = facultyService.createFaculty(new FacultyCreateDto("Gryffindor", "#AE0001"));
+        FacultyDto second = facultyService.createFaculty(new FacultyCreateDto("Slytherin", "#1A472A"));
+        recordingSubscriber.failuresLeft.set(1);
+        recordingSubscriber.failOn = second.id();
+
+        // When
+        outboxDispatcher.dispatch();
+        long checkpointAfterFailure = outboxCheckpointRepository.findById(SUBSCRIBER).orElseThrow().getLastEventId();
+        int deliveredBeforeRetry = recordingSubscriber.events.size();
+        int secondPass = outboxDispatcher.dispatch();
+
+        // Then
+        assertEquals(1, deliveredBeforeRetry);
+        assertEquals(1, checkpointAfterFailure);
+        assertEquals(1, secondPass);
+        assertEquals(List.of(first.id(), second.id()),
+                recordingSubscriber.events.stream().map(EntityChangedEvent::entityId).toList());
+        assertTrue(recordingSubscriber.events.stream().allMatch(event -> event.entityType() == EntityType.FACULTY));
+    }
+
+    @Test
+    @DisplayName("Negative. Should still deliver an event that commits after its gap was skipped")
+    void dispatch_gapCommitsLate_shouldDeliverSkippedEvent() {
+        // Given
+        FacultyDto faculty = facultyService.createFaculty(new FacultyCreateDto("Gryffindor", "#AE0001"));
+        insertOutboxEvent(3, faculty.id() + 2);
+
+        // When
+        int firstPass = outboxDispatcher.dispatch();
+        int prunableBeforeLateCommit = outboxDispatcher.prune();
+        insertOutboxEvent(2, faculty.id() + 1);
+        int secondPass = outboxDispatcher.dispatch();
+        int thirdPass = outboxDispatcher.dispatch();
+
+        // Then
+        assertEquals(2 * subscribers.size(), firstPass);
+        assertEquals(1, prunableBeforeLateCommit);
+        assertEquals(subscribers.size(), secondPass);
+        assertEquals(0, thirdPass);
+        assertEquals(List.of(faculty.id(), faculty.id() + 2, faculty.id() + 1),
+                recordingSubscriber.events.stream().map(EntityChangedEvent::entityId).toList());
+        assertTrue(outboxCheckpointRepository.findById(SUBSCRIBER).orElseThrow().getSkippedIds().isEmpty());
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private void insertOutboxEvent(long id, long facultyId) {
+        jdbcTemplate.update("INSERT INTO outbox_events (id, aggregate_type, aggregate_id, change_type, faculty_ids, " +
+                        "created_at) VALUES (?, 'FACULTY', ?, 'CREATED', ?, ?)", id, facultyId,
+                String.valueOf(facultyId), Timestamp.from(Instant.now()));
+    }
+
+    @TestConfiguration
+    static class RecordingSubscriberConfig {
+
+        @Bean
+        RecordingSubscriber recordingSubscriber() {
+            return new RecordingSubscriber();
+        }
+    }
+
+    static class RecordingSubscriber implements OutboxSubscriber {
+        private final List<EntityChangedEvent> events = new CopyOnWriteArrayList<>();
+        private final AtomicInteger failuresLeft = new AtomicInteger();
+        private volatile Long failOn;
+
+        @Override
+        public String name() {
+            return SUBSCRIBER;
+        }
+
+        @Override
+        public void handle(long eventId, EntityChangedEvent event) {
+            if (event.entityId() != null && event.entityId().equals(failOn) && failuresLeft.getAndDecrement() > 0) {
+                throw new IllegalStateException("Simulated projection failure");
+            }
+            events.add(event);
+        }
+    }
+}
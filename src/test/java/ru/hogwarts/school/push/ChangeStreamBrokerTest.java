@@ -0,0 +1,221 @@
+package ru.hogwarts.school.push;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.hogwarts.school.dto.ChangeStreamStatsDto;
+import ru.hogwarts.school.event.ChangeType;
+import ru.hogwarts.school.event.EntityChangedEvent;
+import ru.hogwarts.school.event.EntityType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeStreamBrokerTest {
+
+    private static final int BUFFER_SIZE = 3;
+    private static final int REPLAY_SIZE = 4;
+    private static final long FACULTY_ID = 7L;
+    private static final String EPOCH = "e1";
+
+    // ========== POSITIVE TESTS ==========
+
+    @Test
+    @DisplayName("Positive. Should coalesce pending events per entity and keep sent IDs increasing")
+    void onEntityChanged_burstForOneEntity_shouldDeliverLatestOnce() {
+        // Given
+        ManualExecutor dispatcher = new ManualExecutor();
+        ChangeStreamBroker broker = new ChangeStreamBroker(EPOCH, dispatcher, BUFFER_SIZE, REPLAY_SIZE, 0);
+        RecordingEmitter emitter = new RecordingEmitter();
+        broker.register(emitter, null, null);
+        dispatcher.runAll();
+
+        // When
+        broker.onEntityChanged(EntityChangedEvent.student(1L, ChangeType.CREATED));
+        broker.onEntityChanged(EntityChangedEvent.student(2L, ChangeType.CREATED));
+        broker.onEntityChanged(EntityChangedEvent.student(1L, ChangeType.UPDATED, FACULTY_ID));
+        dispatcher.runAll();
+
+        // Then
+        assertEquals(List.of("change:2", "change:3"), emitter.events());
+        assertTrue(emitter.payloads().get(1).contains("\"changeType\":\"CREATED\""));
+        assertTrue(emitter.payloads().get(1).contains("\"facultyIds\":[" + FACULTY_ID + "]"));
+        ChangeStreamStatsDto stats = broker.getStats();
+        assertEquals(new ChangeStreamStatsDto(1, 3, 3, 2, 1, 0), stats);
+    }
+
+    @Test
+    @DisplayName("Positive. Should replay missed events after Last-Event-ID and honour the type filter")
+    void register_withLastEventId_shouldReplayMissedEvents() {
+        // Given
+        ChangeStreamBroker broker = new ChangeStreamBroker(EPOCH, Runnable::run, BUFFER_SIZE, REPLAY_SIZE, 0);
+        broker.onEntityChanged(EntityChangedEvent.student(1L, ChangeType.CREATED));
+        broker.onEntityChanged(EntityChangedEvent.faculty(FACULTY_ID, ChangeType.UPDATED));
+        broker.onEntityChanged(EntityChangedEvent.student(2L, ChangeType.CREATED));
+
+        // When
+        RecordingEmitter resumed = new RecordingEmitter();
+        broker.register(resumed, EPOCH + "-1", Set.of(EntityType.STUDENT));
+        broker.onEntityChanged(EntityChangedEvent.faculty(FACULTY_ID, ChangeType.DELETED));
+        broker.onEntityChanged(EntityChangedEvent.avatar(2L, ChangeType.CREATED));
+        broker.onEntityChanged(EntityChangedEvent.student(3L, ChangeType.CREATED));
+
+        // Then
+        assertEquals(List.of("change:3", "change:6"), resumed.events());
+    }
+
+    @Test
+    @DisplayName("Positive. Should send a reset when Last-Event-ID is outside the replay buffer or epoch")
+    void register_lastEventIdOutsideReplay_shouldSendReset() {
+        // Given
+        ChangeStreamBroker broker = new ChangeStreamBroker(EPOCH, Runnable::run, BUFFER_SIZE, REPLAY_SIZE, 0);
+        for (long id = 1; id <= REPLAY_SIZE + 2; id++) {
+            broker.onEntityChanged(EntityChangedEvent.student(id, ChangeType.CREATED));
+        }
+
+        // When
+        RecordingEmitter stale = new RecordingEmitter();
+        broker.register(stale, EPOCH + "-1", null);
+        RecordingEmitter otherEpoch = new RecordingEmitter();
+        broker.register(otherEpoch, "e0-5", null);
+        RecordingEmitter unknown = new RecordingEmitter();
+        broker.register(unknown, "not-a-number", null);
+
+        // Then
+        assertEquals(List.of("reset:6"), stale.events());
+        assertEquals(List.of("reset:6"), otherEpoch.events());
+        assertEquals(List.of("reset:6"), unknown.events());
+    }
+
+    @Test
+    @DisplayName("Positive. Should send keep-alive comments to idle subscribers")
+    void sendHeartbeats_idleSubscriber_shouldSendComment() {
+        // Given
+        ChangeStreamBroker broker = new ChangeStreamBroker(EPOCH, Runnable::run, BUFFER_SIZE, REPLAY_SIZE, 0);
+        RecordingEmitter emitter = new RecordingEmitter();
+        broker.register(emitter, null, null);
+
+        // When
+        broker.sendHeartbeats();
+
+        // Then
+        assertEquals(List.of("comment"), emitter.events());
+    }
+
+    @Test
+    @DisplayName("Positive. Should leave fan-out to the publisher instead of the committing thread")
+    void onEntityChanged_withPublisher_shouldOnlyEnqueue() {
+        // Given
+        ManualExecutor publisher = new ManualExecutor();
+        ChangeStreamBroker broker = new ChangeStreamBroker(EPOCH, publisher, Runnable::run, BUFFER_SIZE,
+                REPLAY_SIZE, 0);
+        RecordingEmitter emitter = new RecordingEmitter();
+        broker.register(emitter, null, null);
+
+        // When
+        broker.onEntityChanged(EntityChangedEvent.student(1L, ChangeType.CREATED));
+        long publishedBeforeRun = broker.getStats().published();
+        publisher.runAll();
+
+        // Then
+        assertEquals(0, publishedBeforeRun);
+        assertEquals(List.of("change:1"), emitter.events());
+    }
+
+    // ========== NEGATIVE TESTS ==========
+
+    @Test
+    @DisplayName("Negative. Should evict a subscriber whose buffer overflows without affecting others")
+    void onEntityChanged_slowSubscriber_shouldBeEvicted() {
+        // Given
+        ManualExecutor slowDispatcher = new ManualExecutor();
+        ChangeStreamBroker broker = new ChangeStreamBroker(EPOCH, slowDispatcher, BUFFER_SIZE, REPLAY_SIZE, 0);
+        RecordingEmitter slow = new RecordingEmitter();
+        broker.register(slow, null, null);
+
+        // When
+        for (long id = 1; id <= BUFFER_SIZE + 1; id++) {
+            broker.onEntityChanged(EntityChangedEvent.student(id, ChangeType.CREATED));
+        }
+        slowDispatcher.runAll();
+
+        // Then
+        assertTrue(slow.completed);
+        assertEquals(List.of(), slow.events());
+        assertEquals(0, broker.getStats().subscribers());
+        assertEquals(1, broker.getStats().evicted());
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private static final class ManualExecutor implements Executor {
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.remove(0).run();
+            }
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new ArrayList<>();
+        private final List<String> payloads = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            Set<ResponseBodyEmitter.DataWithMediaType> parts = builder.build();
+            String text = parts.stream()
+                               .map(part -> part.getData() instanceof String value ? value : toJson(part.getData()))
+                               .collect(Collectors.joining());
+            if (text.startsWith(":")) {
+                events.add("comment");
+                return;
+            }
+            String name = field(text, "event:");
+            String id = field(text, "id:");
+            assertTrue(id.startsWith(EPOCH + "-"), id);
+            events.add(name + ":" + id.substring(EPOCH.length() + 1));
+            payloads.add(text);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        List<String> events() {
+            return events;
+        }
+
+        List<String> payloads() {
+            return payloads;
+        }
+
+        private static String field(String text, String prefix) {
+            int start = text.indexOf(prefix) + prefix.length();
+            return text.substring(start, text.indexOf('\n', start));
+        }
+
+        private static String toJson(Object value) {
+            try {
+                return Jackson2ObjectMapperBuilder.json().build().writeValueAsString(value);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
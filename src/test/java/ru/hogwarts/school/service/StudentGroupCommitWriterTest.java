@@ -0,0 +1,135 @@
+package ru.hogwarts.school.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import ru.hogwarts.school.dto.FacultyCreateDto;
+import ru.hogwarts.school.dto.StudentCreateDto;
+import ru.hogwarts.school.dto.StudentDto;
+import ru.hogwarts.school.exception.FacultyNotFoundException;
+import ru.hogwarts.school.outbox.OutboxDispatcher;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@TestPropertySource(properties = {
+        "app.student.group-commit.enabled=true",
+        "app.student.group-commit.max-batch-size=32",
+        "app.student.group-commit.max-delay-ms=50"
+})
+class StudentGroupCommitWriterTest {
+
+    private static final int CALLERS = 16;
+    private static final int STUDENT_AGE = 17;
+    private static final long MISSING_FACULTY_ID = 99_999L;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private FacultyService facultyService;
+
+    @Autowired
+    private StudentGroupCommitWriter studentGroupCommitWriter;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    // ========== POSITIVE TESTS ==========
+
+    @Test
+    @DisplayName("Positive. Should commit concurrent creates in fewer transactions with distinct IDs")
+    void createStudent_concurrentCallers_shouldShareTransactions() throws Exception {
+        // Given
+        Long facultyId = facultyService.createFaculty(new FacultyCreateDto("Gryffindor", "#AE0001")).id();
+
+        // When
+        List<StudentDto> created = createConcurrently(facultyId, null).stream()
+                                                                      .map(StudentGroupCommitWriterTest::join)
+                                                                      .toList();
+        outboxDispatcher.dispatch();
+
+        // Then
+        Set<Long> ids = new HashSet<>();
+        created.forEach(student -> ids.add(student.id()));
+        assertEquals(CALLERS, ids.size());
+        assertTrue(created.stream().allMatch(student -> facultyId.equals(student.facultyId())));
+        assertEquals(CALLERS, studentGroupCommitWriter.getRowCount());
+        assertTrue(studentGroupCommitWriter.getBatchCount() < CALLERS,
+                "Expected batching, got " + studentGroupCommitWriter.getBatchCount() + " batches");
+        assertEquals(CALLERS, facultyService.countFacultyStudents(facultyId));
+        assertEquals(created.get(0), studentService.findStudent(created.get(0).id()));
+    }
+
+    // ========== NEGATIVE TESTS ==========
+
+    @Test
+    @DisplayName("Negative. Should fail only the row referencing a missing Faculty")
+    void createStudent_missingFacultyInBatch_shouldFailOnlyThatRow() throws Exception {
+        // When
+        List<Future<StudentDto>> results = createConcurrently(null, MISSING_FACULTY_ID);
+
+        // Then
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> results.get(0).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(FacultyNotFoundException.class, failure.getCause());
+        for (Future<StudentDto> result : results.subList(1, results.size())) {
+            assertNotNull(join(result).id());
+        }
+        assertEquals(CALLERS - 1, studentGroupCommitWriter.getRowCount());
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private List<Future<StudentDto>> createConcurrently(Long facultyId, Long firstFacultyId) {
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<StudentDto>> results = new ArrayList<>(CALLERS);
+            for (int i = 0; i < CALLERS; i++) {
+                Long studentFacultyId = i == 0 && firstFacultyId != null ? firstFacultyId : facultyId;
+                StudentCreateDto request = new StudentCreateDto("Student " + i, STUDENT_AGE, studentFacultyId);
+                results.add(callers.submit(() -> {
+                    start.await();
+                    return studentService.createStudent(request);
+                }));
+            }
+            start.countDown();
+            for (Future<StudentDto> result : results) {
+                try {
+                    result.get(10, TimeUnit.SECONDS);
+                } catch (ExecutionException ignored) {
+                    // asserted by the caller
+                } catch (Exception e) {
+                    fail(e);
+                }
+            }
+            return results;
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private static StudentDto join(Future<StudentDto> result) {
+        try {
+            return result.get(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package ru.hogwarts.school.startup;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChecksumGuardedSpringLiquibaseTest {
+
+    private static final String CHANGELOG = "classpath:liquibase-guard/changelog.yml";
+    private static final String COUNT_CHANGESETS = "SELECT COUNT(*) FROM DATABASECHANGELOG";
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:guard-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // ========== POSITIVE TESTS ==========
+
+    @Test
+    @DisplayName("Positive. Should apply the changelog on first start and record its checksum")
+    void afterPropertiesSet_noMarker_shouldUpdateAndRecordChecksum() throws Exception {
+        // When
+        ChecksumGuardedSpringLiquibase liquibase = run();
+
+        // Then
+        assertFalse(liquibase.isSkipped());
+        assertEquals(2, jdbcTemplate.queryForObject(COUNT_CHANGESETS, Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM wands", Integer.class));
+        assertEquals(liquibase.changelogChecksum(), storedChecksum());
+    }
+
+    @Test
+    @DisplayName("Positive. Should skip the update while the changelog checksum matches the marker")
+    void afterPropertiesSet_unchangedChangelog_shouldSkip() throws Exception {
+        // Given
+        run();
+        jdbcTemplate.update("DELETE FROM DATABASECHANGELOG");
+
+        // When
+        ChecksumGuardedSpringLiquibase liquibase = run();
+
+        // Then
+        assertTrue(liquibase.isSkipped());
+        assertEquals(0, jdbcTemplate.queryForObject(COUNT_CHANGESETS, Integer.class));
+    }
+
+    @Test
+    @DisplayName("Positive. Should run the update again once the changelog checksum differs from the marker")
+    void afterPropertiesSet_changedChangelog_shouldUpdate() throws Exception {
+        // Given
+        ChecksumGuardedSpringLiquibase first = run();
+        jdbcTemplate.update("UPDATE startup_markers SET checksum = 'stale'");
+
+        // When
+        ChecksumGuardedSpringLiquibase liquibase = run();
+
+        // Then
+        assertFalse(liquibase.isSkipped());
+        assertEquals(first.changelogChecksum(), storedChecksum());
+    }
+
+    @Test
+    @DisplayName("Positive. Should update the marker when another instance inserted it first")
+    void storeChecksum_concurrentInsert_shouldUpdateExistingMarker() throws Exception {
+        // Given
+        run();
+        AtomicBoolean missedRow = new AtomicBoolean();
+        JdbcTemplate racingTemplate = new JdbcTemplate(dataSource) {
+            @Override
+            public int update(String sql, Object... args) {
+                // The first UPDATE runs before the other instance's INSERT becomes visible
+                if (sql.startsWith("UPDATE") && missedRow.compareAndSet(false, true)) {
+                    return 0;
+                }
+                return super.update(sql, args);
+            }
+        };
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        // When
+        ChecksumGuardedSpringLiquibase.storeChecksum(transactionTemplate, racingTemplate, "updated");
+
+        // Then
+        assertTrue(missedRow.get());
+        assertEquals("updated", storedChecksum());
+    }
+
+    // ========== NEGATIVE TESTS ==========
+
+    @Test
+    @DisplayName("Negative. Should neither update nor record a marker when Liquibase is disabled")
+    void afterPropertiesSet_disabled_shouldDoNothing() throws Exception {
+        // Given
+        ChecksumGuardedSpringLiquibase liquibase = newLiquibase();
+        liquibase.setShouldRun(false);
+
+        // When
+        liquibase.afterPropertiesSet();
+
+        // Then
+        assertFalse(liquibase.isSkipped());
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = 'STARTUP_MARKERS'", Integer.class));
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private ChecksumGuardedSpringLiquibase run() throws Exception {
+        ChecksumGuardedSpringLiquibase liquibase = newLiquibase();
+        liquibase.afterPropertiesSet();
+        return liquibase;
+    }
+
+    private ChecksumGuardedSpringLiquibase newLiquibase() {
+        ChecksumGuardedSpringLiquibase liquibase = new ChecksumGuardedSpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog(CHANGELOG);
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        return liquibase;
+    }
+
+    private String storedChecksum() {
+        return jdbcTemplate.queryForObject("SELECT checksum FROM startup_markers WHERE name = ?", String.class,
+                ChecksumGuardedSpringLiquibase.MARKER_NAME);
+    }
+}
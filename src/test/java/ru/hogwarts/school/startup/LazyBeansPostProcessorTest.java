@@ -0,0 +1,74 @@
+package ru.hogwarts.school.startup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@TestPropertySource(properties = {
+        "app.startup.lazy-packages=org.springdoc",
+        "app.startup.lazy-beans=analyticsController,analyticsService,analyticsComputePool,computeStrategyEngine"
+})
+class LazyBeansPostProcessorTest {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    // ========== POSITIVE TESTS ==========
+
+    @Test
+    @DisplayName("Positive. Should create lazy analytics beans on the first request instead of at startup")
+    void analyticsRequest_lazyBeans_shouldBeCreatedOnFirstUse() {
+        // Given
+        assertTrue(beanFactory.getBeanDefinition("analyticsService").isLazyInit());
+        assertFalse(beanFactory.containsSingleton("analyticsController"));
+        assertFalse(beanFactory.containsSingleton("analyticsComputePool"));
+
+        // When
+        ResponseEntity<String> response = restTemplate.getForEntity("/analytics/compute/pool", String.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(beanFactory.containsSingleton("analyticsController"));
+        assertTrue(beanFactory.containsSingleton("analyticsComputePool"));
+    }
+
+    @Test
+    @DisplayName("Positive. Should still serve the OpenAPI document from lazy springdoc beans")
+    void apiDocsRequest_lazySpringdoc_shouldServeDocument() {
+        // Given
+        assertFalse(beanFactory.containsSingleton("openApiResource"));
+
+        // When
+        ResponseEntity<String> response = restTemplate.getForEntity("/v3/api-docs", String.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertTrue(response.getBody().contains("/analytics/compute/pool"));
+    }
+
+    // ========== NEGATIVE TESTS ==========
+
+    @Test
+    @DisplayName("Negative. Should leave beans that are not listed eager")
+    void startup_unlistedBeans_shouldStayEager() {
+        // Then
+        assertFalse(beanFactory.getBeanDefinition("facultyService").isLazyInit());
+        assertTrue(beanFactory.containsSingleton("facultyService"));
+        assertTrue(beanFactory.containsSingleton("lazyBeansPostProcessor"));
+    }
+}
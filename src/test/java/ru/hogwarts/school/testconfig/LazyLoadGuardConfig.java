@@ -0,0 +1,54 @@
+package ru.hogwarts.school.testconfig;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Fails any lazy proxy or collection initialization that happens outside a Spring-managed transaction,
+ * so a missing fetch plan surfaces as a failing test instead of a silent extra query.
+ */
+@TestConfiguration
+public class LazyLoadGuardConfig {
+
+    @Bean
+    public LazyLoadGuard lazyLoadGuard(EntityManagerFactory entityManagerFactory) {
+        LazyLoadGuard guard = new LazyLoadGuard();
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                                                             .getServiceRegistry()
+                                                             .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.INIT_COLLECTION, guard);
+        registry.appendListeners(EventType.LOAD, guard);
+        return guard;
+    }
+
+    public static class LazyLoadGuard implements InitializeCollectionEventListener, LoadEventListener {
+
+        @Override
+        public void onInitializeCollection(InitializeCollectionEvent event) throws HibernateException {
+            verifyTransaction("collection " + event.getCollection().getRole());
+        }
+
+        @Override
+        public void onLoad(LoadEvent event, LoadType loadType) throws HibernateException {
+            if (loadType == LoadEventListener.IMMEDIATE_LOAD) {
+                verifyTransaction("proxy " + event.getEntityClassName() + "#" + event.getEntityId());
+            }
+        }
+
+        private void verifyTransaction(String target) {
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                throw new IllegalStateException("Lazy initialization of " + target + " outside a transaction");
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package ru.hogwarts.school.testconfig;
+
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ru.hogwarts.school.config.QueryMetricsResponseAdvice.LAZY_LOAD_COUNT_HEADER;
+import static ru.hogwarts.school.config.QueryMetricsResponseAdvice.QUERY_COUNT_HEADER;
+
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static void assertQueryBudget(ResponseEntity<?> response, int maxQueries) {
+        String queryCount = response.getHeaders().getFirst(QUERY_COUNT_HEADER);
+        assertNotNull(queryCount, "Response should carry " + QUERY_COUNT_HEADER);
+        assertTrue(Integer.parseInt(queryCount) <= maxQueries,
+                "Expected at most " + maxQueries + " SQL statements but was " + queryCount);
+        assertEquals("0", response.getHeaders().getFirst(LAZY_LOAD_COUNT_HEADER),
+                "Response should not trigger lazy loading");
+    }
+}
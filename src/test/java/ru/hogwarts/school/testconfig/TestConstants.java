@@ -17,12 +17,23 @@ public class TestConstants {
         public static final int TOO_YOUNG_AGE = 10;
     }
 
+    // ========== RESPONSE CACHE CONSTANTS ==========
+    public static class CacheConst {
+        public static final String HEADER = "X-Cache";
+        public static final String HIT = "HIT";
+        public static final String MISS = "MISS";
+    }
+
     // ========== FACULTY TEST CONSTANTS ==========
     public static class FacultyConst {
         public static final String ENDPOINT = "/faculty";
         public static final String COLOR_ENDPOINT = "/color";
         public static final String SEARCH_ENDPOINT = "/search";
         public static final String STUDENTS_ENDPOINT = "/students";
+        public static final String COUNT_ENDPOINT = "/count";
+        public static final String ROSTER_REBUILD_ENDPOINT = "/roster/rebuild";
+        public static final String ROSTER_CONSISTENCY_ENDPOINT = "/roster/consistency";
+        public static final String LOOKUP_ENDPOINT = "/lookup";
 
         public static final String TEST_NAME = "Gryffindor House";
         public static final String TEST_COLOR = "#B22222";
@@ -45,10 +56,19 @@ public class TestConstants {
         public static final String AGE_ENDPOINT = "/age";
         public static final String AGE_BETWEEN_ENDPOINT = "/age-between";
         public static final String FACULTY_ENDPOINT = "/faculty";
+        public static final String SEARCH_ENDPOINT = "/search";
+        public static final String COUNT_ENDPOINT = "/count";
+        public static final String COUNT_ESTIMATE_ENDPOINT = "/count/estimate";
+        public static final String BULK_TRANSFER_ENDPOINT = "/bulk/transfer";
+        public static final String BULK_UPDATE_ENDPOINT = "/bulk/update";
+        public static final String LOOKUP_ENDPOINT = "/lookup";
 
         public static final String TEST_NAME = "Harry James Potter";
         public static final String UPDATED_NAME = "Harry James Potter Updated";
         public static final String NON_EXISTENT_NAME = "Non-Existent Student";
+        public static final String SEARCH_OTHER_NAME = "Ronald Bilius Weasley";
+        public static final String CYRILLIC_NAME = "Гермиона Грейнджер";
+        public static final String CYRILLIC_NAME_LATIN_QUERY = "Germiona";
 
         public static final int TEST_AGE = 17;
         public static final int UPDATED_AGE = 18;
@@ -63,4 +83,29 @@ public class TestConstants {
         public static final Long EXISTING_FACULTY_ID = 1L;
         public static final Long NON_EXISTENT_FACULTY_ID = 99999L;
     }
-}
\ No newline at end of file
+
+    // ========== AVATAR TEST CONSTANTS ==========
+    public static class AvatarConst {
+        public static final String ENDPOINT = "/avatar";
+        public static final String UPLOAD_ENDPOINT = "/upload";
+        public static final String PREVIEW_INFO_ENDPOINT = "/preview-info";
+        public static final String FULL_ENDPOINT = "/full";
+
+        public static final String TEST_DIR = "target/test-avatars";
+        public static final String SQL_LOGGER = "org.hibernate.SQL";
+        public static final String DATA_COLUMN = ".data";
+        public static final String TEST_FILE_NAME = "avatar.png";
+        public static final String TEST_MEDIA_TYPE = "image/png";
+        public static final int TEST_IMAGE_SIZE = 400;
+    }
+
+    // ========== BATCH TEST CONSTANTS ==========
+    public static class BatchConst {
+        public static final String ENDPOINT = "/batch";
+    }
+
+    // ========== CHANGE FEED TEST CONSTANTS ==========
+    public static class ChangeConst {
+        public static final String ENDPOINT = "/changes";
+    }
+}
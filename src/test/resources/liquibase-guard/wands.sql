@@ -0,0 +1,14 @@
+-- liquibase formatted sql
+
+-- changeset hogwarts_test:1
+CREATE TABLE startup_markers (
+    name       VARCHAR(64)              PRIMARY KEY,
+    checksum   VARCHAR(64)              NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- changeset hogwarts_test:2
+CREATE TABLE wands (
+    id   BIGINT      PRIMARY KEY,
+    wood VARCHAR(64) NOT NULL
+);